@@ -0,0 +1,66 @@
+package de.caritas.cob.userservice.api.adapters.keycloak;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Looks up whether an email address is already used by a Keycloak user. Keycloak is queried for
+ * the exact address only, and recent results are kept for a short time, so concurrent
+ * registrations and email changes do not have to wait for each other.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeycloakEmailLookup {
+
+  private final @NonNull KeycloakClient keycloakClient;
+
+  @Value("${identity.email-lookup-cache.ttl-seconds}")
+  private long cacheTtlSeconds;
+
+  @Value("${identity.email-lookup-cache.max-entries}")
+  private long cacheMaxEntries;
+
+  private Cache<String, Boolean> emailTakenCache;
+
+  @PostConstruct
+  public void buildCache() {
+    emailTakenCache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheMaxEntries)
+            .expireAfterWrite(Duration.ofSeconds(Math.max(cacheTtlSeconds, 0)))
+            .build();
+  }
+
+  /**
+   * Returns true if a Keycloak user with exactly the given email address exists.
+   *
+   * @param email the email address
+   * @return true if the email address is already taken, else false
+   */
+  public boolean isEmailTaken(@NonNull String email) {
+    return emailTakenCache.get(email, this::searchEmail);
+  }
+
+  /**
+   * Removes cached lookup results of the given email addresses, e.g. after they have been assigned
+   * to or removed from a user.
+   *
+   * @param emails the email addresses
+   */
+  public void evict(String... emails) {
+    Stream.of(emails).filter(Objects::nonNull).forEach(emailTakenCache::invalidate);
+  }
+
+  private boolean searchEmail(String email) {
+    return keycloakClient.getUsersResource().searchByEmail(email, true).stream()
+        .anyMatch(userRepresentation -> email.equals(userRepresentation.getEmail()));
+  }
+}
@@ -0,0 +1,89 @@
+package de.caritas.cob.userservice.api.adapters.keycloak;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the realm role names of Keycloak users for a short time, so repeated role and authority
+ * checks of the same users do not query Keycloak each time.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeycloakRoleCache {
+
+  private final @NonNull KeycloakClient keycloakClient;
+
+  @Value("${identity.role-cache.ttl-seconds}")
+  private long cacheTtlSeconds;
+
+  @Value("${identity.role-cache.max-entries}")
+  private long cacheMaxEntries;
+
+  private Cache<String, Set<String>> roleNamesCache;
+
+  @PostConstruct
+  public void buildCache() {
+    roleNamesCache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheMaxEntries)
+            .expireAfterWrite(Duration.ofSeconds(Math.max(cacheTtlSeconds, 0)))
+            .build();
+  }
+
+  /**
+   * Returns the realm role names of the given user.
+   *
+   * @param userId Keycloak user ID
+   * @return the realm role names
+   */
+  public Set<String> getRoleNames(@NonNull String userId) {
+    return roleNamesCache.get(userId, this::loadRoleNames);
+  }
+
+  /**
+   * Returns the realm role names of all given users. Only users without cached roles are looked up
+   * in Keycloak, each of them once.
+   *
+   * @param userIds Keycloak user IDs
+   * @return the realm role names by user ID
+   */
+  public Map<String, Set<String>> getRoleNames(@NonNull Collection<String> userIds) {
+    return roleNamesCache.getAll(Set.copyOf(userIds), this::loadAllRoleNames);
+  }
+
+  /**
+   * Removes the cached roles of the given user, e.g. after a role has been assigned or removed.
+   *
+   * @param userId Keycloak user ID
+   */
+  public void evict(String userId) {
+    roleNamesCache.invalidate(userId);
+  }
+
+  private Map<String, Set<String>> loadAllRoleNames(Set<? extends String> userIds) {
+    return userIds.stream().collect(Collectors.toMap(Function.identity(), this::loadRoleNames));
+  }
+
+  private Set<String> loadRoleNames(String userId) {
+    List<RoleRepresentation> roles =
+        keycloakClient.getUsersResource().get(userId).roles().realmLevel().listAll();
+    return roles.stream()
+        .map(RoleRepresentation::getName)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+}
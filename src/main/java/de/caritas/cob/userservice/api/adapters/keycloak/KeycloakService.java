@@ -27,18 +27,20 @@ import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.core.Response;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.admin.client.resource.UsersResource;
@@ -86,6 +88,8 @@ public class KeycloakService implements IdentityClient {
   private final @NonNull KeycloakClient keycloakClient;
   private final @NonNull KeycloakMapper keycloakMapper;
   private final @NonNull UserHelper userHelper;
+  private final @NonNull KeycloakEmailLookup keycloakEmailLookup;
+  private final @NonNull KeycloakRoleCache keycloakRoleCache;
 
   private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
 
@@ -247,8 +251,10 @@ public class KeycloakService implements IdentityClient {
     var usersResource = keycloakClient.getUsersResource();
     var userRepresentation = usersResource.search(username).get(0);
     if (!lowerEmailAddress.equals(userRepresentation.getEmail())) {
+      var previousEmailAddress = userRepresentation.getEmail();
       userRepresentation.setEmail(lowerEmailAddress);
       usersResource.get(userRepresentation.getId()).update(userRepresentation);
+      keycloakEmailLookup.evict(previousEmailAddress, lowerEmailAddress);
     }
   }
 
@@ -354,6 +360,7 @@ public class KeycloakService implements IdentityClient {
     var kcUser = getUserRepresentation(user, firstName, lastName, locale);
     try (var response = keycloakClient.getUsersResource().create(kcUser)) {
       if (response.getStatus() == HttpStatus.CREATED.value()) {
+        keycloakEmailLookup.evict(kcUser.getEmail());
         return new KeycloakCreateUserResponseDTO(getCreatedUserId(response.getLocation()));
       }
       handleCreateKeycloakUserError(response);
@@ -395,10 +402,8 @@ public class KeycloakService implements IdentityClient {
         || user.getUsername().equalsIgnoreCase(usernameTranscoder.encodeUsername(username));
   }
 
-  @Synchronized
   private boolean isEmailNotAvailable(String email) {
-    return keycloakClient.getUsersResource().search(email, 0, Integer.MAX_VALUE).stream()
-        .anyMatch(userRepresentation -> userRepresentation.getEmail().equals(email));
+    return keycloakEmailLookup.isEmailTaken(email);
   }
 
   private CredentialRepresentation getCredentialRepresentation(final String password) {
@@ -470,6 +475,7 @@ public class KeycloakService implements IdentityClient {
   }
 
   public void ensureRole(final String userId, final String roleName) {
+    keycloakRoleCache.evict(userId);
     if (!userHasRole(userId, roleName)) {
       updateRole(userId, roleName);
     }
@@ -498,6 +504,7 @@ public class KeycloakService implements IdentityClient {
           realmResource.roles().get(optionalRole.get()).toRepresentation();
       if (roleRepresentation != null) {
         user.roles().realmLevel().remove(Collections.singletonList(roleRepresentation));
+        keycloakRoleCache.evict(userId);
       }
     }
   }
@@ -533,6 +540,7 @@ public class KeycloakService implements IdentityClient {
       roleRepresentation.setAttributes(new LinkedHashMap<>());
     }
     user.roles().realmLevel().add(Collections.singletonList(roleRepresentation));
+    keycloakRoleCache.evict(userId);
 
     // Check if role has been assigned successfully
     List<RoleRepresentation> userRoles = user.roles().realmLevel().listAll();
@@ -601,20 +609,28 @@ public class KeycloakService implements IdentityClient {
   public void updateUserData(
       final String userId, UserDTO userDTO, String firstName, String lastName) {
     var userResource = keycloakClient.getUsersResource().get(userId);
-    verifyEmail(userResource, userDTO.getEmail());
+    var previousEmailAddress = verifyEmail(userResource, userDTO.getEmail());
     userResource.update(getUserRepresentation(userDTO, firstName, lastName));
+    keycloakEmailLookup.evict(previousEmailAddress, userDTO.getEmail());
   }
 
-  private void verifyEmail(UserResource userResource, String email) {
-    if (hasEmailAddressChanged(userResource, email) && isEmailNotAvailable(email)) {
+  /**
+   * Verifies that the email address is still available if it differs from the current one.
+   *
+   * @return the current email address of the user
+   */
+  private String verifyEmail(UserResource userResource, String email) {
+    UserRepresentation userRepresentation = userResource.toRepresentation();
+    var currentEmail = nonNull(userRepresentation) ? userRepresentation.getEmail() : null;
+    if (hasEmailAddressChanged(currentEmail, email) && isEmailNotAvailable(email)) {
       throw new CustomValidationHttpStatusException(EMAIL_NOT_AVAILABLE, HttpStatus.CONFLICT);
     }
+    return currentEmail;
   }
 
-  private boolean hasEmailAddressChanged(UserResource userResource, String email) {
-    UserRepresentation userRepresentation = userResource.toRepresentation();
-    if (userRepresentation != null && userRepresentation.getEmail() != null) {
-      return !userRepresentation.getEmail().equals(email);
+  private boolean hasEmailAddressChanged(String currentEmail, String email) {
+    if (currentEmail != null) {
+      return !currentEmail.equals(email);
     } else {
       return !ObjectUtils.isEmpty(email);
     }
@@ -628,10 +644,11 @@ public class KeycloakService implements IdentityClient {
    */
   public void updateEmail(String userId, String emailAddress) {
     var userResource = keycloakClient.getUsersResource().get(userId);
-    verifyEmail(userResource, emailAddress);
+    var previousEmailAddress = verifyEmail(userResource, emailAddress);
     UserRepresentation representation = userResource.toRepresentation();
     representation.setEmail(emailAddress);
     userResource.update(representation);
+    keycloakEmailLookup.evict(previousEmailAddress, emailAddress);
   }
 
   /**
@@ -666,11 +683,7 @@ public class KeycloakService implements IdentityClient {
    */
   public boolean userHasAuthority(String userId, String authority) {
     try {
-      return getUserRoles(userId).stream()
-          .map(role -> UserRole.getRoleByValue(role.getName()))
-          .flatMap(Optional::stream)
-          .map(Authority::getAuthoritiesByUserRole)
-          .anyMatch(currentAuthority -> currentAuthority.contains(authority));
+      return grantsAuthority(keycloakRoleCache.getRoleNames(userId), authority);
     } catch (Exception ex) {
       var error = "Could not get roles for user id %s".formatted(userId);
       log.error("Keycloak error: " + error, ex);
@@ -687,8 +700,8 @@ public class KeycloakService implements IdentityClient {
    */
   public boolean userHasRole(String userId, String userRole) {
     try {
-      return getUserRoles(userId).stream()
-          .map(this::toUserRole)
+      return keycloakRoleCache.getRoleNames(userId).stream()
+          .map(UserRole::getRoleByValue)
           .flatMap(Optional::stream)
           .map(UserRole::getValue)
           .anyMatch(userRole::equals);
@@ -699,12 +712,52 @@ public class KeycloakService implements IdentityClient {
     }
   }
 
-  private Optional<UserRole> toUserRole(RoleRepresentation roleRepresentation) {
-    return UserRole.getRoleByValue(roleRepresentation.getName());
+  /**
+   * Loads the roles of all given users at once, so following role and authority checks of these
+   * users are answered without further Keycloak requests.
+   *
+   * @param userIds Keycloak user IDs
+   */
+  @Override
+  public void prefetchRoles(Collection<String> userIds) {
+    try {
+      keycloakRoleCache.getRoleNames(userIds);
+    } catch (Exception ex) {
+      log.warn("Keycloak error: Could not prefetch roles of {} users", userIds.size(), ex);
+    }
+  }
+
+  /**
+   * Returns the IDs of those given users which have the provided authority. The roles of all users
+   * are resolved at once.
+   *
+   * @param userIds Keycloak user IDs
+   * @param authority Keycloak authority
+   * @return the IDs of the users with the provided authority
+   */
+  @Override
+  public Set<String> filterUsersWithAuthority(Collection<String> userIds, String authority) {
+    if (userIds.isEmpty()) {
+      return Set.of();
+    }
+    try {
+      return keycloakRoleCache.getRoleNames(userIds).entrySet().stream()
+          .filter(userRoles -> grantsAuthority(userRoles.getValue(), authority))
+          .map(Map.Entry::getKey)
+          .collect(Collectors.toSet());
+    } catch (Exception ex) {
+      var error = "Could not get roles for %s users".formatted(userIds.size());
+      log.error("Keycloak error: " + error, ex);
+      throw new KeycloakException(error);
+    }
   }
 
-  private List<RoleRepresentation> getUserRoles(String userId) {
-    return keycloakClient.getUsersResource().get(userId).roles().realmLevel().listAll();
+  private static boolean grantsAuthority(Set<String> roleNames, String authority) {
+    return roleNames.stream()
+        .map(UserRole::getRoleByValue)
+        .flatMap(Optional::stream)
+        .map(Authority::getAuthoritiesByUserRole)
+        .anyMatch(currentAuthority -> currentAuthority.contains(authority));
   }
 
   /**
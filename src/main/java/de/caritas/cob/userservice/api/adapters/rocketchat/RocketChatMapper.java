@@ -191,4 +191,12 @@ public class RocketChatMapper {
         .map(PresenceOtherDTO::getId)
         .collect(Collectors.toSet());
   }
+
+  public Map<String, PresenceStatus> mapPresencesOf(PresenceListDTO presenceList) {
+    return presenceList.getUsers().stream()
+        .filter(presence -> nonNull(presence.getId()) && nonNull(presence.getStatus()))
+        .collect(
+            Collectors.toMap(
+                PresenceOtherDTO::getId, PresenceOtherDTO::getStatus, (first, second) -> second));
+  }
 }
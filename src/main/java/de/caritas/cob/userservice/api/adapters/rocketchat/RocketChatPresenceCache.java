@@ -0,0 +1,147 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO.PresenceStatus;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Keeps a snapshot of the presence of all connected Rocket.Chat users, which is refreshed in the
+ * background with one bulk call. Presence lookups are answered from the snapshot as long as it is
+ * not older than the configured staleness bound, otherwise callers have to ask Rocket.Chat.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RocketChatPresenceCache {
+
+  private static final String ENDPOINT_USER_PRESENCE_LIST = "/users.presence";
+  private static final String SNAPSHOT_AGE_GAUGE = "userservice.rocketchat.presence.snapshot.age";
+
+  private final @NonNull RocketChatClient rocketChatClient;
+  private final @NonNull RocketChatConfig rocketChatConfig;
+  private final @NonNull RocketChatMapper mapper;
+  private final @NonNull MeterRegistry meterRegistry;
+  private final @NonNull Clock clock;
+
+  @Value("${rocket-chat.presence-cache.enabled}")
+  private boolean enabled;
+
+  @Value("${rocket-chat.presence-cache.max-staleness-seconds}")
+  private long maxStalenessSeconds;
+
+  private volatile PresenceSnapshot snapshot;
+
+  @PostConstruct
+  public void registerSnapshotAgeGauge() {
+    if (enabled) {
+      Gauge.builder(SNAPSHOT_AGE_GAUGE, this, RocketChatPresenceCache::snapshotAgeInSeconds)
+          .description("Age of the snapshot of the Rocket.Chat user presences")
+          .baseUnit("seconds")
+          .register(meterRegistry);
+    }
+  }
+
+  /** Replaces the snapshot with the current presences of all connected Rocket.Chat users. */
+  @Scheduled(
+      fixedDelayString = "${rocket-chat.presence-cache.refresh-interval-millis}",
+      initialDelayString = "${rocket-chat.presence-cache.refresh-interval-millis}")
+  public void refresh() {
+    if (!enabled) {
+      return;
+    }
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_LIST);
+    try {
+      var presenceList = rocketChatClient.getForEntity(url, PresenceListDTO.class).getBody();
+      if (isNull(presenceList) || isNull(presenceList.getUsers())) {
+        log.warn("Presence snapshot refresh inconclusive, keeping the previous snapshot");
+      } else {
+        snapshot = new PresenceSnapshot(mapper.mapPresencesOf(presenceList), clock.instant());
+      }
+    } catch (RestClientException exception) {
+      log.warn("Presence snapshot refresh failed, keeping the previous snapshot", exception);
+    }
+  }
+
+  /**
+   * Returns if the user is online according to the snapshot.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return the availability, or empty if no sufficiently recent snapshot exists
+   */
+  public Optional<Boolean> isAvailable(String chatUserId) {
+    return currentSnapshot()
+        .map(presences -> presences.statusOf(chatUserId))
+        .map(PresenceStatus.ONLINE::equals);
+  }
+
+  /**
+   * Returns if the user is connected with any status other than offline according to the
+   * snapshot.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return the login state, or empty if no sufficiently recent snapshot exists
+   */
+  public Optional<Boolean> isLoggedIn(String chatUserId) {
+    return currentSnapshot()
+        .map(presences -> presences.statusOf(chatUserId))
+        .map(status -> !PresenceStatus.OFFLINE.equals(status));
+  }
+
+  /**
+   * Returns the ids of all online users according to the snapshot.
+   *
+   * @return a modifiable set of user ids, or empty if no sufficiently recent snapshot exists
+   */
+  public Optional<Set<String>> findAllAvailableUserIds() {
+    return currentSnapshot()
+        .map(
+            presences ->
+                presences.statuses().entrySet().stream()
+                    .filter(presence -> PresenceStatus.ONLINE.equals(presence.getValue()))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet()));
+  }
+
+  private Optional<PresenceSnapshot> currentSnapshot() {
+    var currentSnapshot = snapshot;
+    if (!enabled || isNull(currentSnapshot)) {
+      return Optional.empty();
+    }
+    var age = Duration.between(currentSnapshot.fetchedAt(), clock.instant());
+    return age.getSeconds() > maxStalenessSeconds ? Optional.empty() : Optional.of(currentSnapshot);
+  }
+
+  private double snapshotAgeInSeconds() {
+    var currentSnapshot = snapshot;
+    return isNull(currentSnapshot)
+        ? Double.NaN
+        : Duration.between(currentSnapshot.fetchedAt(), clock.instant()).toMillis() / 1000d;
+  }
+
+  private record PresenceSnapshot(Map<String, PresenceStatus> statuses, Instant fetchedAt) {
+
+    /** Users missing in the presence list are not connected. */
+    PresenceStatus statusOf(String chatUserId) {
+      return statuses.getOrDefault(chatUserId, PresenceStatus.OFFLINE);
+    }
+  }
+}
@@ -57,7 +57,9 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInit
 import de.caritas.cob.userservice.api.port.out.MessageClient;
 import de.caritas.cob.userservice.api.service.LogService;
 import jakarta.annotation.PostConstruct;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -152,6 +154,8 @@ public class RocketChatService implements MessageClient {
 
   private final RocketChatCredentials rocketChatCredentials;
 
+  private final RocketChatPresenceCache presenceCache;
+
   private boolean rotatingTokensInitialized = false;
 
   @PostConstruct
@@ -233,6 +237,10 @@ public class RocketChatService implements MessageClient {
 
   @Override
   public Set<String> findAllAvailableUserIds() {
+    var cachedUserIds = presenceCache.findAllAvailableUserIds();
+    if (cachedUserIds.isPresent()) {
+      return cachedUserIds.get();
+    }
     var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_LIST);
 
     try {
@@ -251,13 +259,22 @@ public class RocketChatService implements MessageClient {
 
   @Override
   public Optional<Boolean> isLoggedIn(String chatUserId) {
-    return getUserPresence(chatUserId).flatMap(presenceDTO -> Optional.of(presenceDTO.isPresent()));
+    return presenceCache
+        .isLoggedIn(chatUserId)
+        .or(
+            () ->
+                getUserPresence(chatUserId)
+                    .flatMap(presenceDTO -> Optional.of(presenceDTO.isPresent())));
   }
 
   @Override
   public Optional<Boolean> isAvailable(String chatUserId) {
-    return getUserPresence(chatUserId)
-        .flatMap(presenceDTO -> Optional.of(presenceDTO.isAvailable()));
+    return presenceCache
+        .isAvailable(chatUserId)
+        .or(
+            () ->
+                getUserPresence(chatUserId)
+                    .flatMap(presenceDTO -> Optional.of(presenceDTO.isAvailable())));
   }
 
   private Optional<PresenceDTO> getUserPresence(String chatUserId) {
@@ -908,6 +925,26 @@ public class RocketChatService implements MessageClient {
    */
   public List<SubscriptionsUpdateDTO> getSubscriptionsOfUser(
       RocketChatCredentials rocketChatCredentials) {
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
+    return asList(fetchSubscriptionsOfUser(rocketChatCredentials, url).getUpdate());
+  }
+
+  /**
+   * Returns the subscriptions of the given user id which were updated or removed since the given
+   * date.
+   *
+   * @param rocketChatCredentials {@link RocketChatCredentials}
+   * @param updatedSince the date since when changes should be returned
+   * @return the {@link SubscriptionsGetDTO} containing updated and removed subscriptions
+   */
+  public SubscriptionsGetDTO getSubscriptionsOfUserUpdatedSince(
+      RocketChatCredentials rocketChatCredentials, Instant updatedSince) {
+    var url = buildUpdatedSinceUrl(ENDPOINT_SUBSCRIPTION_GET, updatedSince);
+    return fetchSubscriptionsOfUser(rocketChatCredentials, url);
+  }
+
+  private SubscriptionsGetDTO fetchSubscriptionsOfUser(
+      RocketChatCredentials rocketChatCredentials, String url) {
 
     ResponseEntity<SubscriptionsGetDTO> response;
 
@@ -915,7 +952,6 @@ public class RocketChatService implements MessageClient {
       var header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
 
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
       response = restTemplate.exchange(url, HttpMethod.GET, request, SubscriptionsGetDTO.class);
 
     } catch (HttpStatusCodeException ex) {
@@ -926,13 +962,24 @@ public class RocketChatService implements MessageClient {
     }
 
     if (response.getStatusCode() == HttpStatus.OK && nonNull(response.getBody())) {
-      return asList(response.getBody().getUpdate());
+      return response.getBody();
     } else {
       var error = "Could not get Rocket.Chat subscriptions for user id %s";
       throw new InternalServerErrorException(error, LogService::logRocketChatError);
     }
   }
 
+  private String buildUpdatedSinceUrl(String endpoint, Instant updatedSince) {
+    return UriComponentsBuilder.fromUriString(rocketChatConfig.getApiUrl(endpoint))
+        .queryParam(
+            "updatedSince",
+            DateTimeFormatter.ofPattern(RC_DATE_TIME_PATTERN)
+                .withZone(ZoneOffset.UTC)
+                .format(updatedSince))
+        .build()
+        .toUriString();
+  }
+
   @Override
   public Optional<List<Map<String, String>>> findAllChats(String chatUserId) {
     var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
@@ -968,13 +1015,30 @@ public class RocketChatService implements MessageClient {
    * @return the rooms for the user
    */
   public List<RoomsUpdateDTO> getRoomsOfUser(RocketChatCredentials rocketChatCredentials) {
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_ROOM_GET);
+    return asList(fetchRoomsOfUser(rocketChatCredentials, url).getUpdate());
+  }
+
+  /**
+   * Returns the rooms of the given user id which were updated or removed since the given date.
+   *
+   * @param rocketChatCredentials {@link RocketChatCredentials}
+   * @param updatedSince the date since when changes should be returned
+   * @return the {@link RoomsGetDTO} containing updated and removed rooms
+   */
+  public RoomsGetDTO getRoomsOfUserUpdatedSince(
+      RocketChatCredentials rocketChatCredentials, Instant updatedSince) {
+    var url = buildUpdatedSinceUrl(ENDPOINT_ROOM_GET, updatedSince);
+    return fetchRoomsOfUser(rocketChatCredentials, url);
+  }
+
+  private RoomsGetDTO fetchRoomsOfUser(RocketChatCredentials rocketChatCredentials, String url) {
 
     ResponseEntity<RoomsGetDTO> response;
 
     try {
       var header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_ROOM_GET);
       response = restTemplate.exchange(url, HttpMethod.GET, request, RoomsGetDTO.class);
 
     } catch (Exception ex) {
@@ -985,7 +1049,7 @@ public class RocketChatService implements MessageClient {
     }
 
     if (response.getStatusCode() == HttpStatus.OK && nonNull(response.getBody())) {
-      return asList(response.getBody().getUpdate());
+      return response.getBody();
     } else {
       var error =
           String.format(CHAT_ROOM_ERROR_MESSAGE, rocketChatCredentials.getRocketChatUserId());
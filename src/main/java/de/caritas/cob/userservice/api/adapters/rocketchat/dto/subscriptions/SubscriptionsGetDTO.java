@@ -13,6 +13,7 @@ import lombok.Setter;
 public class SubscriptionsGetDTO {
 
   private SubscriptionsUpdateDTO[] update;
+  private SubscriptionsUpdateDTO[] remove;
   private boolean success;
   private String status;
   private String message;
@@ -29,6 +29,7 @@ import de.caritas.cob.userservice.api.admin.facade.AdminUserFacade;
 import de.caritas.cob.userservice.api.admin.facade.AskerUserAdminFacade;
 import de.caritas.cob.userservice.api.admin.facade.ConsultantAdminFacade;
 import de.caritas.cob.userservice.api.admin.hallink.RootDTOBuilder;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportFormat;
 import de.caritas.cob.userservice.api.admin.report.service.ViolationReportGenerator;
 import de.caritas.cob.userservice.api.admin.service.session.SessionAdminService;
 import de.caritas.cob.userservice.api.service.appointment.AppointmentService;
@@ -44,6 +45,10 @@ import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -119,6 +124,26 @@ public class UserAdminController implements UseradminApi {
     return ResponseEntity.ok(this.violationReportGenerator.generateReport());
   }
 
+  /**
+   * GET /useradmin/report/file : Generates a report containing data integration violations and
+   * streams the written report file back. [Authorization: Role: user-admin].
+   *
+   * @param format the report format, json or ndjson
+   * @return the report file
+   */
+  @Override
+  public ResponseEntity<Resource> downloadViolationReport(String format) {
+    var reportFormat = ViolationReportFormat.valueOf(format.toUpperCase());
+    var reportPath = this.violationReportGenerator.generateReportFile(reportFormat);
+    var contentDisposition =
+        ContentDisposition.attachment().filename(reportPath.getFileName().toString()).build();
+
+    return ResponseEntity.ok()
+        .contentType(reportFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+        .body(new FileSystemResource(reportPath));
+  }
+
   /**
    * Entry point to create a new consultant [Authorization: Role: user-admin].
    *
@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.adapters.web.controller;
 
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -569,7 +570,8 @@ public class UserController implements UsersApi {
 
   /**
    * Returns a list of sessions for the currently authenticated consultant depending on the
-   * submitted sessionStatus.
+   * submitted sessionStatus. Clients accepting application/x-ndjson receive the sessions as
+   * newline delimited JSON.
    *
    * @param rcToken Rocket.Chat token (required)
    * @param offset Number of items where to start in the query (0 = first item) (required)
@@ -605,14 +607,14 @@ public class UserController implements UsersApi {
               consultant, sessionListQueryParameter);
     }
 
-    return nonNull(consultantSessionListResponseDTO)
-            && isNotEmpty(consultantSessionListResponseDTO.getSessions())
+    return hasSessions(consultantSessionListResponseDTO)
         ? new ResponseEntity<>(consultantSessionListResponseDTO, HttpStatus.OK)
         : new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
 
   /**
-   * Returns a list of team consulting sessions for the currently authenticated consultant.
+   * Returns a list of team consulting sessions for the currently authenticated consultant. Clients
+   * accepting application/x-ndjson receive the sessions as newline delimited JSON.
    *
    * @param rcToken Rocket.Chat token (required)
    * @param offset Number of items where to start in the query (0 = first item) (required)
@@ -642,11 +644,24 @@ public class UserController implements UsersApi {
               consultant, rcToken, sessionListQueryParameter);
     }
 
-    return nonNull(teamSessionListDTO) && isNotEmpty(teamSessionListDTO.getSessions())
+    return hasSessions(teamSessionListDTO)
         ? new ResponseEntity<>(teamSessionListDTO, HttpStatus.OK)
         : new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
 
+  /**
+   * Checks the count of the session list if available, so the sessions of a lazily enriched page
+   * are not enriched before they are written.
+   */
+  private boolean hasSessions(ConsultantSessionListResponseDTO sessionList) {
+    if (isNull(sessionList)) {
+      return false;
+    }
+    return nonNull(sessionList.getCount())
+        ? sessionList.getCount() > 0
+        : isNotEmpty(sessionList.getSessions());
+  }
+
   /**
    * Imports a file list of consultants. Technical user authorization required.
    *
@@ -698,6 +713,7 @@ public class UserController implements UsersApi {
   public ResponseEntity<Void> sendNewMessageNotification(
       @RequestBody NewMessageNotificationDTO newMessageNotificationDTO) {
 
+    sessionService.updateLastMessageDate(newMessageNotificationDTO.getRcGroupId(), nowInUtc());
     emailNotificationFacade.sendNewMessageNotification(
         newMessageNotificationDTO.getRcGroupId(),
         authenticatedUser.getRoles(),
@@ -17,8 +17,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class CorrelationIdFilter extends OncePerRequestFilter {
 
-  private static final String HEADER_NAME = "X-Correlation-ID";
-  private static final String MDC_NAME = "CID";
+  public static final String HEADER_NAME = "X-Correlation-ID";
+  public static final String MDC_NAME = "CID";
 
   @Override
   @SuppressWarnings("NullableProblems")
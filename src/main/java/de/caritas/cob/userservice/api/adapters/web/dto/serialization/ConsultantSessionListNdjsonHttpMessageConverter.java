@@ -0,0 +1,100 @@
+package de.caritas.cob.userservice.api.adapters.web.dto.serialization;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.service.sessionlist.LazyConsultantSessionListResponseDTO;
+import java.io.IOException;
+import lombok.NonNull;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes a {@link ConsultantSessionListResponseDTO} as newline delimited JSON, if a client requests
+ * the session list with {@code Accept: application/x-ndjson}. Every line contains one {@link
+ * ConsultantSessionResponseDTO}, the paging information is provided as response headers. The
+ * sessions of a {@link LazyConsultantSessionListResponseDTO} are enriched before the first line is
+ * written, so a failing enrichment is reported with an error status instead of a truncated list.
+ * The sessions are serialized one by one and flushed in chunks, so clients can process the first
+ * sessions before the whole list has been written.
+ */
+@Component
+public class ConsultantSessionListNdjsonHttpMessageConverter
+    extends AbstractHttpMessageConverter<ConsultantSessionListResponseDTO> {
+
+  public static final String OFFSET_HEADER = "X-Offset";
+  public static final String COUNT_HEADER = "X-Count";
+  public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+  private static final byte[] LINE_SEPARATOR = {'\n'};
+  private static final int FLUSH_INTERVAL = 25;
+
+  private final ObjectWriter sessionWriter;
+
+  public ConsultantSessionListNdjsonHttpMessageConverter(@NonNull ObjectMapper objectMapper) {
+    super(MediaType.APPLICATION_NDJSON);
+    this.sessionWriter = objectMapper.writerFor(ConsultantSessionResponseDTO.class);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return ConsultantSessionListResponseDTO.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected ConsultantSessionListResponseDTO readInternal(
+      Class<? extends ConsultantSessionListResponseDTO> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Reading session lists from newline delimited JSON is not supported", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(
+      ConsultantSessionListResponseDTO sessionList, HttpOutputMessage outputMessage)
+      throws IOException {
+    // reading the sessions enriches a lazy session list, which must happen before the body is
+    // written, as the status and headers are committed with the first flush
+    var sessions = sessionList.getSessions();
+    addPagingHeaders(sessionList, outputMessage.getHeaders());
+    if (isNull(sessions)) {
+      return;
+    }
+    var body = StreamUtils.nonClosing(outputMessage.getBody());
+    for (var sessionChunk : ListUtils.partition(sessions, FLUSH_INTERVAL)) {
+      for (var session : sessionChunk) {
+        sessionWriter.writeValue(body, session);
+        body.write(LINE_SEPARATOR);
+      }
+      body.flush();
+    }
+  }
+
+  private void addPagingHeaders(
+      ConsultantSessionListResponseDTO sessionList, HttpHeaders httpHeaders) {
+    addHeaderIfPresent(httpHeaders, OFFSET_HEADER, sessionList.getOffset());
+    addHeaderIfPresent(httpHeaders, COUNT_HEADER, sessionList.getCount());
+    addHeaderIfPresent(httpHeaders, TOTAL_COUNT_HEADER, sessionList.getTotal());
+  }
+
+  private void addHeaderIfPresent(HttpHeaders httpHeaders, String name, Integer value) {
+    if (nonNull(value)) {
+      httpHeaders.set(name, String.valueOf(value));
+    }
+  }
+}
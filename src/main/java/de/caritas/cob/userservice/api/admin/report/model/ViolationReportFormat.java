@@ -0,0 +1,20 @@
+package de.caritas.cob.userservice.api.admin.report.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/** Output formats of a violation report file. */
+@Getter
+@RequiredArgsConstructor
+public enum ViolationReportFormat {
+
+  /** One JSON document with the violations and the executed rules. */
+  JSON("json", MediaType.APPLICATION_JSON),
+
+  /** One violation per line, the executed rules are only logged. */
+  NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+  private final String fileExtension;
+  private final MediaType mediaType;
+}
@@ -2,14 +2,28 @@ package de.caritas.cob.userservice.api.admin.report.model;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /** Representation of an rule used to generate violation reports. */
 public interface ViolationReportRule {
 
+  /**
+   * Generates violations on implemented condition. The stream is evaluated lazily and has to be
+   * consumed within the transaction of the caller.
+   *
+   * @return a stream of found {@link ViolationDTO}
+   */
+  Stream<ViolationDTO> streamViolations();
+
   /**
    * Generates violations on implemented condition.
    *
    * @return a list of found {@link ViolationDTO}
    */
-  List<ViolationDTO> generateViolations();
+  default List<ViolationDTO> generateViolations() {
+    try (var violations = streamViolations()) {
+      return violations.collect(Collectors.toList());
+    }
+  }
 }
@@ -0,0 +1,10 @@
+package de.caritas.cob.userservice.api.admin.report.model;
+
+/**
+ * Result of one {@link ViolationReportRule} run.
+ *
+ * @param rule the name of the rule
+ * @param durationMillis the time the rule took to generate its violations
+ * @param violationCount the number of generated violations
+ */
+public record ViolationRuleExecution(String rule, long durationMillis, long violationCount) {}
@@ -11,6 +11,7 @@ import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -29,10 +30,10 @@ public class ConsultantWithWrongTeamConsultantFlagViolationReportRule
    * Generates all violations for {@link Consultant} containing flag is_team_consultant with
    * assigned agencies which are all not team agencies.
    *
-   * @return the generated violations
+   * @return the generated violations as lazily evaluated stream
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
+  public Stream<ViolationDTO> streamViolations() {
 
     List<ConsultantAgency> allConsultantAgencies =
         StreamSupport.stream(consultantAgencyRepository.findAll().spliterator(), false)
@@ -47,8 +48,7 @@ public class ConsultantWithWrongTeamConsultantFlagViolationReportRule
     return StreamSupport.stream(consultantRepository.findAll().spliterator(), false)
         .filter(Consultant::isTeamConsultant)
         .filter(consultantAgencyAnalyzer::hasNoTeamAgencyAssigned)
-        .map(this::fromConsultant)
-        .collect(Collectors.toList());
+        .map(this::fromConsultant);
   }
 
   private ViolationDTO fromConsultant(Consultant consultant) {
@@ -10,6 +10,7 @@ import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -25,15 +26,14 @@ public class InvalidAgencyForConsultantViolationReportRule
   /**
    * Generates all violations for {@link Consultant} containing a reference to a deleted agency.
    *
-   * @return the generated violations
+   * @return the generated violations as lazily evaluated stream
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
+  public Stream<ViolationDTO> streamViolations() {
     return retrieveAllDeletedAgencies().stream()
         .map(consultantAgencyRepository::findByAgencyIdAndDeleteDateIsNull)
         .flatMap(Collection::stream)
-        .map(this::fromConsultantAgency)
-        .collect(Collectors.toList());
+        .map(this::fromConsultantAgency);
   }
 
   private List<Long> retrieveAllDeletedAgencies() {
@@ -7,8 +7,7 @@ import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultant
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -24,14 +23,13 @@ public class MissingAgencyForConsultantViolationReportRule implements ViolationR
   /**
    * Generates all violations for {@link Consultant} without agency assignments.
    *
-   * @return the generated violations
+   * @return the generated violations as lazily evaluated stream
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
+  public Stream<ViolationDTO> streamViolations() {
     return StreamSupport.stream(this.consultantRepository.findAll().spliterator(), false)
         .filter(consultant -> isEmpty(consultant.getConsultantAgencies()))
-        .map(this::fromConsultant)
-        .collect(Collectors.toList());
+        .map(this::fromConsultant);
   }
 
   private ViolationDTO fromConsultant(Consultant consultant) {
@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
+import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
@@ -11,15 +12,19 @@ import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
-import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,44 +36,80 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MissingRocketChatRoomForConsultantViolationReportRule implements ViolationReportRule {
 
-  private final @NonNull ConsultantRepository consultantRepository;
   private final @NonNull SessionRepository sessionRepository;
   private final @NonNull RocketChatService rocketChatService;
 
+  @Value("${violation-report.rocket-chat.parallelism}")
+  private int rocketChatParallelism;
+
   /**
    * Generates all violations for {@link Consultant} without required rocket chat room assignment.
+   * The rooms of each consultant are fetched once, with at most the configured number of parallel
+   * requests to Rocket.Chat.
    *
-   * @return the generated violations
+   * @return the generated violations as lazily evaluated stream
    */
   @Override
-  @Transactional
-  public List<ViolationDTO> generateViolations() {
-    return StreamSupport.stream(this.consultantRepository.findAll().spliterator(), false)
+  @Transactional(readOnly = true)
+  public Stream<ViolationDTO> streamViolations() {
+    List<Session> sessions =
+        this.sessionRepository.findWithConsultantByStatus(SessionStatus.IN_PROGRESS);
+    Map<String, ConsultantRooms> roomsByRocketChatId =
+        fetchRoomsOfConsultants(
+            sessions.stream()
+                .map(session -> session.getConsultant().getRocketChatId())
+                .collect(Collectors.toSet()));
+
+    return sessions.stream()
         .map(
-            consultant ->
-                this.sessionRepository.findByConsultantAndStatus(
-                    consultant, SessionStatus.IN_PROGRESS))
-        .flatMap(Collection::stream)
-        .map(this::fromMissingSession)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toList());
+            session ->
+                fromMissingSession(
+                    session, roomsByRocketChatId.get(session.getConsultant().getRocketChatId())))
+        .filter(Objects::nonNull);
   }
 
-  private ViolationDTO fromMissingSession(Session session) {
-    UserInfoResponseDTO userInfoWithRooms;
+  private Map<String, ConsultantRooms> fetchRoomsOfConsultants(Set<String> rocketChatIds) {
+    if (rocketChatIds.isEmpty()) {
+      return Map.of();
+    }
+    var executor =
+        Executors.newFixedThreadPool(
+            Math.min(Math.max(rocketChatParallelism, 1), rocketChatIds.size()));
     try {
-      userInfoWithRooms =
-          this.rocketChatService.getUserInfo(session.getConsultant().getRocketChatId());
+      Map<String, CompletableFuture<ConsultantRooms>> futures = new HashMap<>();
+      rocketChatIds.forEach(
+          rocketChatId ->
+              futures.put(
+                  rocketChatId,
+                  CompletableFuture.supplyAsync(() -> fetchRooms(rocketChatId), executor)));
+      Map<String, ConsultantRooms> roomsByRocketChatId = new HashMap<>();
+      futures.forEach(
+          (rocketChatId, future) -> roomsByRocketChatId.put(rocketChatId, future.join()));
+      return roomsByRocketChatId;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private ConsultantRooms fetchRooms(String rocketChatId) {
+    try {
+      UserInfoResponseDTO userInfoWithRooms = this.rocketChatService.getUserInfo(rocketChatId);
+      List<UserRoomDTO> rooms = userInfoWithRooms.getUser().getRooms();
+      return new ConsultantRooms(
+          rooms.stream().map(UserRoomDTO::getRoomId).collect(Collectors.toSet()), null);
     } catch (Exception e) {
+      return new ConsultantRooms(Set.of(), nonNull(e.getCause()) ? e.getCause() : e);
+    }
+  }
+
+  private ViolationDTO fromMissingSession(Session session, ConsultantRooms consultantRooms) {
+    if (nonNull(consultantRooms.error())) {
       return ViolationByConsultantBuilder.getInstance(session.getConsultant())
-          .withReason(e.getCause().getMessage())
+          .withReason(consultantRooms.error().getMessage())
           .build();
     }
-    List<UserRoomDTO> rooms = userInfoWithRooms.getUser().getRooms();
-    List<String> rocketChatRoomsOfUser =
-        rooms.stream().map(UserRoomDTO::getRoomId).collect(Collectors.toList());
 
-    String violationMessage = buildPossibleViolationMessage(session, rocketChatRoomsOfUser);
+    String violationMessage = buildPossibleViolationMessage(session, consultantRooms.roomIds());
     if (isNotBlank(violationMessage)) {
       return ViolationByConsultantBuilder.getInstance(session.getConsultant())
           .withReason(violationMessage)
@@ -78,7 +119,7 @@ public class MissingRocketChatRoomForConsultantViolationReportRule implements Vi
   }
 
   private String buildPossibleViolationMessage(
-      Session session, List<String> rocketChatRoomsOfUser) {
+      Session session, Set<String> rocketChatRoomsOfUser) {
     String violationMessage = "";
 
     if (isGroupMissing(session.getGroupId(), rocketChatRoomsOfUser)) {
@@ -94,12 +135,14 @@ public class MissingRocketChatRoomForConsultantViolationReportRule implements Vi
     return violationMessage;
   }
 
-  private boolean isGroupMissing(String groupId, List<String> rocketChatRooms) {
+  private boolean isGroupMissing(String groupId, Set<String> rocketChatRooms) {
     return isNotBlank(groupId) && !rocketChatRooms.contains(groupId);
   }
 
-  private boolean areBothRoomsMissing(Session session, List<String> rocketChatRoomsOfUser) {
+  private boolean areBothRoomsMissing(Session session, Set<String> rocketChatRoomsOfUser) {
     return isGroupMissing(session.getGroupId(), rocketChatRoomsOfUser)
         && isGroupMissing(session.getFeedbackGroupId(), rocketChatRoomsOfUser);
   }
+
+  private record ConsultantRooms(Set<String> roomIds, Throwable error) {}
 }
@@ -8,8 +8,7 @@ import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.port.out.UserAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.UserRepository;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -26,14 +25,13 @@ public class MissingSessionAndChatForAskerViolationReportRule implements Violati
   /**
    * Generates all violations for {@link User} without session or chat assignment.
    *
-   * @return the generated violations
+   * @return the generated violations as lazily evaluated stream
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
+  public Stream<ViolationDTO> streamViolations() {
     return StreamSupport.stream(this.userRepository.findAll().spliterator(), false)
         .filter(this::withoutSessionAndChat)
-        .map(this::fromUser)
-        .collect(Collectors.toList());
+        .map(this::fromUser);
   }
 
   private boolean withoutSessionAndChat(User user) {
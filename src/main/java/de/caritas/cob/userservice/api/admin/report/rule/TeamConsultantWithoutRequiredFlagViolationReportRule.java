@@ -12,6 +12,7 @@ import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -28,16 +29,15 @@ public class TeamConsultantWithoutRequiredFlagViolationReportRule
    * Generates all violations for {@link Consultant} containing a team agency and no
    * is_team_consultant flag.
    *
-   * @return the generated violations
+   * @return the generated violations as lazily evaluated stream
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
+  public Stream<ViolationDTO> streamViolations() {
     return retrieveAllTeamAgencies().stream()
         .map(consultantAgencyRepository::findByAgencyIdAndDeleteDateIsNull)
         .flatMap(Collection::stream)
         .filter(consultantAgency -> !consultantAgency.getConsultant().isTeamConsultant())
-        .map(this::fromConsultantAgency)
-        .collect(Collectors.toList());
+        .map(this::fromConsultantAgency);
   }
 
   private List<Long> retrieveAllTeamAgencies() {
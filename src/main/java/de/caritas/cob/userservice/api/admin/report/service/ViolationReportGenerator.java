@@ -5,25 +5,39 @@ import static java.time.format.DateTimeFormatter.ofPattern;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportFormat;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationRuleExecution;
 import de.caritas.cob.userservice.api.admin.report.registry.ViolationRuleRegistry;
 import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
-import io.swagger.util.Json;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.format.DateTimeFormatter;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
 
 /** Generator for all {@link ViolationReportRule} beans. */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ViolationReportGenerator {
@@ -33,30 +47,123 @@ public class ViolationReportGenerator {
 
   private final @NonNull ViolationRuleRegistry violationRuleRegistry;
   private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull PlatformTransactionManager transactionManager;
+
+  @Value("${violation-report.rule-parallelism}")
+  private int ruleParallelism;
 
   /**
-   * Generates a list of all located known violations.
+   * Generates a list of all located known violations and writes them to a JSON report file.
    *
    * @return all found {@link ViolationDTO} objects
    */
-  @SneakyThrows
   public List<ViolationDTO> generateReport() {
+    List<ViolationDTO> violations = Collections.synchronizedList(new ArrayList<>());
+    writeReport(ViolationReportFormat.JSON, violations::add);
+    return violations;
+  }
+
+  /**
+   * Generates the violation report file in the given format. Violations are written to the file as
+   * soon as a rule emits them, so the heap usage does not depend on the number of violations.
+   *
+   * @param format the {@link ViolationReportFormat} of the file
+   * @return the path of the written report file
+   */
+  public Path generateReportFile(ViolationReportFormat format) {
+    return writeReport(format, violation -> {});
+  }
+
+  @SneakyThrows
+  private Path writeReport(ViolationReportFormat format, Consumer<ViolationDTO> violationConsumer) {
     List<AgencyAdminResponseDTO> allAgencies = this.agencyAdminService.retrieveAllAgencies();
-    List<ViolationDTO> violations =
-        this.violationRuleRegistry.getViolationReportRules(allAgencies).stream()
-            .map(ViolationReportRule::generateViolations)
-            .flatMap(Collection::parallelStream)
-            .collect(Collectors.toList());
+    List<ViolationReportRule> rules =
+        this.violationRuleRegistry.getViolationReportRules(allAgencies);
+    Path reportPath = buildFilePath(format);
 
-    String violationJson = Json.pretty().writeValueAsString(violations);
-    Files.write(
-        buildFilePath(), violationJson.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
+    try (var outputStream =
+            new BufferedOutputStream(
+                Files.newOutputStream(
+                    reportPath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE));
+        var reportWriter = new ViolationReportWriter(outputStream, format)) {
+      Consumer<ViolationDTO> violationWriter =
+          violation -> {
+            reportWriter.write(violation);
+            violationConsumer.accept(violation);
+          };
+      reportWriter.finish(executeConcurrently(rules, violationWriter));
+    }
+    return reportPath;
+  }
 
-    return violations;
+  private List<ViolationRuleExecution> executeConcurrently(
+      List<ViolationReportRule> rules, Consumer<ViolationDTO> violationWriter) {
+    if (rules.isEmpty()) {
+      return List.of();
+    }
+    var tenantData = TenantContext.getCurrentTenantData();
+    var executor =
+        Executors.newFixedThreadPool(Math.min(Math.max(ruleParallelism, 1), rules.size()));
+    try {
+      return rules.stream()
+          .map(
+              rule ->
+                  CompletableFuture.supplyAsync(
+                      () -> execute(rule, violationWriter, tenantData), executor))
+          .collect(Collectors.toList())
+          .stream()
+          .map(CompletableFuture::join)
+          .collect(Collectors.toList());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Rules run outside the request thread, so each one gets its own read only transaction to
+   * resolve lazy associations and the tenant of the caller. The violation stream is consumed within
+   * that transaction.
+   */
+  private ViolationRuleExecution execute(
+      ViolationReportRule rule, Consumer<ViolationDTO> violationWriter, TenantData tenantData) {
+    var ruleName = ClassUtils.getUserClass(rule).getSimpleName();
+    var transactionTemplate = new TransactionTemplate(this.transactionManager);
+    transactionTemplate.setReadOnly(true);
+    var violationCount = new AtomicLong();
+    var startTime = System.currentTimeMillis();
+    try {
+      TenantContext.setCurrentTenantData(tenantData);
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            try (var violations = rule.streamViolations()) {
+              violations.forEach(
+                  violation -> {
+                    violationWriter.accept(violation);
+                    violationCount.incrementAndGet();
+                  });
+            }
+          });
+      var durationMillis = System.currentTimeMillis() - startTime;
+      log.info(
+          "Violation rule {} found {} violations in {} ms",
+          ruleName,
+          violationCount.get(),
+          durationMillis);
+      return new ViolationRuleExecution(ruleName, durationMillis, violationCount.get());
+    } finally {
+      TenantContext.clear();
+    }
   }
 
-  private Path buildFilePath() throws IOException {
-    String path = VIOLATION_REPORT_BASE_PATH + nowInUtc().format(DATE_TIME_FORMAT) + ".json";
+  private Path buildFilePath(ViolationReportFormat format) throws IOException {
+    String path =
+        VIOLATION_REPORT_BASE_PATH
+            + nowInUtc().format(DATE_TIME_FORMAT)
+            + "."
+            + format.getFileExtension();
     if (!Path.of(path).getParent().toFile().exists()) {
       Files.createDirectory(Path.of(path).getParent());
     }
@@ -0,0 +1,65 @@
+package de.caritas.cob.userservice.api.admin.report.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportFormat;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationRuleExecution;
+import io.swagger.util.Json;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Writes violations directly to an output stream as they are generated, so the report never has to
+ * be held in memory. Writes are synchronized because rules are executed concurrently.
+ */
+class ViolationReportWriter implements Closeable {
+
+  private static final String VIOLATIONS_FIELD = "violations";
+  private static final String RULES_FIELD = "rules";
+  private static final char NDJSON_LINE_SEPARATOR = '\n';
+
+  private final JsonGenerator generator;
+  private final ViolationReportFormat format;
+
+  ViolationReportWriter(OutputStream outputStream, ViolationReportFormat format)
+      throws IOException {
+    this.format = format;
+    this.generator = Json.mapper().createGenerator(outputStream);
+    if (format == ViolationReportFormat.JSON) {
+      this.generator.useDefaultPrettyPrinter();
+      this.generator.writeStartObject();
+      this.generator.writeArrayFieldStart(VIOLATIONS_FIELD);
+    } else {
+      this.generator.setRootValueSeparator(null);
+    }
+  }
+
+  synchronized void write(ViolationDTO violation) {
+    try {
+      generator.writeObject(violation);
+      if (format == ViolationReportFormat.NDJSON) {
+        generator.writeRaw(NDJSON_LINE_SEPARATOR);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  synchronized void finish(List<ViolationRuleExecution> ruleExecutions) throws IOException {
+    if (format == ViolationReportFormat.JSON) {
+      generator.writeEndArray();
+      generator.writeFieldName(RULES_FIELD);
+      generator.writeObject(ruleExecutions);
+      generator.writeEndObject();
+    }
+    generator.flush();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    generator.close();
+  }
+}
@@ -2,11 +2,11 @@ package de.caritas.cob.userservice.api.admin.service.agency;
 
 import static java.util.Objects.requireNonNull;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminFullResponseDTO;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyAdminServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
 import java.util.List;
@@ -36,17 +36,18 @@ public class AgencyAdminService {
   public List<AgencyAdminResponseDTO> retrieveAllAgencies() {
     AdminAgencyControllerApi controllerApi =
         agencyAdminServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return requireNonNull(
-            controllerApi.searchAgencies(0, Integer.MAX_VALUE, null, null).getEmbedded())
-        .stream()
+    var agencies =
+        ApiClientHeaders.callWith(
+            getDefaultHeaders(),
+            () -> controllerApi.searchAgencies(0, Integer.MAX_VALUE, null, null));
+    return requireNonNull(agencies.getEmbedded()).stream()
         .map(AgencyAdminFullResponseDTO::getEmbedded)
         .collect(Collectors.toList());
   }
 
-  public void addDefaultHeaders(ApiClient apiClient) {
+  public HttpHeaders getDefaultHeaders() {
     HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
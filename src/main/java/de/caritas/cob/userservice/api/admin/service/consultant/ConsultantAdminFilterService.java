@@ -24,6 +24,7 @@ import org.springframework.stereotype.Service;
 public class ConsultantAdminFilterService {
 
   private final @NonNull EntityManagerFactory entityManagerFactory;
+  private final @NonNull ConsultantSearchIndexService consultantSearchIndexService;
 
   /**
    * Searches for consultants by given {@link ConsultantFilter}, limits the result by perPage and
@@ -40,17 +41,12 @@ public class ConsultantAdminFilterService {
       final ConsultantFilter consultantFilter,
       final Sort sort) {
 
-    try (var entityManager = entityManagerFactory.createEntityManager()) {
-      var session = entityManager.unwrap(Session.class);
+    consultantSearchIndexService.ensureIndexed();
 
-      synchronized (this) {
-        var searchSession = Search.session(session);
-        searchSession.massIndexer(Consultant.class).startAndWait();
-        var result = fetchConsultants(consultantFilter, searchSession, sort, page, perPage);
-        return convertToSearchResultDTO(result, page, perPage);
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
+    try (var entityManager = entityManagerFactory.createEntityManager()) {
+      var searchSession = Search.session(entityManager.unwrap(Session.class));
+      var result = fetchConsultants(consultantFilter, searchSession, sort, page, perPage);
+      return convertToSearchResultDTO(result, page, perPage);
     }
   }
 
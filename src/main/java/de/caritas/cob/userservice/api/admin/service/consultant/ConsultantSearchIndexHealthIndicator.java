@@ -0,0 +1,29 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/** Reports the state of the consultant admin search index. */
+@Component
+@RequiredArgsConstructor
+public class ConsultantSearchIndexHealthIndicator implements HealthIndicator {
+
+  private final @NonNull ConsultantSearchIndexService consultantSearchIndexService;
+
+  @Override
+  public Health health() {
+    var lastMassIndexDate = consultantSearchIndexService.getLastMassIndexDate();
+    if (lastMassIndexDate.isEmpty()) {
+      return Health.unknown().withDetail("reason", "Index has not been built yet").build();
+    }
+    return Health.up()
+        .withDetail("documents", consultantSearchIndexService.countIndexedConsultants())
+        .withDetail("lag", consultantSearchIndexService.calculateIndexLag())
+        .withDetail("stale", consultantSearchIndexService.isStale())
+        .withDetail("lastMassIndexDate", lastMassIndexDate.get().toString())
+        .build();
+  }
+}
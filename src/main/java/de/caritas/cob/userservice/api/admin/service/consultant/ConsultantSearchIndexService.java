@@ -0,0 +1,195 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the Hibernate Search index of {@link Consultant} entities used by the admin search.
+ * The index is built once on startup and kept current by the automatic indexing of Hibernate
+ * Search, which also covers changes of consultant agencies. As the index is held locally by each
+ * instance, changes written by other instances, including deleted consultants, are picked up by a
+ * periodic reindex. A failed rebuild leaves the index outdated, so it is retried before the next
+ * search.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConsultantSearchIndexService {
+
+  private static final String DOCUMENTS_GAUGE = "userservice.consultant.search.index.documents";
+  private static final String LAG_GAUGE = "userservice.consultant.search.index.lag";
+
+  private final @NonNull EntityManagerFactory entityManagerFactory;
+  private final @NonNull ConsultantRepository consultantRepository;
+  private final @NonNull MeterRegistry meterRegistry;
+  private final @NonNull Clock clock;
+
+  @Value("${consultant.search-index.reindex-on-search}")
+  private boolean reindexOnSearch;
+
+  @Value("${consultant.search-index.periodic-reindex.enabled}")
+  private boolean periodicReindexEnabled;
+
+  private final ReentrantLock massIndexLock = new ReentrantLock();
+  private final AtomicBoolean stale = new AtomicBoolean(true);
+  private volatile Instant lastMassIndexDate;
+
+  @PostConstruct
+  public void registerIndexGauges() {
+    Gauge.builder(DOCUMENTS_GAUGE, this, ConsultantSearchIndexService::countIndexedConsultants)
+        .description("Number of consultants in the admin search index")
+        .register(meterRegistry);
+    Gauge.builder(LAG_GAUGE, this, ConsultantSearchIndexService::calculateIndexLag)
+        .description("Difference between the consultants in the database and in the search index")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void indexOnStartup() {
+    reindexOrMarkStale();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${consultant.search-index.periodic-reindex.interval-millis}",
+      initialDelayString = "${consultant.search-index.periodic-reindex.interval-millis}")
+  public void reindexPeriodically() {
+    if (periodicReindexEnabled) {
+      reindexOrMarkStale();
+    }
+  }
+
+  private void reindexOrMarkStale() {
+    try {
+      reindex();
+    } catch (RuntimeException e) {
+      markStale();
+      log.error("Indexing consultants for admin search failed, retrying before next search", e);
+    }
+  }
+
+  /**
+   * Marks the index as outdated, so it is rebuilt before the next search. Must be called after
+   * consultant data has been changed without Hibernate, e.g. by native SQL statements.
+   */
+  public void markStale() {
+    stale.set(true);
+  }
+
+  /**
+   * Ensures the index can be queried. The index is only rebuilt if it is outdated or reindexing on
+   * every search is configured, otherwise searches are not blocked.
+   */
+  public void ensureIndexed() {
+    if (reindexOnSearch || stale.get()) {
+      massIndexLock.lock();
+      try {
+        if (reindexOnSearch || stale.get()) {
+          massIndex();
+        }
+      } finally {
+        massIndexLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Rebuilds the index from the database. The index is purged beforehand, so hard deleted
+   * consultants are removed as well. Searches wait for the rebuild instead of reading the partially
+   * rebuilt index.
+   */
+  public void reindex() {
+    massIndexLock.lock();
+    try {
+      massIndex();
+    } finally {
+      massIndexLock.unlock();
+    }
+  }
+
+  private void massIndex() {
+    var startDate = clock.instant();
+    stale.set(true);
+    try (var entityManager = entityManagerFactory.createEntityManager()) {
+      Search.session(entityManager.unwrap(Session.class))
+          .massIndexer(Consultant.class)
+          .purgeAllOnStart(true)
+          .startAndWait();
+      stale.set(false);
+      lastMassIndexDate = clock.instant();
+      log.info(
+          "Indexed consultants for admin search in {} ms",
+          Duration.between(startDate, lastMassIndexDate).toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InternalServerErrorException("Indexing consultants was interrupted", e);
+    }
+  }
+
+  /**
+   * Returns the date of the last completed rebuild of the index.
+   *
+   * @return the date, or empty if the index has not been built yet
+   */
+  public Optional<Instant> getLastMassIndexDate() {
+    return Optional.ofNullable(lastMassIndexDate);
+  }
+
+  /**
+   * Returns true if the index has to be rebuilt before it reflects the database.
+   *
+   * @return true if the index is outdated
+   */
+  public boolean isStale() {
+    return stale.get();
+  }
+
+  /**
+   * Returns the number of consultants in the index.
+   *
+   * @return the number of indexed consultants
+   */
+  public long countIndexedConsultants() {
+    try (var entityManager = entityManagerFactory.createEntityManager()) {
+      return Search.session(entityManager.unwrap(Session.class))
+          .search(Consultant.class)
+          .where(f -> f.matchAll())
+          .fetchTotalHitCount();
+    }
+  }
+
+  /**
+   * Returns the absolute difference between the number of consultants in the database and in the
+   * index.
+   *
+   * @return the index lag in documents
+   */
+  public long calculateIndexLag() {
+    if (isNull(lastMassIndexDate)) {
+      return consultantRepository.count();
+    }
+    return Math.abs(consultantRepository.count() - countIndexedConsultants());
+  }
+}
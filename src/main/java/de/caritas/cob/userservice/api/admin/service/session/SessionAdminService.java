@@ -16,10 +16,11 @@ import org.springframework.stereotype.Service;
 public class SessionAdminService {
 
   private final @NonNull SessionRepository sessionRepository;
+  private final @NonNull SessionSearchIndexService sessionSearchIndexService;
 
   /**
-   * Finds existing sessions filtered by {@link SessionFilter} and retrieves all sessions if no
-   * filter is set.
+   * Finds existing sessions filtered and sorted by {@link SessionFilter} and retrieves all sessions
+   * if no filter is set.
    *
    * @param page the current page
    * @param perPage number of items per page
@@ -31,7 +32,8 @@ public class SessionAdminService {
     Pageable pageable = PageRequest.of(Math.max(page - 1, 0), Math.max(perPage, 1));
 
     var sessionPageProvider =
-        PageProviderFactory.getInstance(this.sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                this.sessionRepository, this.sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
     return SessionAdminResultDTOBuilder.getInstance()
@@ -0,0 +1,135 @@
+package de.caritas.cob.userservice.api.admin.service.session;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.model.Session;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the Hibernate Search index of {@link Session} entities used by the admin session
+ * search. The index is rebuilt in the background on startup and periodically afterwards, which
+ * picks up changes written by other instances, and is kept current by the automatic indexing of
+ * Hibernate Search in between. The database stays the source of truth: while the index is being
+ * rebuilt or a rebuild has failed, {@link #isAvailable()} returns false and searches have to be
+ * resolved by the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionSearchIndexService {
+
+  private final @NonNull EntityManagerFactory entityManagerFactory;
+
+  @Value("${session.search-index.reindex-on-search}")
+  private boolean reindexOnSearch;
+
+  @Value("${session.search-index.periodic-reindex.enabled}")
+  private boolean periodicReindexEnabled;
+
+  private final ReentrantLock massIndexLock = new ReentrantLock();
+  private final AtomicBoolean reindexing = new AtomicBoolean();
+  private volatile boolean indexed;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void indexOnStartup() {
+    if (!reindexOnSearch) {
+      startReindex();
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${session.search-index.periodic-reindex.interval-millis}",
+      initialDelayString = "${session.search-index.periodic-reindex.interval-millis}")
+  public void reindexPeriodically() {
+    if (periodicReindexEnabled && !reindexOnSearch) {
+      startReindex();
+    }
+  }
+
+  /**
+   * Rebuilds the index in the background, unless a rebuild is already running. Sessions deleted in
+   * the meantime are only removed by purging the index, so it is unavailable until the rebuild has
+   * finished. A failed rebuild is retried by the next periodic reindex.
+   */
+  private void startReindex() {
+    if (!reindexing.compareAndSet(false, true)) {
+      return;
+    }
+    indexed = false;
+    try {
+      var entityManager = entityManagerFactory.createEntityManager();
+      Search.session(entityManager)
+          .massIndexer(Session.class)
+          .purgeAllOnStart(true)
+          .start()
+          .whenComplete(
+              (result, exception) -> {
+                entityManager.close();
+                indexed = isNull(exception);
+                reindexing.set(false);
+                if (indexed) {
+                  log.info("Indexed sessions for admin search");
+                } else {
+                  log.error("Indexing sessions for admin search failed", exception);
+                }
+              });
+    } catch (RuntimeException e) {
+      reindexing.set(false);
+      log.error("Indexing sessions for admin search could not be started", e);
+    }
+  }
+
+  /**
+   * Returns whether the index is complete and can be queried.
+   *
+   * @return true if searches can be executed on the index
+   */
+  public boolean isAvailable() {
+    return reindexOnSearch || indexed;
+  }
+
+  /**
+   * Executes the given query on a new {@link SearchSession}. Callers have to check {@link
+   * #isAvailable()} beforehand.
+   *
+   * @param query the query to execute
+   * @param <T> the type of the query result
+   * @return the query result
+   */
+  public <T> T search(Function<SearchSession, T> query) {
+    ensureIndexed();
+    try (var entityManager = entityManagerFactory.createEntityManager()) {
+      return query.apply(Search.session(entityManager));
+    }
+  }
+
+  private void ensureIndexed() {
+    if (reindexOnSearch) {
+      massIndexLock.lock();
+      try (var entityManager = entityManagerFactory.createEntityManager()) {
+        Search.session(entityManager).massIndexer(Session.class).startAndWait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InternalServerErrorException("Indexing sessions was interrupted", e);
+      } finally {
+        massIndexLock.unlock();
+      }
+    } else if (!indexed) {
+      throw new InternalServerErrorException("Session search index is not available");
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package de.caritas.cob.userservice.api.admin.service.session.pageprovider;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter.SortFieldEnum;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter.SortOrderEnum;
+import de.caritas.cob.userservice.api.admin.service.session.SessionSearchIndexService;
+import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
+import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.RegistrationType;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * Page provider for {@link Session} filtered and sorted by any combination of criteria, resolved by
+ * the session search index. While the index is not available, the same query is resolved by the
+ * database.
+ */
+@RequiredArgsConstructor
+public class IndexedSessionPageProvider implements SessionPageProvider {
+
+  private final @NonNull SessionRepository sessionRepository;
+  private final @NonNull SessionSearchIndexService sessionSearchIndexService;
+  private final @NonNull SessionFilter sessionFilter;
+
+  /**
+   * Executes the search query on the session search index, or on the database while the index is
+   * not available.
+   *
+   * @param pageable the pageable to split the results
+   * @return a {@link Page} object containing the results
+   */
+  @Override
+  public Page<Session> executeQuery(Pageable pageable) {
+    if (!sessionSearchIndexService.isAvailable()) {
+      return sessionRepository.findAll(
+          this::toPredicate,
+          PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), buildDatabaseSort()));
+    }
+    return sessionSearchIndexService.search(
+        searchSession -> {
+          var result =
+              searchSession
+                  .search(Session.class)
+                  .where(f -> f.bool(bool -> addClauses(f, bool)))
+                  .sort(this::buildSort)
+                  .fetch((int) pageable.getOffset(), pageable.getPageSize());
+          return new PageImpl<>(result.hits(), pageable, result.total().hitCount());
+        });
+  }
+
+  private void addClauses(SearchPredicateFactory f, BooleanPredicateClausesStep<?> bool) {
+    bool.must(f.matchAll());
+    if (nonNull(sessionFilter.getAgency())) {
+      bool.filter(f.match().field("agencyId").matching(sessionFilter.getAgency().longValue()));
+    }
+    if (isNotBlank(sessionFilter.getAsker())) {
+      bool.filter(f.match().field("user.userId").matching(sessionFilter.getAsker()));
+    }
+    if (isNotBlank(sessionFilter.getConsultant())) {
+      bool.filter(f.match().field("consultant.id").matching(sessionFilter.getConsultant()));
+    }
+    if (nonNull(sessionFilter.getConsultingType())) {
+      bool.filter(f.match().field("consultingTypeId").matching(sessionFilter.getConsultingType()));
+    }
+    if (isNotBlank(sessionFilter.getPostcode())) {
+      bool.filter(f.match().field("postcode").matching(sessionFilter.getPostcode()));
+    }
+    if (nonNull(sessionFilter.getStatus())) {
+      bool.filter(f.match().field("status").matching(sessionStatusOf(sessionFilter.getStatus())));
+    }
+    if (nonNull(sessionFilter.getRegistrationType())) {
+      bool.filter(
+          f.match()
+              .field("registrationType")
+              .matching(RegistrationType.valueOf(sessionFilter.getRegistrationType().getValue())));
+    }
+    if (isNotBlank(sessionFilter.getAskerUsername())) {
+      addUsernameClause(f, bool, "user.username", sessionFilter.getAskerUsername());
+    }
+    if (isNotBlank(sessionFilter.getConsultantUsername())) {
+      addUsernameClause(f, bool, "consultant.username", sessionFilter.getConsultantUsername());
+    }
+    if (nonNull(sessionFilter.getCreatedFrom())) {
+      bool.filter(
+          f.range().field("createDate").atLeast(sessionFilter.getCreatedFrom().atStartOfDay()));
+    }
+    if (nonNull(sessionFilter.getCreatedTo())) {
+      bool.filter(
+          f.range()
+              .field("createDate")
+              .lessThan(sessionFilter.getCreatedTo().plusDays(1).atStartOfDay()));
+    }
+    if (TenantContext.contextIsSet() && !TenantContext.isTechnicalOrSuperAdminContext()) {
+      bool.filter(f.match().field("tenantId").matching(TenantContext.getCurrentTenant()));
+    }
+  }
+
+  private Predicate toPredicate(
+      Root<Session> session, CriteriaQuery<?> query, CriteriaBuilder builder) {
+    List<Predicate> predicates = new ArrayList<>();
+    if (nonNull(sessionFilter.getAgency())) {
+      predicates.add(
+          builder.equal(session.get("agencyId"), sessionFilter.getAgency().longValue()));
+    }
+    if (isNotBlank(sessionFilter.getAsker())) {
+      predicates.add(builder.equal(session.get("user").get("userId"), sessionFilter.getAsker()));
+    }
+    if (isNotBlank(sessionFilter.getConsultant())) {
+      predicates.add(
+          builder.equal(session.get("consultant").get("id"), sessionFilter.getConsultant()));
+    }
+    if (nonNull(sessionFilter.getConsultingType())) {
+      predicates.add(
+          builder.equal(session.get("consultingTypeId"), sessionFilter.getConsultingType()));
+    }
+    if (isNotBlank(sessionFilter.getPostcode())) {
+      predicates.add(builder.equal(session.get("postcode"), sessionFilter.getPostcode()));
+    }
+    if (nonNull(sessionFilter.getStatus())) {
+      predicates.add(
+          builder.equal(session.get("status"), sessionStatusOf(sessionFilter.getStatus())));
+    }
+    if (nonNull(sessionFilter.getRegistrationType())) {
+      predicates.add(
+          builder.equal(
+              session.get("registrationType"),
+              RegistrationType.valueOf(sessionFilter.getRegistrationType().getValue())));
+    }
+    if (isNotBlank(sessionFilter.getAskerUsername())) {
+      predicates.add(
+          session.get("user").get("username").in(usernamesOf(sessionFilter.getAskerUsername())));
+    }
+    if (isNotBlank(sessionFilter.getConsultantUsername())) {
+      predicates.add(
+          session
+              .get("consultant")
+              .get("username")
+              .in(usernamesOf(sessionFilter.getConsultantUsername())));
+    }
+    if (nonNull(sessionFilter.getCreatedFrom())) {
+      predicates.add(
+          builder.greaterThanOrEqualTo(
+              session.get("createDate"), sessionFilter.getCreatedFrom().atStartOfDay()));
+    }
+    if (nonNull(sessionFilter.getCreatedTo())) {
+      predicates.add(
+          builder.lessThan(
+              session.get("createDate"), sessionFilter.getCreatedTo().plusDays(1).atStartOfDay()));
+    }
+    if (TenantContext.contextIsSet() && !TenantContext.isTechnicalOrSuperAdminContext()) {
+      predicates.add(builder.equal(session.get("tenantId"), TenantContext.getCurrentTenant()));
+    }
+    return builder.and(predicates.toArray(new Predicate[0]));
+  }
+
+  private SessionStatus sessionStatusOf(Integer status) {
+    return SessionStatus.valueOf(status)
+        .orElseThrow(() -> new BadRequestException("Invalid session status " + status));
+  }
+
+  private void addUsernameClause(
+      SearchPredicateFactory f, BooleanPredicateClausesStep<?> bool, String field, String value) {
+    var usernames = usernamesOf(value);
+    bool.filter(
+        f.bool(
+            usernameBool ->
+                usernames.forEach(
+                    username -> usernameBool.should(f.match().field(field).matching(username)))));
+  }
+
+  /** Usernames are stored either encoded or in plain text, so both variants are matched. */
+  private Set<String> usernamesOf(String value) {
+    var usernameTranscoder = new UsernameTranscoder();
+    return Set.of(
+        usernameTranscoder.encodeUsername(value), usernameTranscoder.decodeUsername(value));
+  }
+
+  private SortFinalStep buildSort(SearchSortFactory factory) {
+    var order = isDescending() ? SortOrder.DESC : SortOrder.ASC;
+    return factory.field(sortFieldOf().getValue()).order(order);
+  }
+
+  private Sort buildDatabaseSort() {
+    var direction = isDescending() ? Direction.DESC : Direction.ASC;
+    return Sort.by(direction, sortFieldOf().getValue());
+  }
+
+  private SortFieldEnum sortFieldOf() {
+    return nonNull(sessionFilter.getSortField())
+        ? sessionFilter.getSortField()
+        : SortFieldEnum.CREATE_DATE;
+  }
+
+  private boolean isDescending() {
+    return SortOrderEnum.DESC.equals(sessionFilter.getSortOrder());
+  }
+
+  /**
+   * Validates if the filter needs the search index, i.e. more than one of the database backed
+   * filters or any of the index only criteria are set.
+   *
+   * @return true if the filter has to be resolved by the search index
+   */
+  @Override
+  public boolean isSupported() {
+    var databaseFilterCount =
+        Stream.of(
+                nonNull(sessionFilter.getAgency()),
+                isNotBlank(sessionFilter.getAsker()),
+                isNotBlank(sessionFilter.getConsultant()),
+                nonNull(sessionFilter.getConsultingType()))
+            .filter(Boolean::booleanValue)
+            .count();
+    return databaseFilterCount > 1 || hasIndexOnlyCriteria();
+  }
+
+  private boolean hasIndexOnlyCriteria() {
+    return isNotBlank(sessionFilter.getPostcode())
+        || nonNull(sessionFilter.getStatus())
+        || nonNull(sessionFilter.getRegistrationType())
+        || isNotBlank(sessionFilter.getAskerUsername())
+        || isNotBlank(sessionFilter.getConsultantUsername())
+        || nonNull(sessionFilter.getCreatedFrom())
+        || nonNull(sessionFilter.getCreatedTo())
+        || nonNull(sessionFilter.getSortField())
+        || nonNull(sessionFilter.getSortOrder());
+  }
+}
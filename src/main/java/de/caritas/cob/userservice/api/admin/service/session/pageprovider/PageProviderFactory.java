@@ -4,6 +4,7 @@ import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter;
+import de.caritas.cob.userservice.api.admin.service.session.SessionSearchIndexService;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import java.util.List;
 
@@ -16,9 +17,14 @@ public class PageProviderFactory {
   private final List<SessionPageProvider> pageProviderRegistry;
   private final SessionPageProvider allSessionsPageProvider;
 
-  private PageProviderFactory(SessionRepository sessionRepository, SessionFilter sessionFilter) {
+  private PageProviderFactory(
+      SessionRepository sessionRepository,
+      SessionSearchIndexService sessionSearchIndexService,
+      SessionFilter sessionFilter) {
     this.pageProviderRegistry =
         asList(
+            new IndexedSessionPageProvider(
+                sessionRepository, sessionSearchIndexService, sessionFilter),
             new AgencySessionPageProvider(sessionRepository, sessionFilter),
             new AskerSessionPageProvider(sessionRepository, sessionFilter),
             new ConsultantSessionPageProvider(sessionRepository, sessionFilter),
@@ -27,14 +33,19 @@ public class PageProviderFactory {
   }
 
   public static PageProviderFactory getInstance(
-      SessionRepository sessionRepository, SessionFilter sessionFilter) {
+      SessionRepository sessionRepository,
+      SessionSearchIndexService sessionSearchIndexService,
+      SessionFilter sessionFilter) {
     return new PageProviderFactory(
-        requireNonNull(sessionRepository), requireNonNull(sessionFilter));
+        requireNonNull(sessionRepository),
+        requireNonNull(sessionSearchIndexService),
+        requireNonNull(sessionFilter));
   }
 
   /**
    * Retrieves the first supported {@link SessionPageProvider} by given {@link SessionFilter}.
-   * Returns the {@link AllSessionPageProvider} if no filter is set.
+   * Combined filters are resolved by the {@link IndexedSessionPageProvider}, the {@link
+   * AllSessionPageProvider} is returned if no filter is set.
    *
    * @return the dedicated {@link SessionPageProvider}
    */
@@ -1,9 +1,9 @@
 package de.caritas.cob.userservice.api.admin.service.tenant;
 
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.config.apiclient.TenantAdminServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
-import de.caritas.cob.userservice.tenantadminservice.generated.ApiClient;
 import de.caritas.cob.userservice.tenantadminservice.generated.web.TenantAdminControllerApi;
 import de.caritas.cob.userservice.tenantadminservice.generated.web.model.TenantDTO;
 import lombok.NonNull;
@@ -25,12 +25,7 @@ public class TenantAdminService {
   public TenantDTO getTenantById(Long tenantId) throws RestClientException {
     TenantAdminControllerApi controllerApi =
         this.tenantAdminServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return controllerApi.getTenantById(tenantId);
-  }
-
-  private void addDefaultHeaders(ApiClient apiClient) {
     HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return ApiClientHeaders.callWith(headers, () -> controllerApi.getTenantById(tenantId));
   }
 }
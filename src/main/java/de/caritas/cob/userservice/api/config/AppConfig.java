@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.config;
 
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaderInterceptor;
 import java.time.Clock;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.MessageSource;
@@ -30,10 +31,10 @@ public class AppConfig {
     return validatorFactoryBean;
   }
 
-  // RestTemplate Bean
+  // RestTemplate Bean, also used by the generated API clients
   @Bean
   RestTemplate restTemplate(RestTemplateBuilder builder) {
-    return builder.build();
+    return builder.additionalInterceptors(new ApiClientHeaderInterceptor()).build();
   }
 
   @Bean
@@ -0,0 +1,121 @@
+package de.caritas.cob.userservice.api.config;
+
+import de.caritas.cob.userservice.api.config.async.MeteredTaskExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors of {@code @Async} methods. All kinds of asynchronous tasks share one executor, which
+ * is either a fixed thread pool or, with {@code thread.executor.mode=virtual}, an executor starting
+ * a virtual thread per task. In the virtual mode each kind of task has its own concurrency limit.
+ */
+@Slf4j
+@Configuration
+public class AsyncExecutorConfig {
+
+  public static final String EMAIL_NOTIFICATION_EXECUTOR = "emailNotificationExecutor";
+  public static final String STATISTICS_EXECUTOR = "statisticsExecutor";
+
+  private static final String VIRTUAL_MODE = "virtual";
+
+  @Value("${thread.executor.corePoolSize}")
+  private int threadCorePoolSize;
+
+  @Value("${thread.executor.maxPoolSize}")
+  private int threadMaxPoolSize;
+
+  @Value("${thread.executor.queueCapacity}")
+  private int threadQueueCapacity;
+
+  @Value("${thread.executor.threadNamePrefix}")
+  private String threadNamePrefix;
+
+  @Value("${thread.executor.mode}")
+  private String mode;
+
+  @Value("${thread.executor.virtual.concurrency-limit}")
+  private int virtualConcurrencyLimit;
+
+  @Value("${thread.executor.email-notification.concurrency-limit}")
+  private int emailNotificationConcurrencyLimit;
+
+  @Value("${thread.executor.statistics.concurrency-limit}")
+  private int statisticsConcurrencyLimit;
+
+  @Bean
+  AsyncTaskExecutor sharedAsyncTaskExecutor() {
+    if (VIRTUAL_MODE.equalsIgnoreCase(mode)) {
+      return buildVirtualThreadExecutor();
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    /*
+     * This will create 10 threads at the time of initialization. If all 10 threads are busy and new
+     * task comes up, then It will keep tasks in queue. If queue is full it will create 11th thread
+     * and will go till 15. Then will throw TaskRejected Exception.
+     */
+    executor.setCorePoolSize(threadCorePoolSize);
+    executor.setMaxPoolSize(threadMaxPoolSize);
+    executor.setQueueCapacity(threadQueueCapacity);
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Starts a virtual thread per task. The overall number of running tasks is throttled, so further
+   * submitters wait instead of being rejected. On JVMs without virtual threads platform threads
+   * are started instead.
+   */
+  private SimpleAsyncTaskExecutor buildVirtualThreadExecutor() {
+    var executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+    try {
+      executor.setVirtualThreads(true);
+    } catch (UnsupportedOperationException e) {
+      log.warn("Virtual threads are not supported by this JVM, using platform threads instead");
+    }
+    executor.setConcurrencyLimit(virtualConcurrencyLimit);
+    return executor;
+  }
+
+  @Bean
+  TaskExecutor taskExecutor(
+      @Qualifier("sharedAsyncTaskExecutor") AsyncTaskExecutor sharedAsyncTaskExecutor,
+      MeterRegistry meterRegistry) {
+    return new MeteredTaskExecutor("default", sharedAsyncTaskExecutor, 0, meterRegistry);
+  }
+
+  @Bean(EMAIL_NOTIFICATION_EXECUTOR)
+  TaskExecutor emailNotificationExecutor(
+      @Qualifier("sharedAsyncTaskExecutor") AsyncTaskExecutor sharedAsyncTaskExecutor,
+      MeterRegistry meterRegistry) {
+    return new MeteredTaskExecutor(
+        "email-notification",
+        sharedAsyncTaskExecutor,
+        kindConcurrencyLimit(emailNotificationConcurrencyLimit),
+        meterRegistry);
+  }
+
+  @Bean(STATISTICS_EXECUTOR)
+  TaskExecutor statisticsExecutor(
+      @Qualifier("sharedAsyncTaskExecutor") AsyncTaskExecutor sharedAsyncTaskExecutor,
+      MeterRegistry meterRegistry) {
+    return new MeteredTaskExecutor(
+        "statistics",
+        sharedAsyncTaskExecutor,
+        kindConcurrencyLimit(statisticsConcurrencyLimit),
+        meterRegistry);
+  }
+
+  /** The fixed pool already bounds the running tasks, so the limits only apply in virtual mode. */
+  private int kindConcurrencyLimit(int concurrencyLimit) {
+    return VIRTUAL_MODE.equalsIgnoreCase(mode) ? concurrencyLimit : 0;
+  }
+}
@@ -1,16 +1,28 @@
 package de.caritas.cob.userservice.api.config;
 
-import net.sf.ehcache.config.CacheConfiguration;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.caritas.cob.userservice.api.config.cache.RefreshingCacheLoader;
+import de.caritas.cob.userservice.api.service.agency.AgencyCacheRefresher;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableCaching
 public class CacheManagerConfig {
 
   public static final String AGENCY_CACHE = "agencyCache";
+  public static final String CONSULTING_TYPE_AGENCIES_CACHE = "consultingTypeAgenciesCache";
   public static final String CONSULTING_TYPE_CACHE = "consultingTypeCache";
 
   public static final String APPLICATION_SETTINGS_CACHE = "applicationSettingsCache";
@@ -32,6 +44,12 @@ public class CacheManagerConfig {
   @Value("${cache.agencies.configuration.timeToLiveSeconds}")
   private long agenciesTimeToLiveSeconds;
 
+  @Value("${cache.agencies.configuration.refreshAfterWriteSeconds}")
+  private long agenciesRefreshAfterWriteSeconds;
+
+  @Value("${cache.consulting.type.agencies.configuration.maxEntriesLocalHeap}")
+  private long consultingTypeAgenciesMaxEntriesLocalHeap;
+
   @Value("${cache.consulting.type.configuration.maxEntriesLocalHeap}")
   private long consultingTypeMaxEntriesLocalHeap;
 
@@ -92,87 +110,136 @@ public class CacheManagerConfig {
   @Value("${cache.rocketchat.configuration.timeToLiveSeconds}")
   private long rocketchatCacheTimeToLiveSeconds;
 
-  @Bean(destroyMethod = "shutdown")
-  net.sf.ehcache.CacheManager ehCacheManager() {
-    var config = new net.sf.ehcache.config.Configuration();
-    config.addCache(buildAgencyCacheConfiguration());
-    config.addCache(buildConsultingTypeCacheConfiguration());
-    config.addCache(buildTenantCacheConfiguration());
-    config.addCache(buildTenantAdminCacheConfiguration());
-    config.addCache(buildTopicCacheConfiguration());
-    config.addCache(buildApplicationSettingsCacheConfiguration());
-
-    config.addCache(buildRocketchatUserCacheConfiguration());
-    return net.sf.ehcache.CacheManager.newInstance(config);
-  }
-
-  private CacheConfiguration buildAgencyCacheConfiguration() {
-    var agencyCacheConfiguration = new CacheConfiguration();
-    agencyCacheConfiguration.setName(AGENCY_CACHE);
-    agencyCacheConfiguration.setMaxEntriesLocalHeap(agenciesMaxEntriesLocalHeap);
-    agencyCacheConfiguration.setEternal(agenciesEternal);
-    agencyCacheConfiguration.setTimeToIdleSeconds(agenciesTimeToIdleSeconds);
-    agencyCacheConfiguration.setTimeToLiveSeconds(agenciesTimeToLiveSeconds);
-    return agencyCacheConfiguration;
-  }
-
-  private CacheConfiguration buildConsultingTypeCacheConfiguration() {
-    var consultingTypeCacheConfiguration = new CacheConfiguration();
-    consultingTypeCacheConfiguration.setName(CONSULTING_TYPE_CACHE);
-    consultingTypeCacheConfiguration.setMaxEntriesLocalHeap(consultingTypeMaxEntriesLocalHeap);
-    consultingTypeCacheConfiguration.setEternal(consultingTypeEternal);
-    consultingTypeCacheConfiguration.setTimeToIdleSeconds(consultingTypeTimeToIdleSeconds);
-    consultingTypeCacheConfiguration.setTimeToLiveSeconds(consultingTypeTimeToLiveSeconds);
-    return consultingTypeCacheConfiguration;
-  }
-
-  private CacheConfiguration buildTenantCacheConfiguration() {
-    var tenantCacheConfiguration = new CacheConfiguration();
-    tenantCacheConfiguration.setName(TENANT_CACHE);
-    tenantCacheConfiguration.setMaxEntriesLocalHeap(tenantMaxEntriesLocalHeap);
-    tenantCacheConfiguration.setEternal(tenantEternal);
-    tenantCacheConfiguration.setTimeToIdleSeconds(tenantTimeToIdleSeconds);
-    tenantCacheConfiguration.setTimeToLiveSeconds(tenantTimeToLiveSeconds);
-    return tenantCacheConfiguration;
+  @Value("${cache.caffeine.refresh.pool-size}")
+  private int caffeineRefreshPoolSize;
+
+  @Value("${cache.caffeine.refresh.queue-capacity}")
+  private int caffeineRefreshQueueCapacity;
+
+  private ThreadPoolTaskExecutor caffeineRefreshExecutor;
+
+  /**
+   * Declares the Caffeine based cache manager of all profiles. The caches record hit, miss,
+   * eviction and load time statistics, which are bound to Micrometer by the actuator. The agency
+   * caches are refreshed in the background by the loaders of the {@link AgencyCacheRefresher}.
+   *
+   * @param agencyCacheRefresher the provider of the agency cache loaders
+   * @return the {@link CacheManager}
+   */
+  @Bean
+  CacheManager cacheManager(AgencyCacheRefresher agencyCacheRefresher) {
+    caffeineRefreshExecutor = new ThreadPoolTaskExecutor();
+    caffeineRefreshExecutor.setCorePoolSize(caffeineRefreshPoolSize);
+    caffeineRefreshExecutor.setMaxPoolSize(caffeineRefreshPoolSize);
+    caffeineRefreshExecutor.setQueueCapacity(caffeineRefreshQueueCapacity);
+    caffeineRefreshExecutor.setThreadNamePrefix("CacheRefresh-");
+    caffeineRefreshExecutor.setRejectedExecutionHandler(new AbortPolicy());
+    caffeineRefreshExecutor.initialize();
+
+    var cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(
+        List.of(
+            buildCaffeineCache(
+                AGENCY_CACHE,
+                agenciesMaxEntriesLocalHeap,
+                agenciesEternal,
+                agenciesTimeToIdleSeconds,
+                agenciesTimeToLiveSeconds,
+                agenciesRefreshAfterWriteSeconds,
+                agencyCacheRefresher.agencyCacheLoader()),
+            buildCaffeineCache(
+                CONSULTING_TYPE_AGENCIES_CACHE,
+                consultingTypeAgenciesMaxEntriesLocalHeap,
+                agenciesEternal,
+                agenciesTimeToIdleSeconds,
+                agenciesTimeToLiveSeconds,
+                agenciesRefreshAfterWriteSeconds,
+                agencyCacheRefresher.consultingTypeAgenciesCacheLoader()),
+            buildCaffeineCache(
+                CONSULTING_TYPE_CACHE,
+                consultingTypeMaxEntriesLocalHeap,
+                consultingTypeEternal,
+                consultingTypeTimeToIdleSeconds,
+                consultingTypeTimeToLiveSeconds),
+            buildCaffeineCache(
+                TENANT_CACHE,
+                tenantMaxEntriesLocalHeap,
+                tenantEternal,
+                tenantTimeToIdleSeconds,
+                tenantTimeToLiveSeconds),
+            buildCaffeineCache(
+                TENANT_ADMIN_CACHE,
+                tenantMaxEntriesLocalHeap,
+                tenantEternal,
+                tenantTimeToIdleSeconds,
+                tenantTimeToLiveSeconds),
+            buildCaffeineCache(
+                TOPICS_CACHE,
+                topicMaxEntriesLocalHeap,
+                topicEternal,
+                topicTimeToIdleSeconds,
+                topicTimeToLiveSeconds),
+            buildCaffeineCache(
+                APPLICATION_SETTINGS_CACHE,
+                appSettingsMaxEntriesLocalHeap,
+                appSettingsEternal,
+                appSettingsTimeToIdleSeconds,
+                appSettingsTimeToLiveSeconds),
+            buildCaffeineCache(
+                ROCKET_CHAT_USER_CACHE,
+                rocketchatCacheMaxEntriesLocalHeap,
+                rocketchatCacheEternal,
+                rocketchatCacheTimeToIdleSeconds,
+                rocketchatCacheTimeToLiveSeconds)));
+    return cacheManager;
   }
 
-  private CacheConfiguration buildTenantAdminCacheConfiguration() {
-    var tenantCacheConfiguration = new CacheConfiguration();
-    tenantCacheConfiguration.setName(TENANT_ADMIN_CACHE);
-    tenantCacheConfiguration.setMaxEntriesLocalHeap(tenantMaxEntriesLocalHeap);
-    tenantCacheConfiguration.setEternal(tenantEternal);
-    tenantCacheConfiguration.setTimeToIdleSeconds(tenantTimeToIdleSeconds);
-    tenantCacheConfiguration.setTimeToLiveSeconds(tenantTimeToLiveSeconds);
-    return tenantCacheConfiguration;
+  private Cache buildCaffeineCache(
+      String name,
+      long maxEntriesLocalHeap,
+      boolean eternal,
+      long timeToIdleSeconds,
+      long timeToLiveSeconds) {
+    var caffeine = caffeineOf(maxEntriesLocalHeap, eternal, timeToIdleSeconds, timeToLiveSeconds);
+    return new CaffeineCache(name, caffeine.build());
   }
 
-  private CacheConfiguration buildTopicCacheConfiguration() {
-    var topicCacheConfiguration = new CacheConfiguration();
-    topicCacheConfiguration.setName(TOPICS_CACHE);
-    topicCacheConfiguration.setMaxEntriesLocalHeap(topicMaxEntriesLocalHeap);
-    topicCacheConfiguration.setEternal(topicEternal);
-    topicCacheConfiguration.setTimeToIdleSeconds(topicTimeToIdleSeconds);
-    topicCacheConfiguration.setTimeToLiveSeconds(topicTimeToLiveSeconds);
-    return topicCacheConfiguration;
+  private Cache buildCaffeineCache(
+      String name,
+      long maxEntriesLocalHeap,
+      boolean eternal,
+      long timeToIdleSeconds,
+      long timeToLiveSeconds,
+      long refreshAfterWriteSeconds,
+      RefreshingCacheLoader cacheLoader) {
+    var caffeine = caffeineOf(maxEntriesLocalHeap, eternal, timeToIdleSeconds, timeToLiveSeconds);
+    if (refreshAfterWriteSeconds > 0) {
+      caffeine
+          .refreshAfterWrite(Duration.ofSeconds(refreshAfterWriteSeconds))
+          .executor(caffeineRefreshExecutor);
+    }
+    return new CaffeineCache(name, caffeine.build(cacheLoader));
   }
 
-  private CacheConfiguration buildApplicationSettingsCacheConfiguration() {
-    var appSettingsCacheConfiguration = new CacheConfiguration();
-    appSettingsCacheConfiguration.setName(APPLICATION_SETTINGS_CACHE);
-    appSettingsCacheConfiguration.setMaxEntriesLocalHeap(appSettingsMaxEntriesLocalHeap);
-    appSettingsCacheConfiguration.setEternal(appSettingsEternal);
-    appSettingsCacheConfiguration.setTimeToIdleSeconds(appSettingsTimeToIdleSeconds);
-    appSettingsCacheConfiguration.setTimeToLiveSeconds(appSettingsTimeToLiveSeconds);
-    return appSettingsCacheConfiguration;
+  private Caffeine<Object, Object> caffeineOf(
+      long maxEntriesLocalHeap, boolean eternal, long timeToIdleSeconds, long timeToLiveSeconds) {
+    var caffeine = Caffeine.newBuilder().recordStats();
+    if (maxEntriesLocalHeap > 0) {
+      caffeine.maximumSize(maxEntriesLocalHeap);
+    }
+    if (!eternal && timeToLiveSeconds > 0) {
+      caffeine.expireAfterWrite(Duration.ofSeconds(timeToLiveSeconds));
+    }
+    if (!eternal && timeToIdleSeconds > 0) {
+      caffeine.expireAfterAccess(Duration.ofSeconds(timeToIdleSeconds));
+    }
+    return caffeine;
   }
 
-  private CacheConfiguration buildRocketchatUserCacheConfiguration() {
-    var rocketchatCacheConfiguration = new CacheConfiguration();
-    rocketchatCacheConfiguration.setName(ROCKET_CHAT_USER_CACHE);
-    rocketchatCacheConfiguration.setMaxEntriesLocalHeap(rocketchatCacheMaxEntriesLocalHeap);
-    rocketchatCacheConfiguration.setEternal(rocketchatCacheEternal);
-    rocketchatCacheConfiguration.setTimeToIdleSeconds(rocketchatCacheTimeToIdleSeconds);
-    rocketchatCacheConfiguration.setTimeToLiveSeconds(rocketchatCacheTimeToLiveSeconds);
-    return rocketchatCacheConfiguration;
+  @PreDestroy
+  public void shutdownCaffeineRefreshExecutor() {
+    if (caffeineRefreshExecutor != null) {
+      caffeineRefreshExecutor.shutdown();
+    }
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AgencyAdminServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public AdminAgencyControllerApi createControllerApi() {
+  private AdminAgencyControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.agencyAdminServiceApiUrl);
-    return new AdminAgencyControllerApi(apiClient);
+    controllerApi = new AdminAgencyControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the AgencyAdminService API client, which is built once and shared between threads.
+   * Per-call headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link AdminAgencyControllerApi}
+   */
+  public AdminAgencyControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AgencyServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public AgencyControllerApi createControllerApi() {
+  private AgencyControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.agencyServiceApiUrl);
-    return new AgencyControllerApi(apiClient);
+    controllerApi = new AgencyControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the AgencyService API client, which is built once and shared between threads. Per-call
+   * headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link AgencyControllerApi}
+   */
+  public AgencyControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -0,0 +1,39 @@
+package de.caritas.cob.userservice.api.config.apiclient;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import de.caritas.cob.userservice.api.adapters.web.controller.interceptor.CorrelationIdFilter;
+import java.io.IOException;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Adds the headers of the current {@link ApiClientHeaders} call to the outgoing requests of the
+ * generated API clients. The correlation id of the incoming request is added to every outgoing
+ * request, also to the ones sent outside of an {@link ApiClientHeaders} call.
+ */
+public class ApiClientHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    var requestHeaders = request.getHeaders();
+    ApiClientHeaders.getCurrentHeaders()
+        .ifPresent(
+            headers ->
+                headers.forEach((key, value) -> requestHeaders.set(key, value.iterator().next())));
+    addCorrelationId(requestHeaders);
+    return execution.execute(request, body);
+  }
+
+  private void addCorrelationId(HttpHeaders requestHeaders) {
+    var correlationId = MDC.get(CorrelationIdFilter.MDC_NAME);
+    if (isNotBlank(correlationId) && !requestHeaders.containsKey(CorrelationIdFilter.HEADER_NAME)) {
+      requestHeaders.set(CorrelationIdFilter.HEADER_NAME, correlationId);
+    }
+  }
+}
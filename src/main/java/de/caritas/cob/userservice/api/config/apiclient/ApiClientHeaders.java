@@ -0,0 +1,62 @@
+package de.caritas.cob.userservice.api.config.apiclient;
+
+import static java.util.Objects.isNull;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Holds the headers of the generated API client call running on the current thread. The API
+ * clients are shared between threads, so per-call headers can't be set as their default headers.
+ * Instead, the {@link ApiClientHeaderInterceptor} adds them to the outgoing request.
+ */
+public class ApiClientHeaders {
+
+  private ApiClientHeaders() {}
+
+  private static final ThreadLocal<HttpHeaders> CURRENT_HEADERS = new ThreadLocal<>();
+
+  /**
+   * Runs the given API client call and returns its result. All requests sent by the call carry the
+   * given headers.
+   *
+   * @param headers the headers of the call
+   * @param apiCall the API client call
+   * @param <T> the result type of the call
+   * @return the result of the call
+   */
+  public static <T> T callWith(HttpHeaders headers, Supplier<T> apiCall) {
+    var outerHeaders = CURRENT_HEADERS.get();
+    CURRENT_HEADERS.set(headers);
+    try {
+      return apiCall.get();
+    } finally {
+      if (isNull(outerHeaders)) {
+        CURRENT_HEADERS.remove();
+      } else {
+        CURRENT_HEADERS.set(outerHeaders);
+      }
+    }
+  }
+
+  /**
+   * Runs the given API client call without result. All requests sent by the call carry the given
+   * headers.
+   *
+   * @param headers the headers of the call
+   * @param apiCall the API client call
+   */
+  public static void runWith(HttpHeaders headers, Runnable apiCall) {
+    callWith(
+        headers,
+        () -> {
+          apiCall.run();
+          return null;
+        });
+  }
+
+  static Optional<HttpHeaders> getCurrentHeaders() {
+    return Optional.ofNullable(CURRENT_HEADERS.get());
+  }
+}
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,10 +15,23 @@ public class ApplicationSettingsApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public ApplicationsettingsControllerApi createControllerApi() {
+  private ApplicationsettingsControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient =
         new ApplicationSettingsApiClient(restTemplate)
             .setBasePath(this.applicationsettingsServiceApiUrl);
-    return new ApplicationsettingsControllerApi(apiClient);
+    controllerApi = new ApplicationsettingsControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the application settings API client, which is built once and shared between threads.
+   * Per-call headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link ApplicationsettingsControllerApi}
+   */
+  public ApplicationsettingsControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.appointmentservice.generated.ApiClient;
 import de.caritas.cob.userservice.appointmentservice.generated.web.ConsultantApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AppointmentConsultantServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public ConsultantApi createControllerApi() {
+  private ConsultantApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.appointmentServiceApiUrl);
-    return new ConsultantApi(apiClient);
+    controllerApi = new ConsultantApi(apiClient);
+  }
+
+  /**
+   * Returns the AppointmentService consultant API client, which is built once and shared between
+   * threads. Per-call headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link ConsultantApi}
+   */
+  public ConsultantApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -3,6 +3,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.liveservice.generated.ApiClient;
 import de.caritas.cob.userservice.liveservice.generated.web.LiveControllerApi;
+import jakarta.annotation.PostConstruct;
 import java.net.http.HttpClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,9 +18,20 @@ public class LiveServiceApiControllerFactory {
 
   private final ObjectMapper objectMapper;
 
-  public LiveControllerApi createControllerApi() {
+  private LiveControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new ApiClient(HttpClient.newBuilder(), objectMapper, liveServiceApiUrl);
+    controllerApi = new LiveControllerApi(apiClient);
+  }
 
-    return new LiveControllerApi(apiClient);
+  /**
+   * Returns the LiveService API client, which is built once and shared between threads.
+   *
+   * @return the {@link LiveControllerApi}
+   */
+  public LiveControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.mailservice.generated.ApiClient;
 import de.caritas.cob.userservice.mailservice.generated.web.MailsControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class MailServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public MailsControllerApi createControllerApi() {
+  private MailsControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.mailServiceApiUrl);
-    return new MailsControllerApi(apiClient);
+    controllerApi = new MailsControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the MailService API client, which is built once and shared between threads. Per-call
+   * headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link MailsControllerApi}
+   */
+  public MailsControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.messageservice.generated.ApiClient;
 import de.caritas.cob.userservice.messageservice.generated.web.MessageControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class MessageServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public MessageControllerApi createControllerApi() {
+  private MessageControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.messageServiceApiUrl);
-    return new MessageControllerApi(apiClient);
+    controllerApi = new MessageControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the MessageService API client, which is built once and shared between threads. Per-call
+   * headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link MessageControllerApi}
+   */
+  public MessageControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.tenantadminservice.generated.web.TenantAdminControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,9 +15,22 @@ public class TenantAdminServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public TenantAdminControllerApi createControllerApi() {
+  private TenantAdminControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient =
         new TenantAdminServiceApiClient(restTemplate).setBasePath(this.tenantServiceApiUrl);
-    return new TenantAdminControllerApi(apiClient);
+    controllerApi = new TenantAdminControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the TenantService admin API client, which is built once and shared between threads.
+   * Per-call headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link TenantAdminControllerApi}
+   */
+  public TenantAdminControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
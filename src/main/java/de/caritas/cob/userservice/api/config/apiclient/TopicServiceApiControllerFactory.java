@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,10 +15,22 @@ public class TopicServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public TopicControllerApi createControllerApi() {
+  private TopicControllerApi controllerApi;
+
+  @PostConstruct
+  public void initializeControllerApi() {
     var apiClient = new TopicServiceApiClient(restTemplate).setBasePath(this.topicServiceApiUrl);
-    TopicControllerApi controllerApi = new TopicControllerApi(apiClient);
+    controllerApi = new TopicControllerApi(apiClient);
     controllerApi.setApiClient(apiClient);
+  }
+
+  /**
+   * Returns the TopicService API client, which is built once and shared between threads. Per-call
+   * headers have to be passed with {@link ApiClientHeaders}.
+   *
+   * @return the {@link TopicControllerApi}
+   */
+  public TopicControllerApi createControllerApi() {
     return controllerApi;
   }
 }
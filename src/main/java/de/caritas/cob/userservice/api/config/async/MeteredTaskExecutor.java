@@ -0,0 +1,141 @@
+package de.caritas.cob.userservice.api.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * {@link TaskExecutor} for one kind of asynchronous task, which runs the tasks on a shared
+ * delegate executor. It records pending, active, rejected and finished tasks of its kind and
+ * optionally limits how many of them run at the same time. Tasks over the limit wait in a queue of
+ * their kind and are handed to the delegate only with a permit, or run by a finishing task of the
+ * same kind, so a burst of one kind never holds more threads of the delegate than its limit.
+ */
+@Slf4j
+public class MeteredTaskExecutor implements TaskExecutor {
+
+  private static final String METRIC_PREFIX = "userservice.async.tasks";
+
+  private final String kind;
+  private final TaskExecutor delegate;
+  private final Semaphore permits;
+  private final Queue<Runnable> waitingTasks = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingTasks = new AtomicInteger();
+  private final AtomicInteger activeTasks = new AtomicInteger();
+  private final Counter rejectedTasks;
+  private final Timer taskDuration;
+
+  /**
+   * Creates the executor.
+   *
+   * @param kind the kind of tasks, used as metric tag
+   * @param delegate the executor running the tasks
+   * @param concurrencyLimit the maximum number of concurrently running tasks, unlimited if not
+   *     positive
+   * @param meterRegistry the registry of the task metrics
+   */
+  public MeteredTaskExecutor(
+      @NonNull String kind,
+      @NonNull TaskExecutor delegate,
+      int concurrencyLimit,
+      @NonNull MeterRegistry meterRegistry) {
+    this.kind = kind;
+    this.delegate = delegate;
+    this.permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+    Gauge.builder(METRIC_PREFIX + ".pending", pendingTasks, AtomicInteger::get)
+        .description("Asynchronous tasks waiting to be run")
+        .tag("kind", kind)
+        .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".active", activeTasks, AtomicInteger::get)
+        .description("Asynchronous tasks currently running")
+        .tag("kind", kind)
+        .register(meterRegistry);
+    this.rejectedTasks =
+        Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("Asynchronous tasks rejected by the executor")
+            .tag("kind", kind)
+            .register(meterRegistry);
+    this.taskDuration =
+        Timer.builder(METRIC_PREFIX)
+            .description("Duration of asynchronous tasks")
+            .tag("kind", kind)
+            .register(meterRegistry);
+  }
+
+  @Override
+  public void execute(@NonNull Runnable task) {
+    pendingTasks.incrementAndGet();
+    if (permits == null) {
+      submit(task);
+      return;
+    }
+    waitingTasks.add(task);
+    if (permits.tryAcquire()) {
+      var nextTask = pollWaitingTaskOrReleasePermit();
+      if (nextTask != null) {
+        submit(nextTask);
+      }
+    }
+  }
+
+  private void submit(Runnable task) {
+    try {
+      delegate.execute(() -> runWithWaitingTasks(task));
+    } catch (TaskRejectedException e) {
+      pendingTasks.decrementAndGet();
+      rejectedTasks.increment();
+      if (permits != null) {
+        permits.release();
+      }
+      throw e;
+    }
+  }
+
+  /** Runs the given task and then the waiting tasks of this kind, keeping the permit meanwhile. */
+  private void runWithWaitingTasks(Runnable task) {
+    var nextTask = task;
+    while (nextTask != null) {
+      run(nextTask);
+      nextTask = permits != null ? pollWaitingTaskOrReleasePermit() : null;
+    }
+  }
+
+  /**
+   * Returns the next waiting task, or releases the permit if there is none. A task queued while
+   * the permit is released is picked up again, since its submitter could not get a permit.
+   */
+  private Runnable pollWaitingTaskOrReleasePermit() {
+    while (true) {
+      var nextTask = waitingTasks.poll();
+      if (nextTask != null) {
+        return nextTask;
+      }
+      permits.release();
+      if (waitingTasks.isEmpty() || !permits.tryAcquire()) {
+        return null;
+      }
+    }
+  }
+
+  /** Failures are logged, so they don't stop the waiting tasks run on the same thread. */
+  private void run(Runnable task) {
+    pendingTasks.decrementAndGet();
+    activeTasks.incrementAndGet();
+    try {
+      taskDuration.record(task);
+    } catch (RuntimeException e) {
+      log.error("Asynchronous {} task failed", kind, e);
+    } finally {
+      activeTasks.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package de.caritas.cob.userservice.api.config.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Caffeine {@link CacheLoader} which only refreshes existing entries, so it can be combined with
+ * {@code refreshAfterWrite} for caches filled by {@code @Cacheable} methods or explicit puts.
+ * Missing entries are not loaded on lookup. Entries due for refresh are reloaded in the background
+ * by the given refresher, which must load the value by the cache key alone, as it runs without the
+ * tenant, security or request context of the caller.
+ */
+@RequiredArgsConstructor
+public class RefreshingCacheLoader implements CacheLoader<Object, Object> {
+
+  private final @NonNull Function<Object, Object> refresher;
+
+  @Override
+  public Object load(@NonNull Object key) {
+    return null;
+  }
+
+  @Override
+  public Object reload(@NonNull Object key, @NonNull Object oldValue) {
+    return refresher.apply(key);
+  }
+}
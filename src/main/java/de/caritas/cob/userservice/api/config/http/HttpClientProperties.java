@@ -0,0 +1,60 @@
+package de.caritas.cob.userservice.api.config.http;
+
+import static java.util.Objects.requireNonNullElse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the pooled HTTP clients. Each configured upstream gets its own connection pool, all
+ * other requests share the default pool.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+  private Pool defaults = new Pool();
+  private Map<String, Upstream> upstreams = new LinkedHashMap<>();
+
+  @Data
+  public static class Pool {
+
+    private Integer maxTotal;
+    private Integer maxPerRoute;
+    private Duration connectTimeout;
+    private Duration responseTimeout;
+    private Duration connectionRequestTimeout;
+    private Duration keepAlive;
+
+    /**
+     * Returns a copy of this pool with all unset values taken from the given defaults.
+     *
+     * @param defaults the default pool settings
+     * @return the merged pool settings
+     */
+    Pool mergedWith(Pool defaults) {
+      var pool = new Pool();
+      pool.setMaxTotal(requireNonNullElse(maxTotal, defaults.getMaxTotal()));
+      pool.setMaxPerRoute(requireNonNullElse(maxPerRoute, defaults.getMaxPerRoute()));
+      pool.setConnectTimeout(requireNonNullElse(connectTimeout, defaults.getConnectTimeout()));
+      pool.setResponseTimeout(requireNonNullElse(responseTimeout, defaults.getResponseTimeout()));
+      pool.setConnectionRequestTimeout(
+          requireNonNullElse(connectionRequestTimeout, defaults.getConnectionRequestTimeout()));
+      pool.setKeepAlive(requireNonNullElse(keepAlive, defaults.getKeepAlive()));
+      return pool;
+    }
+  }
+
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  public static class Upstream extends Pool {
+
+    private String baseUrl;
+  }
+}
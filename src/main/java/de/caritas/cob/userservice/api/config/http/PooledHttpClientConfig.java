@@ -0,0 +1,61 @@
+package de.caritas.cob.userservice.api.config.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sends the requests of all {@link org.springframework.web.client.RestTemplate}s built by the
+ * {@link org.springframework.boot.web.client.RestTemplateBuilder} through pooled HTTP clients with
+ * one connection pool per upstream service.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PooledHttpClientConfig {
+
+  private static final String POOL_METRIC_PREFIX = "userservice.http.client.pool.";
+
+  private final @NonNull HttpClientProperties httpClientProperties;
+  private final @NonNull MeterRegistry meterRegistry;
+
+  @Bean(destroyMethod = "close")
+  UpstreamRoutingClientHttpRequestFactory upstreamRoutingClientHttpRequestFactory() {
+    var requestFactory = new UpstreamRoutingClientHttpRequestFactory(httpClientProperties);
+    requestFactory.getPools().forEach(this::registerPoolGauges);
+    return requestFactory;
+  }
+
+  @Bean
+  RestTemplateCustomizer pooledHttpClientRestTemplateCustomizer(
+      UpstreamRoutingClientHttpRequestFactory requestFactory) {
+    var metricsInterceptor = new UpstreamMetricsInterceptor(requestFactory, meterRegistry);
+    return restTemplate -> {
+      restTemplate.setRequestFactory(requestFactory);
+      restTemplate.getInterceptors().add(metricsInterceptor);
+    };
+  }
+
+  private void registerPoolGauges(UpstreamPool pool) {
+    registerPoolGauge(pool, "leased", "Connections currently in use", PoolStats::getLeased);
+    registerPoolGauge(pool, "pending", "Requests waiting for a connection", PoolStats::getPending);
+    registerPoolGauge(pool, "available", "Idle connections", PoolStats::getAvailable);
+    registerPoolGauge(pool, "max", "Maximum number of connections", PoolStats::getMax);
+  }
+
+  private void registerPoolGauge(
+      UpstreamPool pool, String name, String description, ToDoubleFunction<PoolStats> value) {
+    Gauge.builder(
+            POOL_METRIC_PREFIX + name,
+            pool,
+            upstreamPool -> value.applyAsDouble(upstreamPool.connectionManager().getTotalStats()))
+        .description(description)
+        .tag("upstream", pool.name())
+        .register(meterRegistry);
+  }
+}
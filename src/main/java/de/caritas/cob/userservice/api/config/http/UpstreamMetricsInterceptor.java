@@ -0,0 +1,52 @@
+package de.caritas.cob.userservice.api.config.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/** Records the latency of outgoing requests per upstream, HTTP method and outcome. */
+@RequiredArgsConstructor
+class UpstreamMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+  static final String REQUEST_TIMER = "userservice.http.client.upstream.requests";
+
+  private final @NonNull UpstreamRoutingClientHttpRequestFactory requestFactory;
+  private final @NonNull MeterRegistry meterRegistry;
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    var sample = Timer.start(meterRegistry);
+    var outcome = "IO_ERROR";
+    try {
+      var response = execution.execute(request, body);
+      outcome = outcomeOf(response.getStatusCode().value());
+      return response;
+    } finally {
+      sample.stop(
+          Timer.builder(REQUEST_TIMER)
+              .description("Latency of requests to upstream services")
+              .tag("upstream", requestFactory.resolve(request.getURI()).name())
+              .tag("method", request.getMethod().name())
+              .tag("outcome", outcome)
+              .register(meterRegistry));
+    }
+  }
+
+  private static String outcomeOf(int statusCode) {
+    return switch (statusCode / 100) {
+      case 1 -> "INFORMATIONAL";
+      case 2 -> "SUCCESS";
+      case 3 -> "REDIRECTION";
+      case 4 -> "CLIENT_ERROR";
+      case 5 -> "SERVER_ERROR";
+      default -> "UNKNOWN";
+    };
+  }
+}
@@ -0,0 +1,40 @@
+package de.caritas.cob.userservice.api.config.http;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Pooled HTTP client of one upstream service.
+ *
+ * @param name the name of the upstream
+ * @param baseUrl the base URL of all requests served by this pool, null for the default pool
+ * @param connectionManager the connection pool
+ * @param httpClient the client using the connection pool
+ * @param requestFactory the request factory using the client
+ */
+record UpstreamPool(
+    String name,
+    String baseUrl,
+    PoolingHttpClientConnectionManager connectionManager,
+    CloseableHttpClient httpClient,
+    HttpComponentsClientHttpRequestFactory requestFactory) {
+
+  /**
+   * Checks if the given URL addresses this upstream, i.e. it starts with the base URL followed by a
+   * path, query or nothing.
+   *
+   * @param url the request URL
+   * @return true if the URL belongs to this upstream
+   */
+  boolean serves(String url) {
+    if (!url.startsWith(baseUrl)) {
+      return false;
+    }
+    if (url.length() == baseUrl.length() || baseUrl.endsWith("/")) {
+      return true;
+    }
+    var next = url.charAt(baseUrl.length());
+    return next == '/' || next == '?' || next == '#';
+  }
+}
@@ -0,0 +1,132 @@
+package de.caritas.cob.userservice.api.config.http;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import de.caritas.cob.userservice.api.config.http.HttpClientProperties.Pool;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * {@link ClientHttpRequestFactory} which sends each request through the connection pool of the
+ * upstream addressed by the request URL. Requests to unknown upstreams use the default pool, so a
+ * slow upstream can only exhaust its own connections.
+ */
+@Slf4j
+public class UpstreamRoutingClientHttpRequestFactory
+    implements ClientHttpRequestFactory, Closeable {
+
+  static final String DEFAULT_POOL = "default";
+
+  private final List<UpstreamPool> upstreamPools;
+  private final UpstreamPool defaultPool;
+
+  public UpstreamRoutingClientHttpRequestFactory(HttpClientProperties httpClientProperties) {
+    var defaults = httpClientProperties.getDefaults();
+    var pools = new ArrayList<UpstreamPool>();
+    httpClientProperties
+        .getUpstreams()
+        .forEach(
+            (name, upstream) -> {
+              if (isNotBlank(upstream.getBaseUrl())) {
+                pools.add(buildPool(name, upstream.getBaseUrl(), upstream.mergedWith(defaults)));
+              }
+            });
+    pools.sort(Comparator.comparingInt((UpstreamPool pool) -> pool.baseUrl().length()).reversed());
+    this.upstreamPools = List.copyOf(pools);
+    this.defaultPool = buildPool(DEFAULT_POOL, null, defaults);
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    return resolve(uri).requestFactory().createRequest(uri, httpMethod);
+  }
+
+  /**
+   * Returns the pool of the upstream with the longest base URL matching the given URI.
+   *
+   * @param uri the request URI
+   * @return the matching upstream pool or the default pool
+   */
+  UpstreamPool resolve(URI uri) {
+    var url = uri.toString();
+    return upstreamPools.stream()
+        .filter(pool -> pool.serves(url))
+        .findFirst()
+        .orElse(defaultPool);
+  }
+
+  /**
+   * Returns all pools including the default pool.
+   *
+   * @return the pools
+   */
+  List<UpstreamPool> getPools() {
+    return Stream.concat(upstreamPools.stream(), Stream.of(defaultPool)).toList();
+  }
+
+  @Override
+  public void close() {
+    getPools()
+        .forEach(
+            pool -> {
+              try {
+                pool.httpClient().close();
+              } catch (IOException e) {
+                log.warn("Closing HTTP client of upstream {} failed", pool.name(), e);
+              }
+            });
+  }
+
+  private static UpstreamPool buildPool(String name, String baseUrl, Pool pool) {
+    var keepAlive = TimeValue.ofMilliseconds(pool.getKeepAlive().toMillis());
+    var connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(toTimeout(pool.getConnectTimeout()))
+                    .setSocketTimeout(toTimeout(pool.getResponseTimeout()))
+                    .build())
+            .build();
+    var httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(toTimeout(pool.getConnectionRequestTimeout()))
+                    .setResponseTimeout(toTimeout(pool.getResponseTimeout()))
+                    .build())
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive)
+            .build();
+    return new UpstreamPool(
+        name,
+        baseUrl,
+        connectionManager,
+        httpClient,
+        new HttpComponentsClientHttpRequestFactory(httpClient));
+  }
+
+  private static Timeout toTimeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+}
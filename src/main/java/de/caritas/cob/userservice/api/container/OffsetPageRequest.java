@@ -0,0 +1,89 @@
+package de.caritas.cob.userservice.api.container;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * {@link Pageable} addressing a slice by an arbitrary offset and limit instead of page number and
+ * page size, as used by the offset and count parameters of the session list endpoints.
+ */
+@EqualsAndHashCode
+public class OffsetPageRequest implements Pageable {
+
+  private final long offset;
+  private final int limit;
+  private final Sort sort;
+
+  private OffsetPageRequest(long offset, int limit, @NonNull Sort sort) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("Offset must not be negative");
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must be greater than zero");
+    }
+    this.offset = offset;
+    this.limit = limit;
+    this.sort = sort;
+  }
+
+  /**
+   * Creates a new {@link OffsetPageRequest}.
+   *
+   * @param offset the number of elements to skip
+   * @param limit the maximum number of elements to return
+   * @param sort the {@link Sort} to apply
+   * @return the {@link OffsetPageRequest}
+   */
+  public static OffsetPageRequest of(long offset, int limit, Sort sort) {
+    return new OffsetPageRequest(offset, limit, sort);
+  }
+
+  @Override
+  public int getPageNumber() {
+    return (int) (offset / limit);
+  }
+
+  @Override
+  public int getPageSize() {
+    return limit;
+  }
+
+  @Override
+  public long getOffset() {
+    return offset;
+  }
+
+  @Override
+  public Sort getSort() {
+    return sort;
+  }
+
+  @Override
+  public Pageable next() {
+    return new OffsetPageRequest(offset + limit, limit, sort);
+  }
+
+  @Override
+  public Pageable previousOrFirst() {
+    return hasPrevious()
+        ? new OffsetPageRequest(Math.max(offset - limit, 0), limit, sort)
+        : first();
+  }
+
+  @Override
+  public Pageable first() {
+    return new OffsetPageRequest(0, limit, sort);
+  }
+
+  @Override
+  public Pageable withPage(int pageNumber) {
+    return new OffsetPageRequest((long) pageNumber * limit, limit, sort);
+  }
+
+  @Override
+  public boolean hasPrevious() {
+    return offset > 0;
+  }
+}
@@ -1,15 +1,22 @@
 package de.caritas.cob.userservice.api.container;
 
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
 public class RocketChatRoomInformation {
 
   private final Map<String, Boolean> readMessages;
@@ -17,4 +24,57 @@ public class RocketChatRoomInformation {
   private final List<String> userRooms;
   private final Map<String, RoomsLastMessageDTO> lastMessagesRoom;
   private final Map<String, Date> groupIdToLastMessageFallbackDate;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, RoomsUpdateDTO> roomsForUpdateById;
+
+  @Getter(AccessLevel.NONE)
+  private final Set<String> userRoomIds;
+
+  @Builder
+  private RocketChatRoomInformation(
+      Map<String, Boolean> readMessages,
+      List<RoomsUpdateDTO> roomsForUpdate,
+      List<String> userRooms,
+      Map<String, RoomsLastMessageDTO> lastMessagesRoom,
+      Map<String, Date> groupIdToLastMessageFallbackDate) {
+    this.readMessages = readMessages;
+    this.roomsForUpdate = roomsForUpdate;
+    this.userRooms = userRooms;
+    this.lastMessagesRoom = lastMessagesRoom;
+    this.groupIdToLastMessageFallbackDate = groupIdToLastMessageFallbackDate;
+    this.roomsForUpdateById = indexRoomsById(roomsForUpdate);
+    this.userRoomIds = nonNull(userRooms) ? new HashSet<>(userRooms) : Collections.emptySet();
+  }
+
+  private static Map<String, RoomsUpdateDTO> indexRoomsById(List<RoomsUpdateDTO> rooms) {
+    if (rooms == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, RoomsUpdateDTO> roomsById = new HashMap<>(rooms.size() * 2);
+    rooms.stream()
+        .filter(room -> nonNull(room.getId()))
+        .forEach(room -> roomsById.putIfAbsent(room.getId(), room));
+    return roomsById;
+  }
+
+  /**
+   * Returns the Rocket.Chat room with the given id.
+   *
+   * @param roomId the Rocket.Chat room id
+   * @return an {@link Optional} of the {@link RoomsUpdateDTO}
+   */
+  public Optional<RoomsUpdateDTO> findRoomForUpdate(String roomId) {
+    return Optional.ofNullable(roomsForUpdateById.get(roomId));
+  }
+
+  /**
+   * Checks if the user is a member of the Rocket.Chat room with the given id.
+   *
+   * @param roomId the Rocket.Chat room id
+   * @return true if the room is one of the rooms of the user
+   */
+  public boolean isUserRoom(String roomId) {
+    return userRoomIds.contains(roomId);
+  }
 }
@@ -397,7 +397,9 @@ public class CreateEnquiryMessageFacade {
       session.setGroupId(rcGroupId);
       session.setFeedbackGroupId(rcFeedbackGroupId);
       session.setStatus(SessionStatus.NEW);
-      session.setEnquiryMessageDate(nowInUtc());
+      var enquiryMessageDate = nowInUtc();
+      session.setEnquiryMessageDate(enquiryMessageDate);
+      session.setLastMessageDate(enquiryMessageDate);
       if (nonNull(language)) {
         session.setLanguageCode(LanguageCode.getByCode(language));
       }
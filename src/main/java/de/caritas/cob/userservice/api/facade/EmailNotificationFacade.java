@@ -8,6 +8,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.web.dto.NotificationsSettingsDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ReassignmentNotificationDTO;
+import de.caritas.cob.userservice.api.config.AsyncExecutorConfig;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
 import de.caritas.cob.userservice.api.exception.httpresponses.ForbiddenException;
 import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
@@ -17,10 +18,12 @@ import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.NotificationsAware;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.User;
+import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.IdentityClient;
 import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.service.ConsultantAgencyService;
 import de.caritas.cob.userservice.api.service.ConsultantService;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.consultingtype.ReleaseToggle;
 import de.caritas.cob.userservice.api.service.consultingtype.ReleaseToggleService;
 import de.caritas.cob.userservice.api.service.emailsupplier.AssignEnquiryEmailSupplier;
@@ -32,12 +35,11 @@ import de.caritas.cob.userservice.api.service.emailsupplier.NewMessageEmailSuppl
 import de.caritas.cob.userservice.api.service.emailsupplier.ReassignmentConfirmationEmailSupplier;
 import de.caritas.cob.userservice.api.service.emailsupplier.ReassignmentRequestEmailSupplier;
 import de.caritas.cob.userservice.api.service.emailsupplier.TenantTemplateSupplier;
-import de.caritas.cob.userservice.api.service.helper.MailService;
+import de.caritas.cob.userservice.api.service.helper.MailNotificationBatcher;
 import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.api.tenant.TenantData;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
-import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
 import java.util.List;
 import java.util.Set;
 import lombok.NonNull;
@@ -60,7 +62,7 @@ public class EmailNotificationFacade {
   @Value("${rocket.systemuser.id}")
   private String rocketChatSystemUserId;
 
-  private final @NonNull MailService mailService;
+  private final @NonNull MailNotificationBatcher mailNotificationBatcher;
   private final @NonNull SessionService sessionService;
   private final @NonNull ConsultantAgencyService consultantAgencyService;
   private final @NonNull ConsultantService consultantService;
@@ -68,9 +70,8 @@ public class EmailNotificationFacade {
   private final @NonNull ConsultingTypeManager consultingTypeManager;
   private final @NonNull IdentityClient identityClient;
   private final @NonNull IdentityClientConfig identityClientConfig;
-  private final @NonNull NewEnquiryEmailSupplier newEnquiryEmailSupplier;
-  private final @NonNull NewDirectEnquiryEmailSupplier newDirectEnquiryEmailSupplier;
-  private final @NonNull AssignEnquiryEmailSupplier assignEnquiryEmailSupplier;
+  private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
+  private final @NonNull AgencyService agencyService;
   private final @NonNull TenantTemplateSupplier tenantTemplateSupplier;
 
   private final @NonNull ReleaseToggleService releaseToggleService;
@@ -84,7 +85,8 @@ public class EmailNotificationFacade {
    *
    * @param session the regarding session
    */
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
+  @Transactional
   public void sendNewEnquiryEmailNotification(Session session, TenantData tenantData) {
 
     var sessionAlreadyAssignedToConsultant = nonNull(session.getConsultant());
@@ -94,8 +96,17 @@ public class EmailNotificationFacade {
             "Preparing to send NEW_ENQUIRY_EMAIL_NOTIFICATION email for session: {}",
             session.getId());
         TenantContext.setCurrentTenantData(tenantData);
-        newEnquiryEmailSupplier.setCurrentSession(session);
-        sendMailTasksToMailService(newEnquiryEmailSupplier);
+        EmailSupplier newEnquiryMails =
+            NewEnquiryEmailSupplier.builder()
+                .session(session)
+                .consultantAgencyRepository(consultantAgencyRepository)
+                .agencyService(agencyService)
+                .releaseToggleService(releaseToggleService)
+                .applicationBaseUrl(applicationBaseUrl)
+                .multiTenancyEnabled(multiTenancyEnabled)
+                .tenantTemplateSupplier(tenantTemplateSupplier)
+                .build();
+        sendMailTasksToMailService(newEnquiryMails);
         TenantContext.clear();
       } catch (Exception ex) {
         log.error(
@@ -106,7 +117,8 @@ public class EmailNotificationFacade {
     }
   }
 
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
+  @Transactional
   public void sendNewDirectEnquiryEmailNotification(
       String consultantId, Long agencyId, String postCode, TenantData tenantData) {
     log.info(
@@ -117,10 +129,18 @@ public class EmailNotificationFacade {
 
     try {
       TenantContext.setCurrentTenantData(tenantData);
-      newDirectEnquiryEmailSupplier.setAgencyId(agencyId);
-      newDirectEnquiryEmailSupplier.setConsultantId(consultantId);
-      newDirectEnquiryEmailSupplier.setPostCode(postCode);
-      sendMailTasksToMailService(newDirectEnquiryEmailSupplier);
+      EmailSupplier newDirectEnquiryMails =
+          NewDirectEnquiryEmailSupplier.builder()
+              .agencyId(agencyId)
+              .consultantId(consultantId)
+              .postCode(postCode)
+              .consultantAgencyRepository(consultantAgencyRepository)
+              .releaseToggleService(releaseToggleService)
+              .applicationBaseUrl(applicationBaseUrl)
+              .multiTenancyEnabled(multiTenancyEnabled)
+              .tenantTemplateSupplier(tenantTemplateSupplier)
+              .build();
+      sendMailTasksToMailService(newDirectEnquiryMails);
       TenantContext.clear();
     } catch (Exception ex) {
       log.error("Failed to send NEW_DIRECT_ENQUIRY_EMAIL_NOTIFICATION", ex);
@@ -131,11 +151,10 @@ public class EmailNotificationFacade {
       throws RocketChatGetGroupMembersException {
     List<MailDTO> generatedMails = mailsToSend.generateEmails();
     if (isNotEmpty(generatedMails)) {
-      MailsDTO mailsDTO = new MailsDTO().mails(generatedMails);
       log.info(
           "Sending email notifications with mailDTOs. MailSupplier class: {}",
           mailsToSend.getClass());
-      mailService.sendEmailNotification(mailsDTO);
+      mailNotificationBatcher.send(generatedMails);
     }
   }
 
@@ -147,7 +166,7 @@ public class EmailNotificationFacade {
    * @param roles roles to decide the regarding recipients
    * @param userId the user id of initiating user
    */
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
   @Transactional
   public void sendNewMessageNotification(
       String rcGroupId, Set<String> roles, String userId, TenantData tenantData) {
@@ -195,7 +214,7 @@ public class EmailNotificationFacade {
    * @param rcFeedbackGroupId group id of feedback chat
    * @param userId regarding user id
    */
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
   public void sendNewFeedbackMessageNotification(
       String rcFeedbackGroupId, String userId, TenantData tenantData) {
     TenantContext.setCurrentTenantData(tenantData);
@@ -229,7 +248,8 @@ public class EmailNotificationFacade {
    * @param senderUserId the id of initiating user
    * @param askerUserName the name of the asker
    */
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
+  @Transactional
   public void sendAssignEnquiryEmailNotification(
       Consultant receiverConsultant,
       String senderUserId,
@@ -239,18 +259,25 @@ public class EmailNotificationFacade {
     log.info(
         "Preparing to send ASSIGN_ENQUIRY_NOTIFICATION email to consultant: {}",
         receiverConsultant != null ? receiverConsultant.getId() : "No consultant selected");
-    assignEnquiryEmailSupplier.setReceiverConsultant(receiverConsultant);
-    assignEnquiryEmailSupplier.setSenderUserId(senderUserId);
-    assignEnquiryEmailSupplier.setAskerUserName(askerUserName);
+    EmailSupplier assignEnquiryMails =
+        AssignEnquiryEmailSupplier.builder()
+            .receiverConsultant(receiverConsultant)
+            .senderUserId(senderUserId)
+            .askerUserName(askerUserName)
+            .consultantService(consultantService)
+            .applicationBaseUrl(applicationBaseUrl)
+            .multiTenancyEnabled(multiTenancyEnabled)
+            .tenantTemplateSupplier(tenantTemplateSupplier)
+            .build();
     try {
-      sendMailTasksToMailService(assignEnquiryEmailSupplier);
+      sendMailTasksToMailService(assignEnquiryMails);
     } catch (Exception exception) {
       log.error("EmailNotificationFacade error: ", exception);
     }
     TenantContext.clear();
   }
 
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
   @Transactional
   public void sendReassignRequestNotification(String rcGroupId, TenantData tenantData) {
     TenantContext.setCurrentTenantData(tenantData);
@@ -298,7 +325,7 @@ public class EmailNotificationFacade {
         && !user.getEmail().endsWith(identityClientConfig.getEmailDummySuffix());
   }
 
-  @Async
+  @Async(AsyncExecutorConfig.EMAIL_NOTIFICATION_EXECUTOR)
   @Transactional
   public void sendReassignConfirmationNotification(
       ReassignmentNotificationDTO reassignmentNotification, TenantData tenantData) {
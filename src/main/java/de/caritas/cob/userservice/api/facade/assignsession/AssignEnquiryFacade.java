@@ -3,7 +3,6 @@ package de.caritas.cob.userservice.api.facade.assignsession;
 import static de.caritas.cob.userservice.api.model.Session.SessionStatus.IN_PROGRESS;
 import static de.caritas.cob.userservice.api.model.Session.SessionStatus.NEW;
 import static java.util.Objects.nonNull;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
 import de.caritas.cob.userservice.api.admin.service.rocketchat.RocketChatRemoveFromGroupOperationService;
@@ -23,7 +22,6 @@ import de.caritas.cob.userservice.statisticsservice.generated.web.model.UserRole
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -46,14 +44,16 @@ public class AssignEnquiryFacade {
   private final @NonNull StatisticsService statisticsService;
   private final @NonNull TenantContextProvider tenantContextProvider;
   private final @NonNull HttpServletRequest httpServletRequest;
+  private final @NonNull RocketChatRoomReconciler rocketChatRoomReconciler;
 
   /**
    * Assigns the given {@link Session} session to the given {@link Consultant}. Remove all other
    * consultants from the Rocket.Chat group which don't have the right to view this session anymore.
    * Furthermore add the given {@link Consultant} to the feedback group if needed.
    *
-   * <p>If the statistics function is enabled, the assignment of the enquired is processed as
-   * statistical event.
+   * <p>The Rocket.Chat groups are updated asynchronously by the {@link RocketChatRoomReconciler}.
+   * If the statistics function is enabled, the assignment of the enquired is processed as
+   * statistical event once the groups have been updated.
    *
    * @param session the session to assign the consultant
    * @param consultant the consultant to assign
@@ -69,18 +69,19 @@ public class AssignEnquiryFacade {
     var requestURI = httpServletRequest.getRequestURI();
     var requestReferer = httpServletRequest.getHeader(HttpHeaders.REFERER);
     assignEnquiry(session, consultant, skipConsultantAssignmentAndSessionInProgressCheck);
-    supplyAsync(updateRocketChatRooms(session, consultant, TenantContext.getCurrentTenant()))
-        .thenRun(
-            () -> {
-              var event =
-                  new AssignSessionStatisticsEvent(
-                      consultant.getId(), UserRole.CONSULTANT, session.getId());
-              event.setRequestUri(requestURI);
-              event.setRequestReferer(requestReferer);
-              event.setRequestUserId(consultant.getId());
-
-              statisticsService.fireEvent(event);
-            });
+    rocketChatRoomReconciler.reconcile(
+        session.getGroupId(),
+        updateRocketChatRooms(session, consultant, TenantContext.getCurrentTenant()),
+        () -> {
+          var event =
+              new AssignSessionStatisticsEvent(
+                  consultant.getId(), UserRole.CONSULTANT, session.getId());
+          event.setRequestUri(requestURI);
+          event.setRequestReferer(requestReferer);
+          event.setRequestUserId(consultant.getId());
+
+          statisticsService.fireEvent(event);
+        });
   }
 
   /**
@@ -124,7 +125,7 @@ public class AssignEnquiryFacade {
     sessionService.updateConsultantAndStatusForSession(session, consultant, IN_PROGRESS);
   }
 
-  private Supplier<Object> updateRocketChatRooms(
+  private Runnable updateRocketChatRooms(
       Session session, Consultant consultant, Long currentTenantId) {
     return () -> {
       tenantContextProvider.setCurrentTenantContextIfMissing(currentTenantId);
@@ -132,7 +133,6 @@ public class AssignEnquiryFacade {
       if (session.hasFeedbackChat()) {
         updateRocketChatRooms(session.getFeedbackGroupId(), session, consultant);
       }
-      return null;
     };
   }
 
@@ -28,6 +28,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -142,6 +143,10 @@ public class AssignSessionFacade {
     var consultantsToRemoveFromRocketChat =
         unauthorizedMembersProvider.obtainConsultantsToRemove(
             session.getGroupId(), session, consultant, memberList, consultantToKeep);
+    identityClient.prefetchRoles(
+        consultantsToRemoveFromRocketChat.stream()
+            .map(Consultant::getId)
+            .collect(Collectors.toSet()));
 
     RocketChatRemoveFromGroupOperationService.getInstance(
             this.rocketChatFacade, this.identityClient, this.consultingTypeManager)
@@ -0,0 +1,260 @@
+package de.caritas.cob.userservice.api.facade.assignsession;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.config.async.MeteredTaskExecutor;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the reconciliation of Rocket.Chat groups after an assignment on a dedicated bounded thread
+ * pool. Failed reconciliations are retried with exponential backoff. If a group is reassigned
+ * while its previous reconciliation is still queued, only the latest reconciliation is run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RocketChatRoomReconciler {
+
+  private static final String METRIC_PREFIX = "userservice.rocketchat.reconciliation";
+  private static final String THREAD_NAME_PREFIX = "RocketChatReconciliation-";
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  @Value("${rocket-chat.reconciliation.pool-size}")
+  private int poolSize;
+
+  @Value("${rocket-chat.reconciliation.queue-capacity}")
+  private int queueCapacity;
+
+  @Value("${rocket-chat.reconciliation.max-attempts}")
+  private int maxAttempts;
+
+  @Value("${rocket-chat.reconciliation.initial-backoff-millis}")
+  private long initialBackoffMillis;
+
+  private final Map<String, Reconciliation> queuedReconciliations = new ConcurrentHashMap<>();
+  private final Map<String, Long> latestRequests = new ConcurrentHashMap<>();
+  private final AtomicLong requestSequence = new AtomicLong();
+
+  private ThreadPoolTaskExecutor pool;
+  private TaskExecutor executor;
+  private ScheduledExecutorService retryScheduler;
+  private Timer latency;
+  private Counter retries;
+  private Counter failures;
+  private Counter deduplications;
+
+  @PostConstruct
+  public void initialize() {
+    pool = new ThreadPoolTaskExecutor();
+    pool.setCorePoolSize(poolSize);
+    pool.setMaxPoolSize(poolSize);
+    pool.setQueueCapacity(queueCapacity);
+    pool.setThreadNamePrefix(THREAD_NAME_PREFIX);
+    pool.initialize();
+    executor = new MeteredTaskExecutor("rocket-chat-reconciliation", pool, 0, meterRegistry);
+    retryScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory(THREAD_NAME_PREFIX + "Retry-"));
+    latency =
+        Timer.builder(METRIC_PREFIX + ".latency")
+            .description("Time from requesting a reconciliation until it succeeded")
+            .register(meterRegistry);
+    retries =
+        Counter.builder(METRIC_PREFIX + ".retries")
+            .description("Failed reconciliations scheduled for another attempt")
+            .register(meterRegistry);
+    failures =
+        Counter.builder(METRIC_PREFIX + ".failures")
+            .description("Reconciliations given up after the last attempt or rejected")
+            .register(meterRegistry);
+    deduplications =
+        Counter.builder(METRIC_PREFIX + ".deduplicated")
+            .description("Reconciliations replaced by a later one of the same group")
+            .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (nonNull(retryScheduler)) {
+      retryScheduler.shutdownNow();
+    }
+    if (nonNull(pool)) {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Queues the reconciliation of the given Rocket.Chat group.
+   *
+   * @param rcGroupId the Rocket.Chat group ID, used to deduplicate reconciliations
+   * @param reconciliation the reconciliation to run
+   * @param onSuccess the callback run after the reconciliation succeeded
+   */
+  public void reconcile(String rcGroupId, Runnable reconciliation, Runnable onSuccess) {
+    var sequence = requestSequence.incrementAndGet();
+    latestRequests.put(rcGroupId, sequence);
+    queue(
+        rcGroupId,
+        new Reconciliation(reconciliation, List.of(onSuccess), 1, sequence, System.nanoTime()));
+  }
+
+  private void queue(String rcGroupId, Reconciliation reconciliation) {
+    var alreadyQueued = new AtomicBoolean();
+    queuedReconciliations.compute(
+        rcGroupId,
+        (groupId, queued) -> {
+          if (queued == null) {
+            return reconciliation;
+          }
+          alreadyQueued.set(true);
+          deduplications.increment();
+          return reconciliation.isRetry()
+              ? reconciliation.supersede(queued)
+              : queued.supersede(reconciliation);
+        });
+    if (!alreadyQueued.get()) {
+      submit(rcGroupId);
+    }
+  }
+
+  private void submit(String rcGroupId) {
+    try {
+      executor.execute(() -> run(rcGroupId));
+    } catch (TaskRejectedException e) {
+      queuedReconciliations.remove(rcGroupId);
+      failures.increment();
+      log.error("Reconciliation of Rocket.Chat group {} was rejected", rcGroupId, e);
+    }
+  }
+
+  private void run(String rcGroupId) {
+    var reconciliation = queuedReconciliations.remove(rcGroupId);
+    if (reconciliation == null) {
+      return;
+    }
+    var callerTenantData = TenantContext.getCurrentTenantData();
+    try {
+      reconciliation.task().run();
+      latestRequests.remove(rcGroupId, reconciliation.sequence());
+      latency.record(System.nanoTime() - reconciliation.requestedAt(), TimeUnit.NANOSECONDS);
+      reconciliation.onSuccess().forEach(callback -> runCallback(rcGroupId, callback));
+    } catch (Exception e) {
+      retryOrGiveUp(rcGroupId, reconciliation, e);
+    } finally {
+      restoreTenantContext(callerTenantData);
+    }
+  }
+
+  private void restoreTenantContext(TenantData tenantData) {
+    if (nonNull(tenantData)) {
+      TenantContext.setCurrentTenantData(tenantData);
+    } else {
+      TenantContext.clear();
+    }
+  }
+
+  private void runCallback(String rcGroupId, Runnable callback) {
+    try {
+      callback.run();
+    } catch (Exception e) {
+      log.error("Callback after reconciliation of Rocket.Chat group {} failed", rcGroupId, e);
+    }
+  }
+
+  private void retryOrGiveUp(String rcGroupId, Reconciliation reconciliation, Exception cause) {
+    if (reconciliation.attempt() >= maxAttempts) {
+      latestRequests.remove(rcGroupId, reconciliation.sequence());
+      failures.increment();
+      log.error(
+          "Reconciliation of Rocket.Chat group {} failed after {} attempts",
+          rcGroupId,
+          reconciliation.attempt(),
+          cause);
+      return;
+    }
+    var backoffMillis = initialBackoffMillis << (reconciliation.attempt() - 1);
+    retries.increment();
+    log.warn(
+        "Reconciliation of Rocket.Chat group {} failed, retrying in {} ms",
+        rcGroupId,
+        backoffMillis);
+    try {
+      retryScheduler.schedule(
+          () -> retry(rcGroupId, reconciliation.nextAttempt()),
+          backoffMillis,
+          TimeUnit.MILLISECONDS);
+    } catch (RuntimeException e) {
+      failures.increment();
+      log.error("Could not schedule retry of Rocket.Chat group {} reconciliation", rcGroupId, e);
+    }
+  }
+
+  /**
+   * Queues the next attempt, unless the group has been assigned again in the meantime. The
+   * reconciliation of the later assignment replaces the failed one, so retrying it could undo the
+   * later assignment.
+   */
+  private void retry(String rcGroupId, Reconciliation reconciliation) {
+    if (!Long.valueOf(reconciliation.sequence()).equals(latestRequests.get(rcGroupId))) {
+      deduplications.increment();
+      log.info(
+          "Dropping retry of Rocket.Chat group {} reconciliation superseded by a later assignment",
+          rcGroupId);
+      return;
+    }
+    queue(rcGroupId, reconciliation);
+  }
+
+  /**
+   * A queued reconciliation of one group, with the callbacks of all assignments it covers. The
+   * request time is the one of the oldest covered assignment.
+   */
+  private record Reconciliation(
+      Runnable task, List<Runnable> onSuccess, int attempt, long sequence, long requestedAt) {
+
+    boolean isRetry() {
+      return attempt > 1;
+    }
+
+    Reconciliation nextAttempt() {
+      return new Reconciliation(task, onSuccess, attempt + 1, sequence, requestedAt);
+    }
+
+    /** Keeps the task of the later assignment and the callbacks of both. */
+    Reconciliation supersede(Reconciliation later) {
+      var callbacks = new ArrayList<>(onSuccess);
+      callbacks.addAll(later.onSuccess());
+      return new Reconciliation(
+          later.task(),
+          callbacks,
+          later.attempt(),
+          later.sequence(),
+          Math.min(requestedAt, later.requestedAt()));
+    }
+  }
+}
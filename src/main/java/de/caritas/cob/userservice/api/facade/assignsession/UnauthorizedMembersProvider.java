@@ -13,10 +13,12 @@ import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.port.out.IdentityClient;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import jakarta.transaction.Transactional;
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -57,12 +59,20 @@ public class UnauthorizedMembersProvider {
       authorizedMembers.add(consultantToKeep.getRocketChatId());
     }
 
-    return memberList.stream()
-        .map(GroupMemberDTO::get_id)
-        .filter(memberRcId -> !authorizedMembers.contains(memberRcId))
-        .map(consultantService::getConsultantByRcUserId)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
+    var unauthorizedMemberRcIds =
+        memberList.stream()
+            .map(GroupMemberDTO::get_id)
+            .filter(memberRcId -> !authorizedMembers.contains(memberRcId))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    var consultantsByRcId =
+        consultantService.getConsultantsByRcUserIds(unauthorizedMemberRcIds).stream()
+            .collect(
+                Collectors.toMap(
+                    Consultant::getRocketChatId, Function.identity(), (first, second) -> first));
+
+    return unauthorizedMemberRcIds.stream()
+        .map(consultantsByRcId::get)
+        .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
@@ -73,9 +83,9 @@ public class UnauthorizedMembersProvider {
     return obtainConsultantsToRemove(rcGroupId, session, consultant, memberList, null);
   }
 
-  private List<String> obtainAuthorizedMembers(
+  private Set<String> obtainAuthorizedMembers(
       String rcGroupId, Session session, Consultant consultant) {
-    List<String> authorizedMembers = new ArrayList<>();
+    Set<String> authorizedMembers = new HashSet<>();
     addConsultantAndAskerOfSession(session, consultant, authorizedMembers);
     addTechnicalUsers(authorizedMembers);
     addTeamConsultantsIfNecessary(rcGroupId, session, authorizedMembers);
@@ -84,12 +94,12 @@ public class UnauthorizedMembersProvider {
   }
 
   private void addConsultantAndAskerOfSession(
-      Session session, Consultant consultant, List<String> authorizedMembers) {
+      Session session, Consultant consultant, Set<String> authorizedMembers) {
     authorizedMembers.add(session.getUser().getRcUserId());
     authorizedMembers.add(consultant.getRocketChatId());
   }
 
-  private void addTechnicalUsers(List<String> authorizedMembers) {
+  private void addTechnicalUsers(Set<String> authorizedMembers) {
     try {
       authorizedMembers.add(rocketChatCredentialsProvider.getTechnicalUser().getRocketChatUserId());
     } catch (RocketChatUserNotInitializedException e) {
@@ -99,7 +109,7 @@ public class UnauthorizedMembersProvider {
   }
 
   private void addTeamConsultantsIfNecessary(
-      String rcGroupId, Session session, List<String> authorizedMembers) {
+      String rcGroupId, Session session, Set<String> authorizedMembers) {
     List<Consultant> consultantsOfAgency =
         consultantService.findConsultantsByAgencyId(session.getAgencyId());
     addTeamConsultantsIfTeamSession(session, authorizedMembers, consultantsOfAgency);
@@ -108,7 +118,7 @@ public class UnauthorizedMembersProvider {
   }
 
   private void addTeamConsultantsIfTeamSession(
-      Session session, List<String> authorizedMembers, List<Consultant> consultantsOfAgency) {
+      Session session, Set<String> authorizedMembers, List<Consultant> consultantsOfAgency) {
     if (session.isTeamSession() && !session.hasFeedbackChat()) {
       consultantsOfAgency.stream()
           .filter(Consultant::isTeamConsultant)
@@ -123,16 +133,15 @@ public class UnauthorizedMembersProvider {
   private void addMainConsultantsIfFeedbackTeamSession(
       String rcGroupId,
       Session session,
-      List<String> authorizedMembers,
+      Set<String> authorizedMembers,
       List<Consultant> consultantsOfAgency) {
     if (isTeamSessionWithFeedbackChat(session)) {
       if (rcGroupId.equalsIgnoreCase(session.getGroupId())) {
-        obtainMainConsultantsOfGroup(
-            authorizedMembers, consultantsOfAgency, this::hasAuthorityToViewPeerGroups);
+        addConsultantsWithAuthority(authorizedMembers, consultantsOfAgency, VIEW_ALL_PEER_SESSIONS);
       }
       if (rcGroupId.equalsIgnoreCase(session.getFeedbackGroupId())) {
-        obtainMainConsultantsOfGroup(
-            authorizedMembers, consultantsOfAgency, this::hasAuthorityToViewFeedbackGroups);
+        addConsultantsWithAuthority(
+            authorizedMembers, consultantsOfAgency, VIEW_ALL_FEEDBACK_SESSIONS);
       }
     }
   }
@@ -141,21 +150,15 @@ public class UnauthorizedMembersProvider {
     return session.isTeamSession() && session.hasFeedbackChat();
   }
 
-  private void obtainMainConsultantsOfGroup(
-      List<String> authorizedMembers,
-      List<Consultant> consultantsOfAgency,
-      Predicate<Consultant> authorityMethod) {
+  private void addConsultantsWithAuthority(
+      Set<String> authorizedMembers, List<Consultant> consultantsOfAgency, String authority) {
+    var consultantIds =
+        consultantsOfAgency.stream().map(Consultant::getId).collect(Collectors.toSet());
+    var consultantIdsWithAuthority =
+        identityClient.filterUsersWithAuthority(consultantIds, authority);
     consultantsOfAgency.stream()
-        .filter(authorityMethod)
+        .filter(agencyConsultant -> consultantIdsWithAuthority.contains(agencyConsultant.getId()))
         .map(Consultant::getRocketChatId)
         .forEach(authorizedMembers::add);
   }
-
-  private boolean hasAuthorityToViewPeerGroups(Consultant consultant) {
-    return identityClient.userHasAuthority(consultant.getId(), VIEW_ALL_PEER_SESSIONS);
-  }
-
-  private boolean hasAuthorityToViewFeedbackGroups(Consultant consultant) {
-    return identityClient.userHasAuthority(consultant.getId(), VIEW_ALL_FEEDBACK_SESSIONS);
-  }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.facade.sessionlist;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
@@ -14,16 +15,32 @@ import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RocketChatRoomInformationProvider {
 
+  private static final String SUBSCRIPTIONS_CALL = "rocketChatSubscriptions";
+  private static final String ROOMS_CALL = "rocketChatRooms";
+  private static final String ROOM_INFORMATION_CALL = "rocketChatRoomInformation";
+
   private final RocketChatService rocketChatService;
+  private final RocketChatRoomStateStore rocketChatRoomStateStore;
+  private final SessionListEnrichmentExecutor sessionListEnrichmentExecutor;
+
+  @Value("${rocket-chat.room-state.incremental-sync.enabled}")
+  private boolean incrementalSyncEnabled;
 
-  public RocketChatRoomInformationProvider(RocketChatService rocketChatService) {
+  public RocketChatRoomInformationProvider(
+      RocketChatService rocketChatService,
+      RocketChatRoomStateStore rocketChatRoomStateStore,
+      SessionListEnrichmentExecutor sessionListEnrichmentExecutor) {
     this.rocketChatService = requireNonNull(rocketChatService);
+    this.rocketChatRoomStateStore = requireNonNull(rocketChatRoomStateStore);
+    this.sessionListEnrichmentExecutor = requireNonNull(sessionListEnrichmentExecutor);
   }
 
   /**
@@ -35,14 +52,59 @@ public class RocketChatRoomInformationProvider {
   public RocketChatRoomInformation retrieveRocketChatInformation(
       RocketChatCredentials rocketChatCredentials) {
 
+    if (sessionListEnrichmentExecutor.isParallel()) {
+      return sessionListEnrichmentExecutor.await(
+          ROOM_INFORMATION_CALL, retrieveRocketChatInformationAsync(rocketChatCredentials));
+    }
+
     Map<String, Boolean> readMessages = emptyMap();
     List<RoomsUpdateDTO> roomsForUpdate = emptyList();
 
     if (nonNull(rocketChatCredentials.getRocketChatUserId())) {
-      readMessages = buildMessagesWithReadInfo(rocketChatCredentials);
-      roomsForUpdate = rocketChatService.getRoomsOfUser(rocketChatCredentials);
+      readMessages =
+          sessionListEnrichmentExecutor.call(
+              SUBSCRIPTIONS_CALL, () -> buildMessagesWithReadInfo(rocketChatCredentials));
+      roomsForUpdate =
+          sessionListEnrichmentExecutor.call(
+              ROOMS_CALL, () -> getRoomsOfUser(rocketChatCredentials));
     }
 
+    return buildRocketChatRoomInformation(readMessages, roomsForUpdate);
+  }
+
+  /**
+   * Get room and update information from Rocket.Chat for a user. Subscriptions and rooms are
+   * requested concurrently if the parallel session list enrichment is enabled.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return a {@link CompletableFuture} of the {@link RocketChatRoomInformation}
+   */
+  public CompletableFuture<RocketChatRoomInformation> retrieveRocketChatInformationAsync(
+      RocketChatCredentials rocketChatCredentials) {
+
+    if (isNull(rocketChatCredentials.getRocketChatUserId())) {
+      return CompletableFuture.completedFuture(
+          buildRocketChatRoomInformation(emptyMap(), emptyList()));
+    }
+
+    // request scoped credentials are not available in the executing threads
+    var credentials =
+        RocketChatCredentials.builder()
+            .rocketChatToken(rocketChatCredentials.getRocketChatToken())
+            .rocketChatUserId(rocketChatCredentials.getRocketChatUserId())
+            .rocketChatUsername(rocketChatCredentials.getRocketChatUsername())
+            .build();
+    var readMessages =
+        sessionListEnrichmentExecutor.submit(
+            SUBSCRIPTIONS_CALL, () -> buildMessagesWithReadInfo(credentials));
+    var roomsForUpdate =
+        sessionListEnrichmentExecutor.submit(ROOMS_CALL, () -> getRoomsOfUser(credentials));
+
+    return readMessages.thenCombine(roomsForUpdate, this::buildRocketChatRoomInformation);
+  }
+
+  private RocketChatRoomInformation buildRocketChatRoomInformation(
+      Map<String, Boolean> readMessages, List<RoomsUpdateDTO> roomsForUpdate) {
     var userRooms = roomsForUpdate.stream().map(RoomsUpdateDTO::getId).collect(Collectors.toList());
     var lastMessagesRoom = getRcRoomLastMessages(roomsForUpdate);
     var groupIdToLastMessageFallbackDate =
@@ -60,13 +122,25 @@ public class RocketChatRoomInformationProvider {
   private Map<String, Boolean> buildMessagesWithReadInfo(
       RocketChatCredentials rocketChatCredentials) {
 
-    List<SubscriptionsUpdateDTO> subscriptions =
-        rocketChatService.getSubscriptionsOfUser(rocketChatCredentials);
+    List<SubscriptionsUpdateDTO> subscriptions = getSubscriptionsOfUser(rocketChatCredentials);
 
     return subscriptions.stream()
         .collect(Collectors.toMap(SubscriptionsUpdateDTO::getRoomId, this::isMessageRead));
   }
 
+  private List<SubscriptionsUpdateDTO> getSubscriptionsOfUser(
+      RocketChatCredentials rocketChatCredentials) {
+    return incrementalSyncEnabled
+        ? rocketChatRoomStateStore.getSubscriptionsOfUser(rocketChatCredentials)
+        : rocketChatService.getSubscriptionsOfUser(rocketChatCredentials);
+  }
+
+  private List<RoomsUpdateDTO> getRoomsOfUser(RocketChatCredentials rocketChatCredentials) {
+    return incrementalSyncEnabled
+        ? rocketChatRoomStateStore.getRoomsOfUser(rocketChatCredentials)
+        : rocketChatService.getRoomsOfUser(rocketChatCredentials);
+  }
+
   private boolean isMessageRead(SubscriptionsUpdateDTO subscription) {
     return nonNull(subscription.getUnread()) && subscription.getUnread() == 0;
   }
@@ -0,0 +1,171 @@
+package de.caritas.cob.userservice.api.facade.sessionlist;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the last known Rocket.Chat rooms and subscriptions per user and only fetches the changes
+ * since the previous synchronization via the updatedSince parameter of Rocket.Chat.
+ */
+@Component
+@RequiredArgsConstructor
+public class RocketChatRoomStateStore {
+
+  /** Overlap of delta requests to compensate clock differences to the Rocket.Chat server. */
+  private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofSeconds(10);
+
+  private final @NonNull RocketChatService rocketChatService;
+  private final @NonNull Clock clock;
+
+  @Value("${rocket-chat.room-state.max-users}")
+  private int maxUsers;
+
+  @Value("${rocket-chat.room-state.full-sync-interval-seconds}")
+  private long fullSyncIntervalSeconds;
+
+  private final Map<String, UserRoomState> userRoomStates =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserRoomState> eldest) {
+              return size() > maxUsers;
+            }
+          });
+
+  /**
+   * Returns the current subscriptions of the user, fetching only changes since the last call.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return the subscriptions of the user
+   */
+  public List<SubscriptionsUpdateDTO> getSubscriptionsOfUser(
+      RocketChatCredentials rocketChatCredentials) {
+    var state = obtainUserRoomState(rocketChatCredentials.getRocketChatUserId());
+    return synchronize(
+        state.subscriptions,
+        () -> rocketChatService.getSubscriptionsOfUser(rocketChatCredentials),
+        updatedSince -> {
+          var delta =
+              rocketChatService.getSubscriptionsOfUserUpdatedSince(
+                  rocketChatCredentials, updatedSince);
+          return new Delta<>(delta.getUpdate(), delta.getRemove());
+        },
+        SubscriptionsUpdateDTO::get_id);
+  }
+
+  /**
+   * Returns the current rooms of the user, fetching only changes since the last call.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return the rooms of the user
+   */
+  public List<RoomsUpdateDTO> getRoomsOfUser(RocketChatCredentials rocketChatCredentials) {
+    var state = obtainUserRoomState(rocketChatCredentials.getRocketChatUserId());
+    return synchronize(
+        state.rooms,
+        () -> rocketChatService.getRoomsOfUser(rocketChatCredentials),
+        updatedSince -> {
+          var delta =
+              rocketChatService.getRoomsOfUserUpdatedSince(rocketChatCredentials, updatedSince);
+          return new Delta<>(delta.getUpdate(), delta.getRemove());
+        },
+        RoomsUpdateDTO::getId);
+  }
+
+  /**
+   * Drops the stored state of the given user, so that the next call fetches the full state again.
+   *
+   * @param rcUserId the Rocket.Chat user id
+   */
+  public void evict(String rcUserId) {
+    userRoomStates.remove(rcUserId);
+  }
+
+  private UserRoomState obtainUserRoomState(String rcUserId) {
+    return userRoomStates.computeIfAbsent(rcUserId, id -> new UserRoomState());
+  }
+
+  private <T> List<T> synchronize(
+      Snapshot<T> snapshot,
+      Supplier<List<T>> fullFetch,
+      Function<Instant, Delta<T>> deltaFetch,
+      Function<T, String> idExtractor) {
+    synchronized (snapshot) {
+      var syncStart = clock.instant();
+      if (isFullSyncRequired(snapshot, syncStart)) {
+        snapshot.entriesById.clear();
+        fullFetch.get().forEach(entry -> snapshot.put(idExtractor.apply(entry), entry));
+        snapshot.lastFullSync = syncStart;
+      } else {
+        var delta = deltaFetch.apply(snapshot.lastSync.minus(CLOCK_SKEW_TOLERANCE));
+        delta.removed().forEach(entry -> snapshot.entriesById.remove(idExtractor.apply(entry)));
+        delta.updated().forEach(entry -> snapshot.put(idExtractor.apply(entry), entry));
+      }
+      snapshot.lastSync = syncStart;
+      return new ArrayList<>(snapshot.entriesById.values());
+    }
+  }
+
+  private boolean isFullSyncRequired(Snapshot<?> snapshot, Instant now) {
+    return isNull(snapshot.lastFullSync)
+        || snapshot.lastFullSync.plusSeconds(fullSyncIntervalSeconds).isBefore(now);
+  }
+
+  private static class UserRoomState {
+
+    private final Snapshot<RoomsUpdateDTO> rooms = new Snapshot<>();
+    private final Snapshot<SubscriptionsUpdateDTO> subscriptions = new Snapshot<>();
+  }
+
+  private static class Snapshot<T> {
+
+    private final Map<String, T> entriesById = new LinkedHashMap<>();
+    private Instant lastSync;
+    private Instant lastFullSync;
+
+    private void put(String id, T entry) {
+      if (nonNull(id)) {
+        entriesById.put(id, entry);
+      }
+    }
+  }
+
+  private static class Delta<T> {
+
+    private final T[] updated;
+    private final T[] removed;
+
+    private Delta(T[] updated, T[] removed) {
+      this.updated = updated;
+      this.removed = removed;
+    }
+
+    private List<T> updated() {
+      return nonNull(updated) ? Arrays.asList(updated) : List.of();
+    }
+
+    private List<T> removed() {
+      return nonNull(removed) ? Arrays.asList(removed) : List.of();
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package de.caritas.cob.userservice.api.facade.sessionlist;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes the remote calls needed to enrich session lists, either sequentially or concurrently on
+ * a dedicated bounded thread pool, and records the latency of each call.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionListEnrichmentExecutor {
+
+  private static final String CALL_TIMER = "userservice.sessionlist.enrichment.call";
+  private static final String THREAD_NAME_PREFIX = "SessionListEnrichment-";
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  @Value("${session-list.enrichment.parallel.enabled}")
+  private boolean parallelEnabled;
+
+  @Value("${session-list.enrichment.parallel.pool-size}")
+  private int poolSize;
+
+  @Value("${session-list.enrichment.parallel.queue-capacity}")
+  private int queueCapacity;
+
+  @Value("${session-list.enrichment.parallel.timeout-seconds}")
+  private long timeoutSeconds;
+
+  private ThreadPoolTaskExecutor executor;
+
+  @PostConstruct
+  public void initialize() {
+    if (parallelEnabled) {
+      executor = new ThreadPoolTaskExecutor();
+      executor.setCorePoolSize(poolSize);
+      executor.setMaxPoolSize(poolSize);
+      executor.setQueueCapacity(queueCapacity);
+      executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+      executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+      executor.initialize();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (nonNull(executor)) {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Returns true if enrichment calls are executed concurrently.
+   *
+   * @return true if the parallel mode is enabled
+   */
+  public boolean isParallel() {
+    return nonNull(executor);
+  }
+
+  /**
+   * Executes the given call in the current thread and records its latency.
+   *
+   * @param callName the name of the call used as metric tag
+   * @param call the call to execute
+   * @param <T> the result type
+   * @return the result of the call
+   */
+  public <T> T call(String callName, Supplier<T> call) {
+    return timer(callName).record(call);
+  }
+
+  /**
+   * Executes the given call on the enrichment thread pool and records its latency. Falls back to
+   * the current thread if the parallel mode is disabled.
+   *
+   * @param callName the name of the call used as metric tag
+   * @param call the call to execute
+   * @param <T> the result type
+   * @return a {@link CompletableFuture} of the result
+   */
+  public <T> CompletableFuture<T> submit(String callName, Supplier<T> call) {
+    if (!isParallel()) {
+      return CompletableFuture.completedFuture(call(callName, call));
+    }
+    return CompletableFuture.supplyAsync(() -> call(callName, call), executor);
+  }
+
+  /**
+   * Waits for the given future within the configured timeout.
+   *
+   * @param callName the name of the call for error messages
+   * @param future the {@link CompletableFuture} to wait for
+   * @param <T> the result type
+   * @return the result of the future
+   */
+  public <T> T await(String callName, CompletableFuture<T> future) {
+    try {
+      return future.get(timeoutSeconds, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new InternalServerErrorException(
+          "Session list enrichment call %s failed".formatted(callName), e);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new InternalServerErrorException(
+          "Session list enrichment call %s timed out".formatted(callName), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InternalServerErrorException(
+          "Session list enrichment call %s was interrupted".formatted(callName), e);
+    }
+  }
+
+  private Timer timer(String callName) {
+    return Timer.builder(CALL_TIMER)
+        .description("Latency of remote calls to enrich session lists")
+        .tag("call", callName)
+        .register(meterRegistry);
+  }
+}
@@ -45,6 +45,9 @@ public class SessionListFacade {
   @Value("${feature.topics.enabled}")
   private boolean topicsFeatureEnabled;
 
+  @Value("${session-list.database-pagination.enabled}")
+  private boolean databasePaginationEnabled;
+
   @Autowired(required = false)
   SessionTopicEnrichmentService sessionTopicEnrichmentService;
 
@@ -221,6 +224,18 @@ public class SessionListFacade {
   public ConsultantSessionListResponseDTO retrieveSessionsDtoForAuthenticatedConsultant(
       Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
 
+    /* The paged session list orders sessions in progress by the last message date stored in the
+     * database. It supports the feedback filter as well, so filtered and unfiltered pages share
+     * this order.
+     */
+    if (databasePaginationEnabled
+        && (!isFeedbackFilter(sessionListQueryParameter)
+            || consultantSessionListService.isFeedbackFilterSupportedByPagination(
+                sessionListQueryParameter))) {
+      return consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+          consultant, sessionListQueryParameter);
+    }
+
     List<ConsultantSessionResponseDTO> consultantSessions =
         consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(
             consultant, sessionListQueryParameter);
@@ -255,9 +270,10 @@ public class SessionListFacade {
 
   private void enrichWithTopicData(List<ConsultantSessionResponseDTO> consultantSessionsSublist) {
     if (consultantSessionsSublist != null) {
-      consultantSessionsSublist.stream()
-          .map(ConsultantSessionResponseDTO::getSession)
-          .forEach(sessionTopicEnrichmentService::enrichSessionWithTopicData);
+      sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+          consultantSessionsSublist.stream()
+              .map(ConsultantSessionResponseDTO::getSession)
+              .toList());
     }
   }
 
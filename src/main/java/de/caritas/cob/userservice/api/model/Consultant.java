@@ -64,6 +64,7 @@ public class Consultant implements TenantAware, NotificationsAware {
   @Column(name = "consultant_id", updatable = false, nullable = false)
   @Size(max = 36)
   @NonNull
+  @KeywordField
   private String id;
 
   @Column(name = "rc_user_id", updatable = false)
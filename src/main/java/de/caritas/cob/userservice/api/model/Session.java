@@ -37,6 +37,11 @@ import lombok.ToString.Exclude;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.Filter;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 import org.springframework.lang.Nullable;
 
 @Entity
@@ -47,6 +52,7 @@ import org.springframework.lang.Nullable;
 @Getter
 @Setter
 @ToString
+@Indexed
 @Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 public class Session implements TenantAware {
 
@@ -103,11 +109,13 @@ public class Session implements TenantAware {
 
   @ManyToOne
   @JoinColumn(name = "user_id", nullable = false)
+  @IndexedEmbedded(includePaths = {"userId", "username"})
   private User user;
 
   @ManyToOne
   @JoinColumn(name = "consultant_id")
   @Fetch(FetchMode.SELECT)
+  @IndexedEmbedded(includePaths = {"id", "username"})
   private Consultant consultant;
 
   @Column(
@@ -115,6 +123,7 @@ public class Session implements TenantAware {
       updatable = false,
       nullable = false,
       columnDefinition = "tinyint")
+  @GenericField
   private int consultingTypeId;
 
   @Column(
@@ -124,14 +133,17 @@ public class Session implements TenantAware {
       columnDefinition = "varchar(20) not null default 'REGISTERED'")
   @Enumerated(EnumType.STRING)
   @NonNull
+  @GenericField
   private RegistrationType registrationType;
 
   @Column(name = "postcode", nullable = false)
   @Size(max = 5)
   @NonNull
+  @KeywordField(sortable = Sortable.YES)
   private String postcode;
 
   @Column(name = "agency_id")
+  @GenericField
   private Long agencyId;
 
   @Enumerated(EnumType.STRING)
@@ -144,12 +156,17 @@ public class Session implements TenantAware {
 
   @NonNull
   @Column(columnDefinition = "tinyint")
+  @GenericField
   private SessionStatus status;
 
   @Column(name = "message_date")
   @Nullable
   private LocalDateTime enquiryMessageDate;
 
+  @Column(name = "last_message_date", columnDefinition = "datetime")
+  @Nullable
+  private LocalDateTime lastMessageDate;
+
   @Column(name = "rc_group_id")
   private String groupId;
 
@@ -177,12 +194,15 @@ public class Session implements TenantAware {
   }
 
   @Column(name = "create_date", columnDefinition = "datetime")
+  @GenericField(sortable = Sortable.YES)
   private LocalDateTime createDate;
 
   @Column(name = "update_date", columnDefinition = "datetime")
+  @GenericField(sortable = Sortable.YES)
   private LocalDateTime updateDate;
 
   @Column(name = "tenant_id")
+  @GenericField
   private Long tenantId;
 
   @Column(name = "main_topic_id")
@@ -239,4 +259,12 @@ public class Session implements TenantAware {
   public boolean isAdvised(String adviceSeekerId) {
     return nonNull(user) && nonNull(adviceSeekerId) && adviceSeekerId.equals(user.getUserId());
   }
+
+  /** Amount of open enquiries of one agency. */
+  public interface AgencyEnquiryCount {
+
+    Long getAgencyId();
+
+    Long getOpenEnquiries();
+  }
 }
@@ -0,0 +1,78 @@
+package de.caritas.cob.userservice.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Projection of the latest message of a Rocket.Chat group of a session or chat, maintained by the
+ * message callbacks of the user service to answer ordering and read state queries of session
+ * lists without requesting Rocket.Chat.
+ */
+@Entity
+@Builder
+@Table(name = "session_last_message")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString
+public class SessionLastMessage {
+
+  public enum GroupType {
+    SESSION,
+    FEEDBACK,
+    CHAT
+  }
+
+  @Id
+  @Column(name = "rc_group_id", updatable = false, nullable = false)
+  private String rcGroupId;
+
+  @Column(name = "session_id")
+  private Long sessionId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", length = 20, nullable = false)
+  private GroupType type;
+
+  @Column(name = "last_message_date", columnDefinition = "datetime", nullable = false)
+  private LocalDateTime lastMessageDate;
+
+  @Column(name = "last_sender_id")
+  private String lastSenderId;
+
+  @Column(name = "read_by_asker", columnDefinition = "tinyint default '0'")
+  private boolean readByAsker;
+
+  @Column(name = "read_by_consultant", columnDefinition = "tinyint default '0'")
+  private boolean readByConsultant;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SessionLastMessage)) {
+      return false;
+    }
+    SessionLastMessage that = (SessionLastMessage) o;
+    return rcGroupId.equals(that.rcGroupId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(rcGroupId);
+  }
+}
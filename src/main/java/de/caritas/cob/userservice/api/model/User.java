@@ -28,6 +28,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.ToString.Exclude;
 import org.hibernate.annotations.Filter;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -48,6 +49,7 @@ public class User implements TenantAware, NotificationsAware {
   @Column(name = "user_id", updatable = false, nullable = false)
   @Size(max = 36)
   @NonNull
+  @KeywordField
   private String userId;
 
   @Column(name = "id_old", updatable = false)
@@ -56,6 +58,7 @@ public class User implements TenantAware, NotificationsAware {
   @Column(name = "username", updatable = false, nullable = false)
   @Size(max = 255)
   @NonNull
+  @KeywordField
   private String username;
 
   @Column(name = "email", nullable = false)
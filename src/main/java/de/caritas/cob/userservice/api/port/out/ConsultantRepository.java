@@ -17,6 +17,8 @@ public interface ConsultantRepository extends CrudRepository<Consultant, String>
 
   Optional<Consultant> findByRocketChatIdAndDeleteDateIsNull(String id);
 
+  List<Consultant> findByRocketChatIdInAndDeleteDateIsNull(Collection<String> ids);
+
   Optional<Consultant> findByEmailAndDeleteDateIsNull(String email);
 
   Optional<Consultant> findByUsernameAndDeleteDateIsNull(String username);
@@ -5,9 +5,11 @@ import de.caritas.cob.userservice.api.adapters.keycloak.dto.KeycloakLoginRespons
 import de.caritas.cob.userservice.api.adapters.web.dto.UserDTO;
 import de.caritas.cob.userservice.api.config.auth.UserRole;
 import de.caritas.cob.userservice.api.model.OtpInfoDTO;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.keycloak.representations.idm.UserRepresentation;
 
 public interface IdentityClient {
@@ -73,6 +75,10 @@ public interface IdentityClient {
 
   boolean userHasRole(String userId, String userRole);
 
+  void prefetchRoles(Collection<String> userIds);
+
+  Set<String> filterUsersWithAuthority(Collection<String> userIds, String authority);
+
   List<UserRepresentation> findByUsername(String username);
 
   void closeSession(String sessionId);
@@ -0,0 +1,29 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import de.caritas.cob.userservice.api.model.SessionLastMessage;
+import java.util.Set;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface SessionLastMessageRepository extends CrudRepository<SessionLastMessage, String> {
+
+  /**
+   * Marks the latest messages of the given Rocket.Chat groups as read by the consultant, restricted
+   * to groups of sessions assigned to this consultant. Groups read by other consultants, e.g. by
+   * supervisors or team members, stay unread for the assigned consultant.
+   *
+   * @param rcGroupIds the Rocket.Chat group ids
+   * @param consultantId the id of the consultant who has read the groups
+   * @return the number of updated projections
+   */
+  @Modifying
+  @Query(
+      "UPDATE SessionLastMessage m SET m.readByConsultant = true "
+          + "WHERE m.rcGroupId IN :rcGroupIds AND m.readByConsultant = false "
+          + "AND m.sessionId IN "
+          + "(SELECT s.id FROM Session s WHERE s.consultant.id = :consultantId)")
+  int markReadByConsultant(
+      @Param("rcGroupIds") Set<String> rcGroupIds, @Param("consultantId") String consultantId);
+}
@@ -2,19 +2,25 @@ package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.AgencyEnquiryCount;
 import de.caritas.cob.userservice.api.model.Session.RegistrationType;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
-public interface SessionRepository extends CrudRepository<Session, Long> {
+public interface SessionRepository
+    extends CrudRepository<Session, Long>, JpaSpecificationExecutor<Session> {
 
   /**
    * Find a {@link Session} by a consultant id and a session status.
@@ -25,6 +31,18 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
    */
   List<Session> findByConsultantAndStatus(Consultant consultant, SessionStatus sessionStatus);
 
+  /**
+   * Find all {@link Session}s with an assigned consultant and the given status. Consultant and user
+   * are fetched with the same query.
+   *
+   * @param sessionStatus {@link SessionStatus}
+   * @return A list of {@link Session}s with a consultant and the given status
+   */
+  @Query(
+      "SELECT s FROM Session s JOIN FETCH s.consultant JOIN FETCH s.user "
+          + "WHERE s.status = :status")
+  List<Session> findWithConsultantByStatus(@Param("status") SessionStatus sessionStatus);
+
   /**
    * Find a {@link Session} by a consultant id and a session statuses.
    *
@@ -34,6 +52,99 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
    */
   List<Session> findByConsultantAndStatusIn(Consultant consultant, List<SessionStatus> statuses);
 
+  /**
+   * Find a page of {@link Session}s by a consultant and session statuses. The total of the page is
+   * determined by a separate count query.
+   *
+   * @param consultant {@link Consultant}
+   * @param statuses the {@link SessionStatus}es to search for
+   * @param pageable the pagination object including the sort order
+   * @return the result {@link Page}
+   */
+  Page<Session> findByConsultantAndStatusIn(
+      Consultant consultant, List<SessionStatus> statuses, Pageable pageable);
+
+  /**
+   * Find all {@link Session}s by a consultant and session statuses in the given order.
+   *
+   * @param consultant {@link Consultant}
+   * @param statuses the {@link SessionStatus}es to search for
+   * @param sort the sort order
+   * @return the ordered {@link Session}s
+   */
+  List<Session> findByConsultantAndStatusIn(
+      Consultant consultant, List<SessionStatus> statuses, Sort sort);
+
+  /**
+   * Find a page of {@link Session}s by a consultant and session statuses, whose latest feedback
+   * message has not been read by the consultant according to the last message projection.
+   *
+   * @param consultant {@link Consultant}
+   * @param statuses the {@link SessionStatus}es to search for
+   * @param pageable the pagination object including the sort order
+   * @return the result {@link Page}
+   */
+  @Query(
+      value =
+          "SELECT s FROM Session s JOIN SessionLastMessage m ON m.rcGroupId = s.feedbackGroupId "
+              + "WHERE s.consultant = :consultant AND s.status IN :statuses "
+              + "AND m.readByConsultant = false",
+      countQuery =
+          "SELECT COUNT(s) FROM Session s JOIN SessionLastMessage m "
+              + "ON m.rcGroupId = s.feedbackGroupId "
+              + "WHERE s.consultant = :consultant AND s.status IN :statuses "
+              + "AND m.readByConsultant = false")
+  Page<Session> findWithUnreadFeedbackByConsultantAndStatusIn(
+      @Param("consultant") Consultant consultant,
+      @Param("statuses") List<SessionStatus> statuses,
+      Pageable pageable);
+
+  /**
+   * Find the {@link Session}s of a consultant with given statuses, whose feedback group has no
+   * entry in the last message projection yet.
+   *
+   * @param consultant {@link Consultant}
+   * @param statuses the {@link SessionStatus}es to search for
+   * @return the sessions without feedback projection
+   */
+  @Query(
+      "SELECT s FROM Session s WHERE s.consultant = :consultant AND s.status IN :statuses "
+          + "AND s.feedbackGroupId IS NOT NULL AND NOT EXISTS "
+          + "(SELECT m FROM SessionLastMessage m WHERE m.rcGroupId = s.feedbackGroupId)")
+  List<Session> findWithoutFeedbackLastMessageByConsultantAndStatusIn(
+      @Param("consultant") Consultant consultant,
+      @Param("statuses") List<SessionStatus> statuses);
+
+  /**
+   * Find the last message dates of the {@link Session}s of a consultant with given statuses and a
+   * last message date equal to or after the given date in ascending order.
+   *
+   * @param consultant {@link Consultant}
+   * @param statuses the {@link SessionStatus}es to search for
+   * @param lastMessageDate the minimum last message date
+   * @return the ascending last message dates of the matching sessions
+   */
+  @Query(
+      "SELECT s.lastMessageDate FROM Session s WHERE s.consultant = :consultant "
+          + "AND s.status IN :statuses AND s.lastMessageDate >= :lastMessageDate "
+          + "ORDER BY s.lastMessageDate")
+  List<LocalDateTime> findLastMessageDatesByConsultantAndStatusInSince(
+      @Param("consultant") Consultant consultant,
+      @Param("statuses") List<SessionStatus> statuses,
+      @Param("lastMessageDate") LocalDateTime lastMessageDate);
+
+  /**
+   * Update the last message date of the {@link Session} with the given Rocket.Chat group id.
+   *
+   * @param groupId the rocket chat group id
+   * @param lastMessageDate the date of the last message
+   * @return the number of updated sessions
+   */
+  @Modifying
+  @Query("UPDATE Session s SET s.lastMessageDate = :lastMessageDate WHERE s.groupId = :groupId")
+  int updateLastMessageDateByGroupId(
+      @Param("groupId") String groupId, @Param("lastMessageDate") LocalDateTime lastMessageDate);
+
   /**
    * Find a {@link Session} list by a consultant and a session status ordered by update date desc.
    *
@@ -59,6 +170,22 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
       findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAsc(
           List<Long> agencyIds, SessionStatus sessionStatus, RegistrationType registrationType);
 
+  /**
+   * Find a page of {@link Session}s with unassigned consultant by agency ids, status and
+   * registration type.
+   *
+   * @param agencyIds ids of agencies to search for
+   * @param sessionStatus {@link SessionStatus} to search for
+   * @param registrationType {@link RegistrationType} to search for
+   * @param pageable the pagination object including the sort order
+   * @return the result {@link Page}
+   */
+  Page<Session> findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationType(
+      List<Long> agencyIds,
+      SessionStatus sessionStatus,
+      RegistrationType registrationType,
+      Pageable pageable);
+
   /**
    * Find a {@link Session} by agency ids with status and team session where consultant is not the
    * given consultant ordered by update date descending.
@@ -197,6 +324,22 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
   /** Find all sessions by a given {@link SessionStatus}. */
   List<Session> findByStatus(SessionStatus status);
 
+  /**
+   * Count the sessions with the given status and an enquiry message written before the given date,
+   * grouped by agency.
+   *
+   * @param sessionStatus {@link SessionStatus}
+   * @param enquiryMessageDate only enquiries written before this date are counted
+   * @return the amount of matching sessions per agency
+   */
+  @Query(
+      "SELECT s.agencyId AS agencyId, COUNT(s) AS openEnquiries FROM Session s "
+          + "WHERE s.status = :status AND s.enquiryMessageDate < :enquiryMessageDate "
+          + "AND s.agencyId IS NOT NULL GROUP BY s.agencyId")
+  List<AgencyEnquiryCount> countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+      @Param("status") SessionStatus sessionStatus,
+      @Param("enquiryMessageDate") LocalDateTime enquiryMessageDate);
+
   /** Find all sessions by a given {@link SessionStatus} and {@link RegistrationType}. */
   List<Session> findByStatusInAndRegistrationType(
       Set<SessionStatus> status, RegistrationType registrationType);
@@ -487,6 +487,7 @@ public class AskerImportService {
         session.setConsultant(consultant.get());
         session.setGroupId(rcGroupId);
         session.setEnquiryMessageDate(nowInUtc());
+        session.setLastMessageDate(session.getEnquiryMessageDate());
         session.setStatus(SessionStatus.IN_PROGRESS);
         session.setCreateDate(nowInUtc());
         session.setUpdateDate(nowInUtc());
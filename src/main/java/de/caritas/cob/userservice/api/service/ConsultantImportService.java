@@ -3,6 +3,7 @@ package de.caritas.cob.userservice.api.service;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantSearchIndexService;
 import de.caritas.cob.userservice.api.admin.service.consultant.create.CreateConsultantSaga;
 import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.ConsultantAgencyRelationCreatorService;
 import de.caritas.cob.userservice.api.exception.ImportException;
@@ -58,6 +59,7 @@ public class ConsultantImportService {
   private final @NonNull CreateConsultantSaga createConsultantSaga;
   private final @NonNull ConsultantAgencyRelationCreatorService
       consultantAgencyRelationCreatorService;
+  private final @NonNull ConsultantSearchIndexService consultantSearchIndexService;
 
   private static final String DELIMITER = ",";
   private static final String AGENCY_ROLE_DELIMITER = ";";
@@ -263,6 +265,9 @@ public class ConsultantImportService {
     } catch (IOException e) {
       e.printStackTrace();
     }
+
+    // make sure the admin search reflects all imported consultants
+    consultantSearchIndexService.markStale();
   }
 
   private void writeToImportLog(String message) {
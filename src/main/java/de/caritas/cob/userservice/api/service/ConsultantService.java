@@ -10,6 +10,7 @@ import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.ConsultantMobileToken;
 import de.caritas.cob.userservice.api.port.out.ConsultantMobileTokenRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -55,6 +56,19 @@ public class ConsultantService {
     return consultantRepository.findByRocketChatIdAndDeleteDateIsNull(rcUserId);
   }
 
+  /**
+   * Returns all not deleted {@link Consultant}s with one of the provided Rocket.Chat user IDs.
+   *
+   * @param rcUserIds Rocket.Chat user IDs
+   * @return the found {@link Consultant}s
+   */
+  public List<Consultant> getConsultantsByRcUserIds(Collection<String> rcUserIds) {
+    if (rcUserIds.isEmpty()) {
+      return List.of();
+    }
+    return consultantRepository.findByRocketChatIdInAndDeleteDateIsNull(rcUserIds);
+  }
+
   /**
    * Returns a {@link Consultant} by the provided email address.
    *
@@ -1,10 +1,10 @@
 package de.caritas.cob.userservice.api.service;
 
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.consultingtypeservice.generated.ApiClient;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.BasicConsultingTypeResponseDTO;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.ExtendedConsultingTypeResponseDTO;
 import java.util.List;
@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 
@@ -32,13 +33,17 @@ public class ConsultingTypeService {
    * @param consultingTypeId the consulting type ID for the extended consulting type response DTO
    * @return ExtendedConsultingTypeResponseDTO {@link ExtendedConsultingTypeResponseDTO}
    */
-  @Cacheable(cacheNames = CacheManagerConfig.CONSULTING_TYPE_CACHE, key = "#consultingTypeId")
+  @Cacheable(
+      cacheNames = CacheManagerConfig.CONSULTING_TYPE_CACHE,
+      key = "#consultingTypeId",
+      sync = true)
   public ExtendedConsultingTypeResponseDTO getExtendedConsultingTypeResponseDTO(
       int consultingTypeId) throws RestClientException {
     var consultingTypeControllerApi =
         consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
-    return consultingTypeControllerApi.getExtendedConsultingTypeById(consultingTypeId);
+    return ApiClientHeaders.callWith(
+        getDefaultHeaders(),
+        () -> consultingTypeControllerApi.getExtendedConsultingTypeById(consultingTypeId));
   }
 
   /**
@@ -46,19 +51,20 @@ public class ConsultingTypeService {
    *
    * @return list with consulting type ids
    */
-  @Cacheable(cacheNames = CacheManagerConfig.CONSULTING_TYPE_CACHE)
+  @Cacheable(cacheNames = CacheManagerConfig.CONSULTING_TYPE_CACHE, sync = true)
   public List<Integer> getAllConsultingTypeIds(Long tenantId) {
     var consultingTypeControllerApi =
         consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
-    return consultingTypeControllerApi.getBasicConsultingTypeList().stream()
+    return ApiClientHeaders.callWith(
+            getDefaultHeaders(), consultingTypeControllerApi::getBasicConsultingTypeList)
+        .stream()
         .map(BasicConsultingTypeResponseDTO::getId)
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders getDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
@@ -2,21 +2,31 @@ package de.caritas.cob.userservice.api.service;
 
 import de.caritas.cob.userservice.api.exception.CustomCryptoException;
 import de.caritas.cob.userservice.api.exception.NoMasterKeyException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.io.UnsupportedEncodingException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-public class DecryptionService {
+public class DecryptionService implements MeterBinder {
 
   private static final String CIPHER_METHODS = "AES/ECB/PKCS5PADDING";
   private static final String SECRET_KEY_SPEC_METHOD = "AES";
@@ -26,18 +36,34 @@ public class DecryptionService {
 
   private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
 
+  private static final int DEFAULT_KEY_CACHE_MAX_ENTRIES = 1000;
+
+  private static final String KEY_CACHE_METRIC_PREFIX = "userservice.decryption.key.cache.";
+
+  private static final ThreadLocal<Cipher> CIPHER = new ThreadLocal<>();
+
   @Value("${service.encryption.appkey}")
   private String fragment_applicationKey;
 
-  private String fragment_masterKey = INITIAL_MASTER_KEY;
+  @Value("${service.encryption.key-cache.max-entries}")
+  private int keyCacheMaxEntries = DEFAULT_KEY_CACHE_MAX_ENTRIES;
+
+  private volatile String fragment_masterKey = INITIAL_MASTER_KEY;
+
+  private volatile Map<String, SecretKeySpec> secretKeySpecCache = newSecretKeySpecCache();
+
+  private final LongAdder keyCacheHits = new LongAdder();
+  private final LongAdder keyCacheMisses = new LongAdder();
+  private final LongAdder keyCacheEvictions = new LongAdder();
 
   /**
-   * Updates the master key fragment
+   * Updates the master key fragment and invalidates all keys derived from the previous one.
    *
    * @param masterKey The master key fragment
    */
   public void updateMasterKey(String masterKey) {
     this.fragment_masterKey = masterKey;
+    this.secretKeySpecCache = newSecretKeySpecCache();
   }
 
   /**
@@ -58,28 +84,131 @@ public class DecryptionService {
     return this.fragment_applicationKey;
   }
 
+  /**
+   * Returns the number of derived keys served from the key cache.
+   *
+   * @return the key cache hit count
+   */
+  public long getKeyCacheHits() {
+    return this.keyCacheHits.sum();
+  }
+
+  /**
+   * Returns the number of keys which had to be derived because they were not cached.
+   *
+   * @return the key cache miss count
+   */
+  public long getKeyCacheMisses() {
+    return this.keyCacheMisses.sum();
+  }
+
+  /**
+   * Returns the number of derived keys evicted from the key cache due to its size limit.
+   *
+   * @return the key cache eviction count
+   */
+  public long getKeyCacheEvictions() {
+    return this.keyCacheEvictions.sum();
+  }
+
+  /**
+   * Returns the number of derived keys currently held in the key cache.
+   *
+   * @return the key cache size
+   */
+  public int getKeyCacheSize() {
+    return this.secretKeySpecCache.size();
+  }
+
+  @Override
+  public void bindTo(@NonNull MeterRegistry registry) {
+    FunctionCounter.builder(
+            KEY_CACHE_METRIC_PREFIX + "hits", this, DecryptionService::getKeyCacheHits)
+        .description("Derived group keys served from the key cache")
+        .register(registry);
+    FunctionCounter.builder(
+            KEY_CACHE_METRIC_PREFIX + "misses", this, DecryptionService::getKeyCacheMisses)
+        .description("Group keys derived because they were not cached")
+        .register(registry);
+    FunctionCounter.builder(
+            KEY_CACHE_METRIC_PREFIX + "evictions", this, DecryptionService::getKeyCacheEvictions)
+        .description("Derived group keys evicted due to the key cache size limit")
+        .register(registry);
+    Gauge.builder(KEY_CACHE_METRIC_PREFIX + "size", this, DecryptionService::getKeyCacheSize)
+        .description("Derived group keys currently cached")
+        .register(registry);
+  }
+
+  private Map<String, SecretKeySpec> newSecretKeySpecCache() {
+    return Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, SecretKeySpec> eldest) {
+            if (size() > keyCacheMaxEntries) {
+              keyCacheEvictions.increment();
+              return true;
+            }
+            return false;
+          }
+        });
+  }
+
+  /**
+   * Returns the SecretKeySpec for a given key, derived only once per master key.
+   *
+   * @param secret the key for the generation
+   * @return The SecretKeySpec based on the key
+   * @throws NoSuchAlgorithmException
+   * @throws UnsupportedEncodingException
+   */
+  private SecretKeySpec obtainSecretKeySpec(String secret)
+      throws UnsupportedEncodingException, NoSuchAlgorithmException {
+
+    var cache = this.secretKeySpecCache;
+    var keySpec = cache.get(secret);
+    if (keySpec != null) {
+      keyCacheHits.increment();
+      return keySpec;
+    }
+
+    keyCacheMisses.increment();
+    keySpec = generateSecretKeySpec(secret, getMasterKey());
+    cache.put(secret, keySpec);
+    return keySpec;
+  }
+
   /**
    * Prepares the SecretKeySpec for a given key
    *
    * @param secret the key for the generation
+   * @param masterKey the master key fragment to derive the key from
    * @return The SecretKeySpec based on the key or <null> in case of an error
    * @throws NoSuchAlgorithmException
    * @throws UnsupportedEncodingException
    */
-  private SecretKeySpec generateSecretKeySpec(String secret)
+  private SecretKeySpec generateSecretKeySpec(String secret, String masterKey)
       throws UnsupportedEncodingException, NoSuchAlgorithmException {
 
-    if (getMasterKey().equals(INITIAL_MASTER_KEY)) {
+    if (masterKey.equals(INITIAL_MASTER_KEY)) {
       throw new NoMasterKeyException("No MasterKey found - please provide a MasterKey!");
     }
 
-    byte[] keyByte = (getMasterKey() + secret + getApplicationKey()).getBytes("UTF-8");
+    byte[] keyByte = (masterKey + secret + getApplicationKey()).getBytes("UTF-8");
     MessageDigest sha = MessageDigest.getInstance(MESSAGE_DIGEST_METHOD);
     keyByte = sha.digest(keyByte);
     keyByte = Arrays.copyOf(keyByte, 16);
     return new SecretKeySpec(keyByte, SECRET_KEY_SPEC_METHOD);
   }
 
+  private Cipher obtainCipher() throws NoSuchPaddingException, NoSuchAlgorithmException {
+    var cipher = CIPHER.get();
+    if (cipher == null) {
+      cipher = Cipher.getInstance(CIPHER_METHODS);
+      CIPHER.set(cipher);
+    }
+    return cipher;
+  }
+
   /**
    * Decrypts a given message with the given secret
    *
@@ -96,8 +225,8 @@ public class DecryptionService {
     messageToDecrypt = messageToDecrypt.substring(ENCRYPTED_MESSAGE_FLAG.length());
 
     try {
-      SecretKeySpec keySpec = generateSecretKeySpec(secret);
-      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      SecretKeySpec keySpec = obtainSecretKeySpec(secret);
+      Cipher cipher = obtainCipher();
       cipher.init(Cipher.DECRYPT_MODE, keySpec);
       return new String(cipher.doFinal(Base64.getDecoder().decode(messageToDecrypt)));
     } catch (BadPaddingException e) {
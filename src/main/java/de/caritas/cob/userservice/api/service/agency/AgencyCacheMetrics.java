@@ -0,0 +1,68 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts hits and misses of the agency cache per lookup type and exposes the resulting hit ratio.
+ */
+@Component
+@RequiredArgsConstructor
+public class AgencyCacheMetrics {
+
+  static final String LOOKUP_BY_ID = "id";
+  static final String LOOKUP_BY_CONSULTING_TYPE = "consulting-type";
+
+  private static final String METRIC_PREFIX = "userservice.agency.cache";
+  private static final String LOOKUP_TAG = "lookup";
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  private final Map<String, LookupMeters> lookupMeters = new ConcurrentHashMap<>();
+
+  /**
+   * Records the result of one cache lookup.
+   *
+   * @param lookup the lookup type
+   * @param hits number of entries served from the cache
+   * @param misses number of entries loaded from the AgencyService
+   */
+  public void record(String lookup, int hits, int misses) {
+    var meters = lookupMeters.computeIfAbsent(lookup, this::registerMeters);
+    meters.hits().increment(hits);
+    meters.misses().increment(misses);
+  }
+
+  private LookupMeters registerMeters(String lookup) {
+    var hits =
+        Counter.builder(METRIC_PREFIX + ".requests")
+            .description("Agencies requested from the agency cache")
+            .tag(LOOKUP_TAG, lookup)
+            .tag("result", "hit")
+            .register(meterRegistry);
+    var misses =
+        Counter.builder(METRIC_PREFIX + ".requests")
+            .description("Agencies requested from the agency cache")
+            .tag(LOOKUP_TAG, lookup)
+            .tag("result", "miss")
+            .register(meterRegistry);
+    Gauge.builder(METRIC_PREFIX + ".hit.ratio", () -> hitRatio(hits, misses))
+        .description("Share of requested agencies served from the agency cache")
+        .tag(LOOKUP_TAG, lookup)
+        .register(meterRegistry);
+    return new LookupMeters(hits, misses);
+  }
+
+  private static double hitRatio(Counter hits, Counter misses) {
+    var requests = hits.count() + misses.count();
+    return requests > 0 ? hits.count() / requests : 0;
+  }
+
+  private record LookupMeters(Counter hits, Counter misses) {}
+}
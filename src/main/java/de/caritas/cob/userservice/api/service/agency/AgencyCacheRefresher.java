@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
+import de.caritas.cob.userservice.api.config.cache.RefreshingCacheLoader;
+import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides the loaders refreshing the agency caches in the background. The agencies are requested
+ * only with the data of the cache key, the tenant of consulting type agency ids is therefore part
+ * of their key and not taken from the tenant context.
+ */
+@Component
+@RequiredArgsConstructor
+public class AgencyCacheRefresher {
+
+  private static final String TENANT_ID_HEADER = "tenantId";
+
+  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
+  private final @NonNull AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
+  private final AgencyDtoMapper agencyDtoMapper = new AgencyDtoMapper();
+
+  /**
+   * Returns the loader refreshing agencies cached per agency id.
+   *
+   * @return the {@link RefreshingCacheLoader} of the agency cache
+   */
+  public RefreshingCacheLoader agencyCacheLoader() {
+    return new RefreshingCacheLoader(agencyId -> refreshAgency((Long) agencyId));
+  }
+
+  /**
+   * Returns the loader refreshing the agency ids cached per tenant and consulting type.
+   *
+   * @return the {@link RefreshingCacheLoader} of the consulting type agencies cache
+   */
+  public RefreshingCacheLoader consultingTypeAgenciesCacheLoader() {
+    return new RefreshingCacheLoader(
+        key -> refreshConsultingTypeAgencyIds((ConsultingTypeAgenciesKey) key));
+  }
+
+  private Object refreshAgency(Long agencyId) {
+    var agencyControllerApi = agencyServiceApiControllerFactory.createControllerApi();
+    return ApiClientHeaders.callWith(
+            securityHeaderSupplier.getCsrfHttpHeaders(),
+            () -> agencyControllerApi.getAgenciesByIds(List.of(agencyId)))
+        .stream()
+        .map(agencyDtoMapper::agencyDtoOf)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private Object refreshConsultingTypeAgencyIds(ConsultingTypeAgenciesKey key) {
+    var agencyControllerApi = agencyServiceApiControllerFactory.createControllerApi();
+    var agencyIds =
+        ApiClientHeaders.callWith(
+                headersOf(key),
+                () -> agencyControllerApi.getAgenciesByConsultingType(key.consultingTypeId()))
+            .stream()
+            .map(agency -> agencyDtoMapper.agencyDtoOf(agency).getId())
+            .collect(Collectors.toUnmodifiableList());
+    return new ConsultingTypeAgencyIds(agencyIds);
+  }
+
+  private HttpHeaders headersOf(ConsultingTypeAgenciesKey key) {
+    var headers = securityHeaderSupplier.getCsrfHttpHeaders();
+    if (nonNull(key.tenantId())) {
+      headers.add(TENANT_ID_HEADER, key.tenantId().toString());
+    }
+    return headers;
+  }
+}
@@ -0,0 +1,34 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import java.util.ArrayList;
+
+/** Mapper class to map the agencies of the AgencyService to the {@link AgencyDTO}. */
+public class AgencyDtoMapper {
+
+  /**
+   * Maps the given {@link AgencyResponseDTO} of the AgencyService to an {@link AgencyDTO}.
+   *
+   * @param agencyResponseDTO the agency of the AgencyService
+   * @return the mapped {@link AgencyDTO}
+   */
+  public AgencyDTO agencyDtoOf(AgencyResponseDTO agencyResponseDTO) {
+    return new AgencyDTO()
+        .id(agencyResponseDTO.getId())
+        .name(agencyResponseDTO.getName())
+        .postcode(agencyResponseDTO.getPostcode())
+        .city(agencyResponseDTO.getCity())
+        .description(agencyResponseDTO.getDescription())
+        .teamAgency(agencyResponseDTO.getTeamAgency())
+        .offline(agencyResponseDTO.getOffline())
+        .consultingType(agencyResponseDTO.getConsultingType())
+        .tenantId(agencyResponseDTO.getTenantId())
+        .topicIds(
+            isNull(agencyResponseDTO.getTopicIds())
+                ? null
+                : new ArrayList<>(agencyResponseDTO.getTopicIds()));
+  }
+}
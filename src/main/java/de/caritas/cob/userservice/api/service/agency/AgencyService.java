@@ -1,25 +1,33 @@
 package de.caritas.cob.userservice.api.service.agency;
 
+import static de.caritas.cob.userservice.api.service.agency.AgencyCacheMetrics.LOOKUP_BY_CONSULTING_TYPE;
+import static de.caritas.cob.userservice.api.service.agency.AgencyCacheMetrics.LOOKUP_BY_ID;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
-import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
-import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 /** Service class to communicate with the AgencyService. */
@@ -30,6 +38,10 @@ public class AgencyService {
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
   private final @NonNull AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
+  private final @NonNull CacheManager cacheManager;
+  private final @NonNull AgencyCacheMetrics agencyCacheMetrics;
+  private final AgencyDtoMapper agencyDtoMapper = new AgencyDtoMapper();
+
   /**
    * Returns the {@link AgencyDTO} for the provided agencyId. Agency will be cached for further
    * requests.
@@ -37,7 +49,7 @@ public class AgencyService {
    * @param agencyId {@link AgencyDTO#getId()}
    * @return AgencyDTO {@link AgencyDTO}
    */
-  @Cacheable(value = CacheManagerConfig.AGENCY_CACHE, key = "#agencyId")
+  @Cacheable(value = CacheManagerConfig.AGENCY_CACHE, key = "#agencyId", sync = true)
   public AgencyDTO getAgency(Long agencyId) {
     return getAgenciesFromAgencyService(Collections.singletonList(agencyId)).iterator().next();
   }
@@ -54,15 +66,44 @@ public class AgencyService {
   }
 
   /**
-   * Returns List of {@link AgencyDTO} for provided agencyIds. Agencies will be cached for further
-   * requests.
+   * Returns List of {@link AgencyDTO} for provided agencyIds. Agencies are cached per id, so only
+   * the agencies missing in the cache are requested from the AgencyService, all of them at once.
    *
    * @param agencyIds List of {@link AgencyDTO#getId()}
-   * @return List<AgencyDTO> List of {@link AgencyDTO}
+   * @return List<AgencyDTO> List of {@link AgencyDTO} in the order of the given ids
    */
-  @Cacheable(value = CacheManagerConfig.AGENCY_CACHE, key = "#agencyIds")
   public List<AgencyDTO> getAgencies(List<Long> agencyIds) {
-    return getAgenciesFromAgencyService(agencyIds);
+    if (isEmpty(agencyIds)) {
+      return emptyList();
+    }
+    var cache = cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE);
+    if (isNull(cache)) {
+      return getAgenciesFromAgencyService(agencyIds);
+    }
+    var distinctAgencyIds = agencyIds.stream().distinct().collect(Collectors.toList());
+    Map<Long, AgencyDTO> agenciesById = new HashMap<>();
+    List<Long> missingAgencyIds = new ArrayList<>();
+    distinctAgencyIds.forEach(
+        agencyId -> {
+          var cachedAgency = cache.get(agencyId, AgencyDTO.class);
+          if (nonNull(cachedAgency)) {
+            agenciesById.put(agencyId, cachedAgency);
+          } else {
+            missingAgencyIds.add(agencyId);
+          }
+        });
+    agencyCacheMetrics.record(LOOKUP_BY_ID, agenciesById.size(), missingAgencyIds.size());
+    getAgenciesFromAgencyService(missingAgencyIds)
+        .forEach(
+            agency -> {
+              cache.put(agency.getId(), agency);
+              agenciesById.put(agency.getId(), agency);
+            });
+
+    return distinctAgencyIds.stream()
+        .map(agenciesById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   public List<AgencyDTO> getAgenciesNotCached(List<Long> agencyIds) {
@@ -78,9 +119,10 @@ public class AgencyService {
   private List<AgencyDTO> getAgenciesFromAgencyService(List<Long> agencyIds) {
     if (isNotEmpty(agencyIds)) {
       AgencyControllerApi agencyControllerApi = this.getAgencyControllerApi();
-      addDefaultHeaders(agencyControllerApi.getApiClient());
-      return agencyControllerApi.getAgenciesByIds(agencyIds).stream()
-          .map(this::fromOriginalAgency)
+      return ApiClientHeaders.callWith(
+              getDefaultHeaders(), () -> agencyControllerApi.getAgenciesByIds(agencyIds))
+          .stream()
+          .map(agencyDtoMapper::agencyDtoOf)
           .collect(Collectors.toList());
     }
     return emptyList();
@@ -91,35 +133,51 @@ public class AgencyService {
   }
 
   /**
-   * Returns a list of {@link AgencyDTO} for the provided consulting type.
+   * Returns a list of {@link AgencyDTO} for the provided consulting type. The ids of the agencies
+   * are cached per tenant and consulting type, the agencies themselves like in {@link
+   * #getAgencies(List)}.
    *
-   * @param consultingTypeId
+   * @param consultingTypeId the consulting type ID
    * @return List of {@link AgencyDTO}
    */
   public List<AgencyDTO> getAgenciesByConsultingType(int consultingTypeId) {
+    var agencyCache = cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE);
+    var agencyIdsCache = cacheManager.getCache(CacheManagerConfig.CONSULTING_TYPE_AGENCIES_CACHE);
+    if (isNull(agencyCache) || isNull(agencyIdsCache)) {
+      return getAgenciesByConsultingTypeFromAgencyService(consultingTypeId);
+    }
+    var key = new ConsultingTypeAgenciesKey(TenantContext.getCurrentTenant(), consultingTypeId);
+    var cachedAgencyIds = agencyIdsCache.get(key, ConsultingTypeAgencyIds.class);
+    if (nonNull(cachedAgencyIds)) {
+      agencyCacheMetrics.record(LOOKUP_BY_CONSULTING_TYPE, 1, 0);
+      return getAgencies(cachedAgencyIds.agencyIds());
+    }
+    agencyCacheMetrics.record(LOOKUP_BY_CONSULTING_TYPE, 0, 1);
+    var agencies = getAgenciesByConsultingTypeFromAgencyService(consultingTypeId);
+    agencies.forEach(agency -> agencyCache.put(agency.getId(), agency));
+    agencyIdsCache.put(key, agencyIdsOf(agencies));
+    return agencies;
+  }
+
+  private static ConsultingTypeAgencyIds agencyIdsOf(List<AgencyDTO> agencies) {
+    return new ConsultingTypeAgencyIds(
+        agencies.stream().map(AgencyDTO::getId).collect(Collectors.toUnmodifiableList()));
+  }
+
+  private List<AgencyDTO> getAgenciesByConsultingTypeFromAgencyService(int consultingTypeId) {
     var agencyControllerApi = getAgencyControllerApi();
-    addDefaultHeaders(agencyControllerApi.getApiClient());
-    return agencyControllerApi.getAgenciesByConsultingType(consultingTypeId).stream()
-        .map(this::fromOriginalAgency)
+    return ApiClientHeaders.callWith(
+            getDefaultHeaders(),
+            () -> agencyControllerApi.getAgenciesByConsultingType(consultingTypeId))
+        .stream()
+        .map(agencyDtoMapper::agencyDtoOf)
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders getDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
-  }
-
-  private AgencyDTO fromOriginalAgency(AgencyResponseDTO agencyResponseDTO) {
-    var objectMapper = new ObjectMapper();
-    try {
-      return objectMapper.readValue(
-          objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
-    } catch (JsonProcessingException e) {
-      throw new InternalServerErrorException(
-          "Model definition of agency in userservice does not "
-              + "match the definition of agencyservice");
-    }
+    return headers;
   }
 
   /**
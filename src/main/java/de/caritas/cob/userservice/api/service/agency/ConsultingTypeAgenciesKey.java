@@ -0,0 +1,4 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+/** Cache key of the agency ids of a consulting type, agencies may differ between tenants. */
+record ConsultingTypeAgenciesKey(Long tenantId, int consultingTypeId) {}
@@ -0,0 +1,6 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import java.util.List;
+
+/** Cached ids of the agencies of a consulting type. */
+record ConsultingTypeAgencyIds(List<Long> agencyIds) {}
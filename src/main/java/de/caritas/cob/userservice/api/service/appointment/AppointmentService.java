@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantAdminResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.CreateConsultantAgencyDTO;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.config.apiclient.AppointmentAgencyServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.config.apiclient.AppointmentAskerServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.config.apiclient.AppointmentConsultantServiceApiControllerFactory;
@@ -14,7 +15,6 @@ import de.caritas.cob.userservice.api.port.out.IdentityClient;
 import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.appointmentservice.generated.ApiClient;
 import de.caritas.cob.userservice.appointmentservice.generated.web.AgencyApi;
 import de.caritas.cob.userservice.appointmentservice.generated.web.ConsultantApi;
 import de.caritas.cob.userservice.appointmentservice.generated.web.model.AgencyConsultantSyncRequestDTO;
@@ -64,10 +64,11 @@ public class AppointmentService {
       ObjectMapper mapper = getObjectMapper(false);
       ConsultantApi appointmentConsultantApi =
           this.appointmentConsultantServiceApiControllerFactory.createControllerApi();
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = getTechnicalUserHeaders();
       de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO consultant =
           getConsultantDTO(consultantAdminResponseDTO, mapper);
-      appointmentConsultantApi.createConsultant(consultant);
+      ApiClientHeaders.runWith(
+          headers, () -> appointmentConsultantApi.createConsultant(consultant));
     }
   }
 
@@ -108,14 +109,16 @@ public class AppointmentService {
 
     if (consultantAdminResponseDTO != null) {
       ObjectMapper mapper = getObjectMapper(false);
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = getTechnicalUserHeaders();
       try {
         de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO consultant =
             mapper.readValue(
                 mapper.writeValueAsString(consultantAdminResponseDTO.getEmbedded()),
                 de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO
                     .class);
-        appointmentConsultantApi.updateConsultant(consultant.getId(), consultant);
+        ApiClientHeaders.runWith(
+            headers,
+            () -> appointmentConsultantApi.updateConsultant(consultant.getId(), consultant));
       } catch (Exception e) {
         log.error(e.getMessage());
       }
@@ -141,9 +144,10 @@ public class AppointmentService {
         this.appointmentConsultantServiceApiControllerFactory.createControllerApi();
 
     if (consultantId != null && !consultantId.isEmpty()) {
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = getTechnicalUserHeaders();
       try {
-        appointmentConsultantApi.deleteConsultant(consultantId);
+        ApiClientHeaders.runWith(
+            headers, () -> appointmentConsultantApi.deleteConsultant(consultantId));
       } catch (HttpClientErrorException ex) {
         acceptDeletionIfConsultantNotFoundInAppointmentService(ex, consultantId);
       }
@@ -162,13 +166,13 @@ public class AppointmentService {
   }
 
   @SuppressWarnings("Duplicates")
-  private void addTechnicalUserHeaders(ApiClient apiClient) {
+  private HttpHeaders getTechnicalUserHeaders() {
     var techUser = identityClientConfig.getTechnicalUser();
     var keycloakLogin = identityClient.loginUser(techUser.getUsername(), techUser.getPassword());
     var headers =
         securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders(keycloakLogin.getAccessToken());
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
   public void syncAgencies(String consultantId, List<CreateConsultantAgencyDTO> agencyList) {
@@ -179,7 +183,7 @@ public class AppointmentService {
     AgencyApi controllerApi =
         this.appointmentAgencyServiceApiControllerFactory.createControllerApi();
 
-    addTechnicalUserHeaders(controllerApi.getApiClient());
+    var headers = getTechnicalUserHeaders();
     var agencies =
         agencyList.stream()
             .map(CreateConsultantAgencyDTO::getAgencyId)
@@ -187,7 +191,7 @@ public class AppointmentService {
     AgencyConsultantSyncRequestDTO request = new AgencyConsultantSyncRequestDTO();
     request.setAgencies(agencies);
     request.setConsultantId(consultantId);
-    controllerApi.agencyConsultantsSync(request);
+    ApiClientHeaders.runWith(headers, () -> controllerApi.agencyConsultantsSync(request));
   }
 
   public void deleteAsker(String askerId) {
@@ -196,8 +200,8 @@ public class AppointmentService {
     }
     de.caritas.cob.userservice.appointmentservice.generated.web.AskerApi controllerApi =
         this.appointmentAskerServiceApiControllerFactory.createControllerApi();
-    addTechnicalUserHeaders(controllerApi.getApiClient());
-    controllerApi.deleteAskerData(askerId);
+    ApiClientHeaders.runWith(
+        getTechnicalUserHeaders(), () -> controllerApi.deleteAskerData(askerId));
   }
 
   public void updateAskerEmail(String askerId, String email) {
@@ -206,21 +210,20 @@ public class AppointmentService {
     }
     de.caritas.cob.userservice.appointmentservice.generated.web.AskerApi askerApi =
         this.appointmentAskerServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(askerApi.getApiClient());
+    var headers = getDefaultHeaders();
     try {
       de.caritas.cob.userservice.appointmentservice.generated.web.model.AskerDTO askerDTO =
           new AskerDTO().id(askerId).email(email);
-      askerApi.updateAskerEmail(askerId, askerDTO);
+      ApiClientHeaders.runWith(headers, () -> askerApi.updateAskerEmail(askerId, askerDTO));
     } catch (Exception e) {
       log.error(e.getMessage());
     }
   }
 
-  private void addDefaultHeaders(
-      de.caritas.cob.userservice.appointmentservice.generated.ApiClient apiClient) {
+  private HttpHeaders getDefaultHeaders() {
     HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
   public void patchConsultant(String consultantId, String displayName) {
@@ -231,12 +234,13 @@ public class AppointmentService {
         this.appointmentConsultantServiceApiControllerFactory.createControllerApi();
 
     if (consultantId != null && !consultantId.isEmpty()) {
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = getTechnicalUserHeaders();
+      var consultant =
+          new de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO()
+              .displayName(displayName);
       try {
-        appointmentConsultantApi.patchConsultant(
-            consultantId,
-            new de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO()
-                .displayName(displayName));
+        ApiClientHeaders.runWith(
+            headers, () -> appointmentConsultantApi.patchConsultant(consultantId, consultant));
       } catch (HttpClientErrorException ex) {
         acceptDeletionIfConsultantNotFoundInAppointmentService(ex, consultantId);
       }
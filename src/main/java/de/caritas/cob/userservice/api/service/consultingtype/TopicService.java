@@ -3,10 +3,10 @@ package de.caritas.cob.userservice.api.service.consultingtype;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.config.apiclient.TopicServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.topicservice.generated.ApiClient;
 import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
 import java.util.Collection;
@@ -35,28 +35,26 @@ public class TopicService {
   public List<TopicDTO> getAllTopics() {
     log.info("Calling topic service to get all topics");
     TopicControllerApi controllerApi = topicServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return controllerApi.getAllTopics();
+    return ApiClientHeaders.callWith(getDefaultHeaders(), controllerApi::getAllTopics);
   }
 
   public List<TopicDTO> getAllActiveTopics() {
     // Public endpoints needs to be called without Authentication header as not to cause a 401 error
     TopicControllerApi controllerApi = topicServiceApiControllerFactory.createControllerApi();
-    addTenantHeaders(controllerApi.getApiClient());
     log.info("Calling topic service to get all active topics");
-    return controllerApi.getAllActiveTopics();
+    return ApiClientHeaders.callWith(getTenantHeaders(), controllerApi::getAllActiveTopics);
   }
 
-  private void addTenantHeaders(ApiClient apiClient) {
+  private HttpHeaders getTenantHeaders() {
     var headers = new HttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders getDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
   @Cacheable(cacheNames = CacheManagerConfig.TOPICS_CACHE)
@@ -11,42 +11,24 @@ import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.TemplateDataDTO;
-import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
-import org.springframework.context.annotation.Scope;
-import org.springframework.stereotype.Service;
 
 /** Supplier to provide mails to be sent when an enquiry is assigned. */
 @Slf4j
-@AllArgsConstructor
-@NoArgsConstructor
-@Service
-@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+@Builder
 public class AssignEnquiryEmailSupplier implements EmailSupplier {
 
-  @Setter private Consultant receiverConsultant;
-
-  @Setter private String senderUserId;
-
-  @Setter private String askerUserName;
-
-  @Value("${app.base.url}")
-  private String applicationBaseUrl;
-
-  @Autowired private ConsultantService consultantService;
-  @Autowired private TenantTemplateSupplier tenantTemplateSupplier;
-
-  @Value("${multitenancy.enabled}")
-  private boolean multiTenancyEnabled;
+  private final Consultant receiverConsultant;
+  private final String senderUserId;
+  private final String askerUserName;
+  private final String applicationBaseUrl;
+  private final ConsultantService consultantService;
+  private final TenantTemplateSupplier tenantTemplateSupplier;
+  private final boolean multiTenancyEnabled;
 
   /**
    * Generates the enquiry notification mail sent to regarding consultant.
@@ -54,7 +36,6 @@ public class AssignEnquiryEmailSupplier implements EmailSupplier {
    * @return a list of the generated {@link MailDTO}
    */
   @Override
-  @Transactional
   public List<MailDTO> generateEmails() {
     if (isReceiverConsultantValid()) {
       return buildAssignEnquiryMailWithValidReceiver();
@@ -18,45 +18,26 @@ import de.caritas.cob.userservice.api.service.consultingtype.ReleaseToggle;
 import de.caritas.cob.userservice.api.service.consultingtype.ReleaseToggleService;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.TemplateDataDTO;
-import jakarta.transaction.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.beans.factory.config.ConfigurableBeanFactory;
-import org.springframework.context.annotation.Scope;
-import org.springframework.stereotype.Service;
 
 /** Supplier to provide mails to be sent when a new enquiry was created. */
-@RequiredArgsConstructor
-@Service
+@Builder
 @Slf4j
-@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class NewEnquiryEmailSupplier implements EmailSupplier {
 
-  private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
-  private final @NonNull AgencyService agencyService;
-
-  private final @NonNull ReleaseToggleService releaseToggleService;
-
-  @Value("${app.base.url}")
-  private String applicationBaseUrl;
-
-  private Session session;
-
-  @Value("${multitenancy.enabled}")
-  private boolean multiTenancyEnabled;
-
+  private final Session session;
+  private final ConsultantAgencyRepository consultantAgencyRepository;
+  private final AgencyService agencyService;
+  private final ReleaseToggleService releaseToggleService;
+  private final String applicationBaseUrl;
+  private final boolean multiTenancyEnabled;
   private final TenantTemplateSupplier tenantTemplateSupplier;
 
-  public void setCurrentSession(Session session) {
-    this.session = session;
-  }
-
   /**
    * Generates the enquiry notification mails sent to regarding consultants when a new enquiry has
    * been created.
@@ -64,7 +45,6 @@ public class NewEnquiryEmailSupplier implements EmailSupplier {
    * @return a list of the generated {@link MailDTO}
    */
   @Override
-  @Transactional
   public List<MailDTO> generateEmails() {
     log.info("Generating emails for new enquiry");
     List<ConsultantAgency> consultantAgencyList =
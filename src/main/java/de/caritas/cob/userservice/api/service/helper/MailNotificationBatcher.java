@@ -0,0 +1,110 @@
+package de.caritas.cob.userservice.api.service.helper;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
+import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the notification mails generated within a short window and hands them to the
+ * MailService with one call per tenant. With a window of zero the mails are sent immediately.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailNotificationBatcher {
+
+  private final @NonNull MailService mailService;
+
+  @Value("${mail.notification.batch.window-millis}")
+  private long batchWindowMillis;
+
+  private final Map<TenantData, List<MailDTO>> pendingMails = new ConcurrentHashMap<>();
+
+  private ScheduledExecutorService flushScheduler;
+
+  @PostConstruct
+  public void startFlushScheduler() {
+    if (batchWindowMillis > 0) {
+      flushScheduler =
+          Executors.newSingleThreadScheduledExecutor(
+              new CustomizableThreadFactory("MailNotificationBatcher-"));
+    }
+  }
+
+  /**
+   * Sends the given mails within the current tenant context, together with all other mails of the
+   * same tenant added during the batch window.
+   *
+   * @param mails the mails to send
+   */
+  public void send(List<MailDTO> mails) {
+    if (isEmpty(mails)) {
+      return;
+    }
+    if (flushScheduler == null) {
+      mailService.sendEmailNotification(new MailsDTO().mails(new ArrayList<>(mails)));
+      return;
+    }
+    var tenant = currentTenant();
+    pendingMails.compute(
+        tenant,
+        (key, batch) -> {
+          if (batch == null) {
+            batch = new ArrayList<>();
+            flushScheduler.schedule(() -> flush(key), batchWindowMillis, TimeUnit.MILLISECONDS);
+          }
+          batch.addAll(mails);
+          return batch;
+        });
+  }
+
+  @PreDestroy
+  public void flushPendingMails() {
+    if (nonNull(flushScheduler)) {
+      flushScheduler.shutdownNow();
+      pendingMails.keySet().forEach(this::flush);
+    }
+  }
+
+  private void flush(TenantData tenant) {
+    var batch = pendingMails.remove(tenant);
+    if (isEmpty(batch)) {
+      return;
+    }
+    TenantContext.setCurrentTenantData(tenant);
+    try {
+      log.info("Sending {} batched email notifications for tenant {}", batch.size(), tenant);
+      mailService.sendEmailNotification(new MailsDTO().mails(batch));
+    } catch (Exception e) {
+      log.error("MailNotificationBatcher error: Failed to send batched email notifications", e);
+    } finally {
+      TenantContext.clear();
+    }
+  }
+
+  private static TenantData currentTenant() {
+    var tenantData = TenantContext.getCurrentTenantData();
+    return nonNull(tenantData)
+        ? new TenantData(tenantData.getTenantId(), tenantData.getSubdomain())
+        : new TenantData();
+  }
+}
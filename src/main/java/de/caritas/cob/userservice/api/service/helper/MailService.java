@@ -1,8 +1,8 @@
 package de.caritas.cob.userservice.api.service.helper;
 
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.config.apiclient.MailServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
-import de.caritas.cob.userservice.mailservice.generated.ApiClient;
 import de.caritas.cob.userservice.mailservice.generated.web.MailsControllerApi;
 import de.caritas.cob.userservice.mailservice.generated.web.model.ErrorMailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
@@ -28,20 +28,14 @@ public class MailService {
    */
   public void sendEmailNotification(MailsDTO mailsDTO) {
     MailsControllerApi controllerApi = mailServiceApiControllerFactory.createControllerApi();
-    addSecurityHeaders(controllerApi);
+    HttpHeaders headers = securityHeaderSupplier.getCsrfHttpHeaders();
     try {
-      controllerApi.sendMails(mailsDTO);
+      ApiClientHeaders.runWith(headers, () -> controllerApi.sendMails(mailsDTO));
     } catch (Exception e) {
       log.error("MailServiceHelper error: Error while calling the MailService", e);
     }
   }
 
-  private void addSecurityHeaders(MailsControllerApi controllerApi) {
-    HttpHeaders header = securityHeaderSupplier.getCsrfHttpHeaders();
-    ApiClient apiClient = controllerApi.getApiClient();
-    header.forEach((name, value) -> apiClient.addDefaultHeader(name, value.iterator().next()));
-  }
-
   /**
    * Send a error email notification via the MailService to configured error recipients.
    *
@@ -49,9 +43,9 @@ public class MailService {
    */
   public void sendErrorEmailNotification(ErrorMailDTO errorMailDTO) {
     MailsControllerApi controllerApi = mailServiceApiControllerFactory.createControllerApi();
-    addSecurityHeaders(controllerApi);
+    HttpHeaders headers = securityHeaderSupplier.getCsrfHttpHeaders();
     try {
-      controllerApi.sendErrorMail(errorMailDTO);
+      ApiClientHeaders.runWith(headers, () -> controllerApi.sendErrorMail(errorMailDTO));
     } catch (Exception e) {
       log.error("MailServiceHelper error: Error while calling the MailService", e);
     }
@@ -11,6 +11,7 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import de.caritas.cob.userservice.api.config.apiclient.LiveServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.service.mobilepushmessage.MobilePushNotificationService;
+import de.caritas.cob.userservice.api.service.session.SessionLastMessageService;
 import de.caritas.cob.userservice.liveservice.generated.ApiException;
 import de.caritas.cob.userservice.liveservice.generated.web.model.LiveEventMessage;
 import de.caritas.cob.userservice.liveservice.generated.web.model.StatusSource;
@@ -33,6 +34,7 @@ public class LiveEventNotificationService {
   private final @NonNull UserIdsProviderFactory userIdsProviderFactory;
   private final @NonNull AuthenticatedUser authenticatedUser;
   private final @NonNull MobilePushNotificationService mobilePushNotificationService;
+  private final @NonNull SessionLastMessageService sessionLastMessageService;
 
   private static final String RC_GROUP_ID_MESSAGE_TEMPLATE = "Rocket.Chat group ID: %s";
   private static final String NEW_ANONYMOUS_ENQUIRY_MESSAGE_TEMPLATE = "Anonymous Enquiry ID: %s";
@@ -68,13 +70,14 @@ public class LiveEventNotificationService {
   }
 
   /**
-   * Collects all relevant user or consultant ids of chats and sessions and sends a new direct
-   * message to the live service.
+   * Records the new message in the last message projection, collects all relevant user or
+   * consultant ids of chats and sessions and sends a new direct message to the live service.
    *
    * @param rcGroupId the rocket chat group id used to observe relevant users
    */
   public void sendLiveDirectMessageEventToUsers(String rcGroupId) {
     if (isNotBlank(rcGroupId)) {
+      recordMessage(rcGroupId);
       var userIds =
           this.userIdsProviderFactory
               .byRocketChatGroup(rcGroupId)
@@ -88,6 +91,15 @@ public class LiveEventNotificationService {
     }
   }
 
+  private void recordMessage(String rcGroupId) {
+    try {
+      this.sessionLastMessageService.recordMessage(
+          rcGroupId, this.authenticatedUser.getUserId(), this.authenticatedUser.isConsultant());
+    } catch (RuntimeException e) {
+      log.error("Unable to record last message of Rocket.Chat group {}", rcGroupId, e);
+    }
+  }
+
   private boolean notInitiatingUser(String userId) {
     return !userId.equals(this.authenticatedUser.getUserId());
   }
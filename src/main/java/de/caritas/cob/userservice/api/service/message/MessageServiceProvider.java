@@ -5,6 +5,7 @@ import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
 import de.caritas.cob.userservice.api.config.apiclient.MessageServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.container.CreateEnquiryExceptionInformation;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatPostFurtherStepsMessageException;
@@ -27,6 +28,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringSubstitutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
@@ -69,13 +71,15 @@ public class MessageServiceProvider {
   private MessageResponseDTO postMessage(RocketChatData rocketChatData) {
     var rcCredentials = rocketChatData.getRocketChatCredentials();
     MessageControllerApi controllerApi = messageServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
     var message = new MessageDTO().message(rocketChatData.getMessage()).t(rocketChatData.getType());
-    return controllerApi.createMessage(
-        rcCredentials.getRocketChatToken(),
-        rcCredentials.getRocketChatUserId(),
-        rocketChatData.getRcGroupId(),
-        message);
+    return ApiClientHeaders.callWith(
+        getDefaultHeaders(),
+        () ->
+            controllerApi.createMessage(
+                rcCredentials.getRocketChatToken(),
+                rcCredentials.getRocketChatUserId(),
+                rocketChatData.getRcGroupId(),
+                message));
   }
 
   /**
@@ -146,10 +150,11 @@ public class MessageServiceProvider {
       String rcGroupId, CreateEnquiryExceptionInformation exceptionInformation)
       throws RocketChatPostFurtherStepsMessageException {
     MessageControllerApi controllerApi = messageServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
+    var headers = getDefaultHeaders();
+    var aliasMessage = new AliasMessageDTO().messageType(MessageType.INITIAL_APPOINTMENT_DEFINED);
     try {
-      return controllerApi.saveAliasMessageWithContent(
-          rcGroupId, new AliasMessageDTO().messageType(MessageType.INITIAL_APPOINTMENT_DEFINED));
+      return ApiClientHeaders.callWith(
+          headers, () -> controllerApi.saveAliasMessageWithContent(rcGroupId, aliasMessage));
 
     } catch (RestClientException exception) {
       throw new RocketChatPostFurtherStepsMessageException(
@@ -166,10 +171,11 @@ public class MessageServiceProvider {
       CreateEnquiryExceptionInformation exceptionInformation)
       throws RocketChatPostFurtherStepsMessageException {
     MessageControllerApi controllerApi = messageServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
+    var headers = getDefaultHeaders();
+    var aliasOnlyMessage = new AliasOnlyMessageDTO().messageType(messageType);
     try {
-      controllerApi.saveAliasOnlyMessage(
-          rcGroupId, new AliasOnlyMessageDTO().messageType(messageType));
+      ApiClientHeaders.runWith(
+          headers, () -> controllerApi.saveAliasOnlyMessage(rcGroupId, aliasOnlyMessage));
 
     } catch (RestClientException exception) {
       throw new RocketChatPostFurtherStepsMessageException(
@@ -180,10 +186,9 @@ public class MessageServiceProvider {
     }
   }
 
-  private void addDefaultHeaders(
-      de.caritas.cob.userservice.messageservice.generated.ApiClient apiClient) {
+  private HttpHeaders getDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
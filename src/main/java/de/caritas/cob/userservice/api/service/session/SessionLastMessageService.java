@@ -0,0 +1,235 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import de.caritas.cob.userservice.api.model.SessionLastMessage;
+import de.caritas.cob.userservice.api.model.SessionLastMessage.GroupType;
+import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import de.caritas.cob.userservice.api.port.out.SessionLastMessageRepository;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the {@link SessionLastMessage} projection, which holds the date and read state of the
+ * latest message of each Rocket.Chat group of sessions and chats.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionLastMessageService {
+
+  private static final int READ_STATE_BATCH_SIZE = 500;
+  private static final List<SessionStatus> ACTIVE_AND_DONE_STATUSES =
+      List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE);
+
+  private final @NonNull SessionLastMessageRepository sessionLastMessageRepository;
+  private final @NonNull SessionRepository sessionRepository;
+  private final @NonNull ChatRepository chatRepository;
+  private final @NonNull PlatformTransactionManager transactionManager;
+
+  @Value("${session-list.last-message-projection.enabled}")
+  private boolean projectionEnabled;
+
+  /**
+   * Returns true if the last message projection is maintained and can be queried.
+   *
+   * @return true if the projection is enabled
+   */
+  public boolean isEnabled() {
+    return projectionEnabled;
+  }
+
+  /**
+   * Records a new message in the given Rocket.Chat group. The message is marked as read for the
+   * sender and as unread for the other party. Groups not belonging to a session or chat are
+   * ignored. If the projection of a new group is inserted concurrently by another message, the
+   * write is repeated and then updates the inserted projection.
+   *
+   * @param rcGroupId the Rocket.Chat group id of the session, feedback or chat group
+   * @param senderId the user id of the sender
+   * @param sentByConsultant true if the sender is a consultant
+   */
+  public void recordMessage(String rcGroupId, String senderId, boolean sentByConsultant) {
+    if (!projectionEnabled || isBlank(rcGroupId)) {
+      return;
+    }
+    var lastMessageDate = nowInUtc();
+    try {
+      writeLastMessage(rcGroupId, senderId, sentByConsultant, lastMessageDate);
+    } catch (DataIntegrityViolationException e) {
+      writeLastMessage(rcGroupId, senderId, sentByConsultant, lastMessageDate);
+    }
+  }
+
+  private void writeLastMessage(
+      String rcGroupId, String senderId, boolean sentByConsultant, LocalDateTime lastMessageDate) {
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status ->
+                sessionLastMessageRepository
+                    .findById(rcGroupId)
+                    .or(() -> createSessionLastMessage(rcGroupId))
+                    .ifPresent(
+                        lastMessage -> {
+                          lastMessage.setLastMessageDate(lastMessageDate);
+                          lastMessage.setLastSenderId(senderId);
+                          updateReadState(lastMessage, senderId, sentByConsultant);
+                          sessionLastMessageRepository.save(lastMessage);
+                          if (lastMessage.getType() == GroupType.SESSION) {
+                            sessionRepository.updateLastMessageDateByGroupId(
+                                rcGroupId, lastMessageDate);
+                          }
+                        }));
+  }
+
+  private Optional<SessionLastMessage> createSessionLastMessage(String rcGroupId) {
+    var session = sessionRepository.findByGroupId(rcGroupId);
+    if (session.isPresent()) {
+      return Optional.of(
+          buildSessionLastMessage(rcGroupId, session.get().getId(), GroupType.SESSION));
+    }
+    var feedbackSession = sessionRepository.findByFeedbackGroupId(rcGroupId);
+    if (feedbackSession.isPresent()) {
+      return Optional.of(
+          buildSessionLastMessage(rcGroupId, feedbackSession.get().getId(), GroupType.FEEDBACK));
+    }
+    return chatRepository
+        .findByGroupId(rcGroupId)
+        .map(chat -> buildSessionLastMessage(rcGroupId, null, GroupType.CHAT));
+  }
+
+  private SessionLastMessage buildSessionLastMessage(
+      String rcGroupId, Long sessionId, GroupType type) {
+    return SessionLastMessage.builder()
+        .rcGroupId(rcGroupId)
+        .sessionId(sessionId)
+        .type(type)
+        .build();
+  }
+
+  private void updateReadState(
+      SessionLastMessage lastMessage, String senderId, boolean sentByConsultant) {
+    if (lastMessage.getType() == GroupType.FEEDBACK) {
+      // Feedback is written by other consultants for the consultant assigned to the session
+      lastMessage.setReadByConsultant(isAssignedConsultant(lastMessage.getSessionId(), senderId));
+      lastMessage.setReadByAsker(true);
+    } else {
+      lastMessage.setReadByConsultant(sentByConsultant);
+      lastMessage.setReadByAsker(!sentByConsultant);
+    }
+  }
+
+  private boolean isAssignedConsultant(Long sessionId, String userId) {
+    return nonNull(sessionId)
+        && sessionRepository
+            .findById(sessionId)
+            .map(session -> session.isAdvisedBy(userId))
+            .orElse(false);
+  }
+
+  /**
+   * Marks the latest messages of all groups of sessions assigned to the consultant, which are read
+   * by the consultant according to the given Rocket.Chat read states, as read by the consultant.
+   * Groups of sessions assigned to other consultants are not changed.
+   *
+   * @param consultant the {@link Consultant} who has read the groups
+   * @param readMessages the read state of the consultant per Rocket.Chat group id
+   */
+  @Transactional
+  public void synchronizeReadStateOfConsultant(
+      Consultant consultant, Map<String, Boolean> readMessages) {
+    if (!projectionEnabled || readMessages == null || readMessages.isEmpty()) {
+      return;
+    }
+    var readGroupIds =
+        readMessages.entrySet().stream()
+            .filter(readMessage -> isTrue(readMessage.getValue()))
+            .map(Entry::getKey)
+            .toList();
+    ListUtils.partition(readGroupIds, READ_STATE_BATCH_SIZE)
+        .forEach(
+            groupIds ->
+                sessionLastMessageRepository.markReadByConsultant(
+                    new HashSet<>(groupIds), consultant.getId()));
+  }
+
+  /**
+   * Creates the missing feedback projections of the active and done sessions of the consultant
+   * from the given Rocket.Chat room information. Feedback written before the projection was
+   * introduced is thereby found by the feedback filter. Feedback groups without any message in
+   * Rocket.Chat are skipped, their projection is created with the first message.
+   *
+   * @param consultant the {@link Consultant}
+   * @param rocketChatRoomInformation the Rocket.Chat room information of the consultant
+   */
+  public void backfillFeedbackOfConsultant(
+      Consultant consultant, RocketChatRoomInformation rocketChatRoomInformation) {
+    if (!projectionEnabled || MapUtils.isEmpty(rocketChatRoomInformation.getLastMessagesRoom())) {
+      return;
+    }
+    var lastMessagesRoom = rocketChatRoomInformation.getLastMessagesRoom();
+    sessionRepository
+        .findWithoutFeedbackLastMessageByConsultantAndStatusIn(consultant, ACTIVE_AND_DONE_STATUSES)
+        .stream()
+        .filter(session -> lastMessagesRoom.containsKey(session.getFeedbackGroupId()))
+        .map(
+            session ->
+                buildFeedbackLastMessage(
+                    session,
+                    lastMessagesRoom.get(session.getFeedbackGroupId()),
+                    rocketChatRoomInformation.getReadMessages()))
+        .forEach(this::insertIfAbsent);
+  }
+
+  private void insertIfAbsent(SessionLastMessage lastMessage) {
+    try {
+      new TransactionTemplate(transactionManager)
+          .executeWithoutResult(
+              status -> {
+                if (!sessionLastMessageRepository.existsById(lastMessage.getRcGroupId())) {
+                  sessionLastMessageRepository.save(lastMessage);
+                }
+              });
+    } catch (DataIntegrityViolationException e) {
+      // The projection has been created concurrently by a new message, which takes precedence
+    }
+  }
+
+  private SessionLastMessage buildFeedbackLastMessage(
+      Session session, RoomsLastMessageDTO roomsLastMessage, Map<String, Boolean> readMessages) {
+    var feedbackLastMessage =
+        buildSessionLastMessage(session.getFeedbackGroupId(), session.getId(), GroupType.FEEDBACK);
+    feedbackLastMessage.setLastMessageDate(
+        nonNull(roomsLastMessage.getTimestamp())
+            ? LocalDateTime.ofInstant(roomsLastMessage.getTimestamp().toInstant(), ZoneOffset.UTC)
+            : nowInUtc());
+    feedbackLastMessage.setReadByAsker(true);
+    // As in the session list a missing read state of a group with messages counts as unread
+    feedbackLastMessage.setReadByConsultant(
+        nonNull(readMessages) && isTrue(readMessages.get(session.getFeedbackGroupId())));
+    return feedbackLastMessage;
+  }
+}
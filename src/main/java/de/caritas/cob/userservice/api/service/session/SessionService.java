@@ -4,6 +4,7 @@ import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc
 import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
@@ -17,6 +18,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.SessionTopicDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
 import de.caritas.cob.userservice.api.config.auth.UserRole;
+import de.caritas.cob.userservice.api.container.OffsetPageRequest;
 import de.caritas.cob.userservice.api.exception.UpdateFeedbackGroupIdException;
 import de.caritas.cob.userservice.api.exception.httpresponses.ForbiddenException;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
@@ -40,6 +42,7 @@ import jakarta.ws.rs.BadRequestException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,8 +55,12 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /** Service for sessions */
 @Service
@@ -61,6 +68,11 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class SessionService {
 
+  private static final List<SessionStatus> ACTIVE_AND_DONE_STATUSES =
+      List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE);
+  private static final Sort LAST_MESSAGE_DATE_SORT =
+      Sort.by(Direction.DESC, "lastMessageDate").and(Sort.by(Direction.DESC, "id"));
+
   private final @NonNull SessionRepository sessionRepository;
   private final @NonNull AgencyService agencyService;
   private final @NonNull ConsultantService consultantService;
@@ -202,6 +214,7 @@ public class SessionService {
       RegistrationType registrationType,
       SessionStatus sessionStatus) {
     var extendedConsultingTypeResponseDTO = obtainConsultingTypeSettings(userDto);
+    var createDate = nowInUtc();
 
     var session =
         Session.builder()
@@ -214,8 +227,9 @@ public class SessionService {
             .status(sessionStatus)
             .teamSession(isTeamSession)
             .isPeerChat(isTrue(extendedConsultingTypeResponseDTO.getIsPeerChat()))
-            .createDate(nowInUtc())
-            .updateDate(nowInUtc())
+            .createDate(createDate)
+            .updateDate(createDate)
+            .lastMessageDate(createDate)
             .mainTopicId(userDto.getMainTopicId())
             .userGender(userDto.getUserGender())
             .userAge(userDto.getUserAge())
@@ -348,6 +362,126 @@ public class SessionService {
     return sessionRepository.findByConsultantAndStatus(consultant, sessionStatus);
   }
 
+  /**
+   * Retrieves a page of the active and done sessions of given {@link Consultant}, ordered by the
+   * date of the last message descending.
+   *
+   * @param consultant the consultant
+   * @param offset the number of sessions to skip
+   * @param count the maximum number of sessions to return
+   * @return the requested {@link Page} of {@link Session}s
+   */
+  public Page<Session> getActiveAndDoneSessionsForConsultant(
+      Consultant consultant, long offset, int count) {
+    return sessionRepository.findByConsultantAndStatusIn(
+        consultant, ACTIVE_AND_DONE_STATUSES, lastMessageDatePage(offset, count));
+  }
+
+  private OffsetPageRequest lastMessageDatePage(long offset, int count) {
+    return OffsetPageRequest.of(offset, count, LAST_MESSAGE_DATE_SORT);
+  }
+
+  /**
+   * Retrieves all active and done sessions of given {@link Consultant} in the order of {@link
+   * #getActiveAndDoneSessionsForConsultant(Consultant, long, int)}.
+   *
+   * @param consultant the consultant
+   * @return the {@link Session}s ordered by the date of the last message descending
+   */
+  public List<Session> getActiveAndDoneSessionsForConsultantByLastMessageDate(
+      Consultant consultant) {
+    return sessionRepository.findByConsultantAndStatusIn(
+        consultant, ACTIVE_AND_DONE_STATUSES, LAST_MESSAGE_DATE_SORT);
+  }
+
+  /**
+   * Retrieves a page of the active and done sessions of given {@link Consultant} with unread
+   * feedback, ordered by the date of the last message descending.
+   *
+   * @param consultant the consultant
+   * @param offset the number of sessions to skip
+   * @param count the maximum number of sessions to return
+   * @return the requested {@link Page} of {@link Session}s
+   */
+  public Page<Session> getActiveAndDoneSessionsWithUnreadFeedbackForConsultant(
+      Consultant consultant, long offset, int count) {
+    return sessionRepository.findWithUnreadFeedbackByConsultantAndStatusIn(
+        consultant, ACTIVE_AND_DONE_STATUSES, lastMessageDatePage(offset, count));
+  }
+
+  /**
+   * Counts for each of the given dates the active and done sessions of given {@link Consultant}
+   * with a last message equal to or newer than the date. The last message dates of the sessions
+   * are loaded once for all dates.
+   *
+   * @param consultant the consultant
+   * @param lastMessageDates the minimum last message dates
+   * @return the number of sessions per date in the order of the given dates
+   */
+  public List<Long> countActiveAndDoneSessionsWithLastMessageSince(
+      Consultant consultant, List<LocalDateTime> lastMessageDates) {
+    if (lastMessageDates.isEmpty()) {
+      return emptyList();
+    }
+    var sessionDates =
+        sessionRepository.findLastMessageDatesByConsultantAndStatusInSince(
+            consultant, ACTIVE_AND_DONE_STATUSES, Collections.min(lastMessageDates));
+    return lastMessageDates.stream()
+        .map(lastMessageDate -> countDatesSince(sessionDates, lastMessageDate))
+        .toList();
+  }
+
+  private static long countDatesSince(List<LocalDateTime> ascendingDates, LocalDateTime date) {
+    int low = 0;
+    int high = ascendingDates.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (ascendingDates.get(middle).isBefore(date)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return (long) ascendingDates.size() - low;
+  }
+
+  /**
+   * Retrieves a page of the registered enquiries of given {@link Consultant}, ordered by the date
+   * of the enquiry message ascending.
+   *
+   * @param consultant the consultant
+   * @param offset the number of sessions to skip
+   * @param count the maximum number of sessions to return
+   * @return the requested {@link Page} of {@link Session}s
+   */
+  public Page<Session> getRegisteredEnquiriesForConsultant(
+      Consultant consultant, long offset, int count) {
+    Set<ConsultantAgency> consultantAgencies = consultant.getConsultantAgencies();
+    var pageable =
+        OffsetPageRequest.of(
+            offset,
+            count,
+            Sort.by(Direction.ASC, "enquiryMessageDate").and(Sort.by(Direction.ASC, "id")));
+    if (isEmpty(consultantAgencies)) {
+      return Page.empty(pageable);
+    }
+    List<Long> consultantAgencyIds =
+        consultantAgencies.stream().map(ConsultantAgency::getAgencyId).collect(Collectors.toList());
+    return sessionRepository.findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationType(
+        consultantAgencyIds, SessionStatus.NEW, RegistrationType.REGISTERED, pageable);
+  }
+
+  /**
+   * Sets the date of the last message of the session with the given Rocket.Chat group id.
+   *
+   * @param rcGroupId the Rocket.Chat group id
+   * @param lastMessageDate the date of the last message
+   */
+  @Transactional
+  public void updateLastMessageDate(String rcGroupId, LocalDateTime lastMessageDate) {
+    sessionRepository.updateLastMessageDateByGroupId(rcGroupId, lastMessageDate);
+  }
+
   private List<UserSessionResponseDTO> convertToUserSessionResponseDTO(
       List<Session> sessions, List<AgencyDTO> agencies) {
     return sessions.stream()
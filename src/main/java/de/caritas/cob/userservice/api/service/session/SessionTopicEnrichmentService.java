@@ -4,6 +4,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionTopicDTO;
 import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.Collection;
 import java.util.Map;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,26 @@ public class SessionTopicEnrichmentService {
     return session;
   }
 
+  /**
+   * Enriches all given sessions with the data of their topics. The available topics are resolved
+   * once for the whole collection instead of once per session.
+   *
+   * @param sessions the sessions to enrich
+   */
+  public void enrichSessionsWithTopicData(Collection<SessionDTO> sessions) {
+    var sessionsWithTopic = sessions.stream().filter(this::shouldEnrichTopic).toList();
+    if (sessionsWithTopic.isEmpty()) {
+      log.debug("Skipping topic enrichment, no topic id is set for any session");
+      return;
+    }
+    var availableTopics = topicService.getAllTopicsMap();
+    log.debug(
+        "Enriching {} sessions with topics out of {} available topics",
+        sessionsWithTopic.size(),
+        availableTopics.size());
+    sessionsWithTopic.forEach(session -> enrichSession(availableTopics, session));
+  }
+
   private boolean shouldEnrichTopic(SessionDTO session) {
     return session.getTopic() != null && session.getTopic().getId() != null;
   }
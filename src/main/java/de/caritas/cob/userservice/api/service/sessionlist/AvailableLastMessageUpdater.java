@@ -130,10 +130,7 @@ public class AvailableLastMessageUpdater {
       RocketChatRoomInformation rocketChatRoomInformation,
       String groupId,
       RoomsLastMessageDTO roomsLastMessage) {
-    var updateRoomTimestamp =
-        rocketChatRoomInformation.getRoomsForUpdate().stream()
-            .filter(room -> room.getId().equals(groupId))
-            .findFirst();
+    var updateRoomTimestamp = rocketChatRoomInformation.findRoomForUpdate(groupId);
     var latestMessageFromUpdateRoom =
         updateRoomTimestamp.isPresent()
             ? updateRoomTimestamp.get().getLastMessageDate()
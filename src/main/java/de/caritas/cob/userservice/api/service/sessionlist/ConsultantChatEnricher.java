@@ -1,7 +1,5 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
-import static java.util.Objects.nonNull;
-
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
@@ -46,6 +44,23 @@ public class ConsultantChatEnricher {
                 .rocketChatUserId(consultant.getRocketChatId())
                 .build());
 
+    return enrichWithRocketChatRoomInformation(
+        consultantSessionResponseDTOs, rocketChatRoomInformation, consultant);
+  }
+
+  /**
+   * Enriches the given chats with already retrieved Rocket.Chat room information.
+   *
+   * @param consultantSessionResponseDTOs the chat list to be enriched
+   * @param rocketChatRoomInformation the {@link RocketChatRoomInformation} of the consultant
+   * @param consultant the {@link Consultant}
+   * @return the enriched {@link ConsultantSessionResponseDTO}s
+   */
+  public List<ConsultantSessionResponseDTO> enrichWithRocketChatRoomInformation(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs,
+      RocketChatRoomInformation rocketChatRoomInformation,
+      Consultant consultant) {
+
     consultantSessionResponseDTOs.forEach(
         consultantSessionResponseDTO ->
             updateRequiredChatValues(
@@ -64,9 +79,7 @@ public class ConsultantChatEnricher {
       ConsultantSessionResponseDTO consultantSessionResponseDTO) {
     UserChatDTO chat = consultantSessionResponseDTO.getChat();
 
-    chat.setSubscribed(
-        isRoomSubscribedByConsultant(
-            rocketChatRoomInformation.getUserRooms(), consultantSessionResponseDTO));
+    chat.setSubscribed(rocketChatRoomInformation.isUserRoom(chat.getGroupId()));
     chat.setMessagesRead(
         rocketChatRoomInformation.getReadMessages().getOrDefault(chat.getGroupId(), true));
 
@@ -77,9 +90,4 @@ public class ConsultantChatEnricher {
             rocketChatRoomInformation,
             rcUserId);
   }
-
-  private boolean isRoomSubscribedByConsultant(
-      List<String> userRoomsList, ConsultantSessionResponseDTO chat) {
-    return nonNull(userRoomsList) && userRoomsList.contains(chat.getChat().getGroupId());
-  }
 }
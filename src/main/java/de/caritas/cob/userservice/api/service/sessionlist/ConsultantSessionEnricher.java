@@ -42,10 +42,28 @@ public class ConsultantSessionEnricher {
                 .rocketChatUserId(consultant.getRocketChatId())
                 .build());
 
+    return enrichWithRocketChatRoomInformation(
+        consultantSessionResponseDTOs, rocketChatRoomInformation, consultant);
+  }
+
+  /**
+   * Enriches the given sessions with already retrieved Rocket.Chat room information.
+   *
+   * @param consultantSessionResponseDTOs the session list to be enriched
+   * @param rocketChatRoomInformation the {@link RocketChatRoomInformation} of the consultant
+   * @param consultant the {@link Consultant}
+   * @return the enriched {@link ConsultantSessionResponseDTO}s
+   */
+  public List<ConsultantSessionResponseDTO> enrichWithRocketChatRoomInformation(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs,
+      RocketChatRoomInformation rocketChatRoomInformation,
+      Consultant consultant) {
+
     consultantSessionResponseDTOs.forEach(
         consultantSessionResponseDTO ->
             this.enrichConsultantSession(
                 consultantSessionResponseDTO, rocketChatRoomInformation, consultant));
+    enrichSessionsWithTopic(consultantSessionResponseDTOs);
     return consultantSessionResponseDTOs;
   }
 
@@ -79,13 +97,15 @@ public class ConsultantSessionEnricher {
               .getLastMessagesRoom()
               .containsKey(session.getFeedbackGroupId()));
     }
-    enrichSessionWithTopic(consultantSessionResponseDTO);
   }
 
-  private void enrichSessionWithTopic(ConsultantSessionResponseDTO consultantSessionResponseDTO) {
+  private void enrichSessionsWithTopic(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs) {
     if (topicsFeatureEnabled) {
-      sessionTopicEnrichmentService.enrichSessionWithTopicData(
-          consultantSessionResponseDTO.getSession());
+      sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+          consultantSessionResponseDTOs.stream()
+              .map(ConsultantSessionResponseDTO::getSession)
+              .toList());
     }
   }
 
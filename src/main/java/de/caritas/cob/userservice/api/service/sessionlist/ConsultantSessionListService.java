@@ -1,39 +1,62 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
+import com.google.common.base.Suppliers;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.facade.sessionlist.SessionListEnrichmentExecutor;
 import de.caritas.cob.userservice.api.helper.LatestMessageParseUtil;
 import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.service.ChatService;
 import de.caritas.cob.userservice.api.service.session.SessionFilter;
+import de.caritas.cob.userservice.api.service.session.SessionLastMessageService;
+import de.caritas.cob.userservice.api.service.session.SessionMapper;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class ConsultantSessionListService {
 
+  private static final String ROOM_INFORMATION_CALL = "rocketChatRoomInformation";
+
   private final @NonNull SessionService sessionService;
   private final @NonNull ChatService chatService;
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
   private final @NonNull ConsultantChatEnricher consultantChatEnricher;
+  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
+  private final @NonNull SessionListEnrichmentExecutor sessionListEnrichmentExecutor;
+  private final @NonNull SessionLastMessageService sessionLastMessageService;
   private final RocketChatCredentials rocketChatCredentials;
 
   /**
@@ -91,6 +114,11 @@ public class ConsultantSessionListService {
   public List<ConsultantSessionResponseDTO> retrieveSessionsForAuthenticatedConsultant(
       Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
 
+    if (sessionListEnrichmentExecutor.isParallel()) {
+      return retrieveSessionsForAuthenticatedConsultantConcurrently(
+          consultant, sessionListQueryParameter);
+    }
+
     List<ConsultantSessionResponseDTO> sessions =
         retrieveSessionsForStatus(consultant, sessionListQueryParameter.getSessionStatus());
     List<ConsultantSessionResponseDTO> chats = new ArrayList<>();
@@ -102,6 +130,245 @@ public class ConsultantSessionListService {
     return mergeConsultantSessionsAndChats(consultant, sessions, chats);
   }
 
+  /**
+   * Requests the Rocket.Chat room information while the sessions and chats are loaded from the
+   * database and enriches both with the same room information.
+   */
+  private List<ConsultantSessionResponseDTO> retrieveSessionsForAuthenticatedConsultantConcurrently(
+      Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
+    getVerifiedSessionStatus(sessionListQueryParameter.getSessionStatus());
+    var rocketChatRoomInformation =
+        retrieveRocketChatInformationAsync(consultant, rocketChatCredentials.getRocketChatToken());
+
+    List<ConsultantSessionResponseDTO> sessions =
+        retrieveSessionsForStatus(consultant, sessionListQueryParameter.getSessionStatus());
+    List<ConsultantSessionResponseDTO> chats = new ArrayList<>();
+
+    if (SessionStatus.isStatusValueInProgress(sessionListQueryParameter.getSessionStatus())) {
+      chats = chatService.getChatsForConsultant(consultant);
+    }
+
+    var roomInformation =
+        sessionListEnrichmentExecutor.await(ROOM_INFORMATION_CALL, rocketChatRoomInformation);
+    List<ConsultantSessionResponseDTO> allSessions = new ArrayList<>();
+    if (isNotEmpty(sessions)) {
+      allSessions.addAll(
+          consultantSessionEnricher.enrichWithRocketChatRoomInformation(
+              sessions, roomInformation, consultant));
+    }
+    if (isNotEmpty(chats)) {
+      allSessions.addAll(
+          consultantChatEnricher.enrichWithRocketChatRoomInformation(
+              chats, roomInformation, consultant));
+    }
+    return allSessions;
+  }
+
+  /**
+   * Returns true if the feedback filter of the given query is supported by {@link
+   * #retrieveSessionPageForAuthenticatedConsultant(Consultant, SessionListQueryParameter)}, which
+   * applies it to sessions in progress only.
+   *
+   * @param sessionListQueryParameter session list query parameters as {@link
+   *     SessionListQueryParameter}
+   * @return true if the feedback filter is supported by the paged session list
+   */
+  public boolean isFeedbackFilterSupportedByPagination(
+      SessionListQueryParameter sessionListQueryParameter) {
+    return SessionStatus.isStatusValueInProgress(sessionListQueryParameter.getSessionStatus());
+  }
+
+  /**
+   * Returns the requested page of the session list of the consultant. Only the sessions of the
+   * page are loaded from the database and enriched with Rocket.Chat data, the total is determined
+   * by a count query. Chats of the consultant are ranked between the sessions by the date of their
+   * last message. Without the last message projection the read state of the feedback is only
+   * known by Rocket.Chat, so the feedback filter is applied to all sessions in the same order.
+   * Otherwise the sessions of the page are enriched when the page is written. The rooms and
+   * subscriptions of the consultant are requested from Rocket.Chat at most once and only if the
+   * page or the ranking of the chats needs them, so an empty page or a page of sessions without
+   * chats is sliced without waiting for Rocket.Chat.
+   *
+   * @param consultant {@link Consultant}
+   * @param sessionListQueryParameter session list query parameters as {@link
+   *     SessionListQueryParameter}
+   * @return the response dto containing the requested page
+   */
+  public ConsultantSessionListResponseDTO retrieveSessionPageForAuthenticatedConsultant(
+      Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
+    var sessionStatus = getVerifiedSessionStatus(sessionListQueryParameter.getSessionStatus());
+    int offset = sessionListQueryParameter.getOffset();
+    int count = sessionListQueryParameter.getCount();
+
+    Supplier<RocketChatRoomInformation> rocketChatRoomInformation =
+        Suppliers.memoize(() -> retrieveRocketChatInformationOfConsultant(consultant));
+
+    List<ConsultantSessionResponseDTO> sessions = emptyList();
+    Consumer<List<ConsultantSessionResponseDTO>> sessionEnricher =
+        page -> enrichSessions(consultant, unenrichedSessionsOf(page), rocketChatRoomInformation);
+    long total = 0;
+    if (sessionStatus.equals(SessionStatus.NEW)) {
+      var enquiries = sessionService.getRegisteredEnquiriesForConsultant(consultant, offset, count);
+      sessions = toConsultantSessionDtos(enquiries.getContent());
+      total = enquiries.getTotalElements();
+    }
+    if (sessionStatus.equals(SessionStatus.IN_PROGRESS)
+        && sessionListQueryParameter.getSessionFilter().equals(SessionFilter.FEEDBACK)
+        && sessionLastMessageService.isEnabled()) {
+      sessionLastMessageService.backfillFeedbackOfConsultant(
+          consultant, rocketChatRoomInformation.get());
+      var feedbackSessions =
+          sessionService.getActiveAndDoneSessionsWithUnreadFeedbackForConsultant(
+              consultant, offset, count);
+      sessions = toConsultantSessionDtos(feedbackSessions.getContent());
+      total = feedbackSessions.getTotalElements();
+    } else if (sessionStatus.equals(SessionStatus.IN_PROGRESS)
+        && sessionListQueryParameter.getSessionFilter().equals(SessionFilter.FEEDBACK)) {
+      var allSessions =
+          toConsultantSessionDtos(
+              sessionService.getActiveAndDoneSessionsForConsultantByLastMessageDate(consultant));
+      enrichSessions(consultant, allSessions, rocketChatRoomInformation);
+      var unreadFeedbackSessions =
+          allSessions.stream()
+              .filter(session -> !isTrue(session.getSession().getFeedbackRead()))
+              .toList();
+      sessions =
+          new ArrayList<>(
+              unreadFeedbackSessions.subList(
+                  Math.min(offset, unreadFeedbackSessions.size()),
+                  Math.min(offset + count, unreadFeedbackSessions.size())));
+      total = unreadFeedbackSessions.size();
+      sessionEnricher = alreadyEnrichedPage -> {};
+    } else if (sessionStatus.equals(SessionStatus.IN_PROGRESS)) {
+      var chats = chatService.getChatsForConsultant(consultant);
+      long windowOffset = Math.max(0, offset - chats.size());
+      var sessionWindow =
+          sessionService.getActiveAndDoneSessionsForConsultant(
+              consultant, windowOffset, count + (int) (offset - windowOffset));
+      var rankedSessions =
+          rankSessionsAndChats(consultant, sessionWindow, chats, rocketChatRoomInformation);
+      sessions =
+          new ArrayList<>(rankedSessions.subMap((long) offset, offset + (long) count).values());
+      total = sessionWindow.getTotalElements() + chats.size();
+    }
+
+    var sessionPage = new LazyConsultantSessionListResponseDTO(sessions, sessionEnricher);
+    sessionPage.offset(offset).count(sessions.size()).total((int) total);
+    return sessionPage;
+  }
+
+  private RocketChatRoomInformation retrieveRocketChatInformationOfConsultant(
+      Consultant consultant) {
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            RocketChatCredentials.builder()
+                .rocketChatToken(rocketChatCredentials.getRocketChatToken())
+                .rocketChatUserId(consultant.getRocketChatId())
+                .build());
+    sessionLastMessageService.synchronizeReadStateOfConsultant(
+        consultant, rocketChatRoomInformation.getReadMessages());
+    return rocketChatRoomInformation;
+  }
+
+  /**
+   * Determines the position of the sessions in the given window and of all given chats within the
+   * merged list ordered by last message date descending. On equal dates sessions are placed before
+   * chats. The chats are enriched to obtain their last message date, the sessions are left to be
+   * enriched when the page is written.
+   */
+  private NavigableMap<Long, ConsultantSessionResponseDTO> rankSessionsAndChats(
+      Consultant consultant,
+      Page<Session> sessionWindow,
+      List<ConsultantSessionResponseDTO> chats,
+      Supplier<RocketChatRoomInformation> rocketChatRoomInformation) {
+    var windowSessions = sessionWindow.getContent();
+    var sessionDtos = toConsultantSessionDtos(windowSessions);
+    var enrichedChats =
+        enrichChats(consultant, chats, rocketChatRoomInformation).stream()
+            .sorted(
+                Comparator.comparing(
+                    this::obtainChatLastMessageDate,
+                    Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+    var chatDates = enrichedChats.stream().map(this::obtainChatLastMessageDate).toList();
+    var newerSessionsOfChats =
+        sessionService.countActiveAndDoneSessionsWithLastMessageSince(
+            consultant, chatDates.stream().filter(Objects::nonNull).toList());
+
+    NavigableMap<Long, ConsultantSessionResponseDTO> rankedSessions = new TreeMap<>();
+    for (int i = 0; i < windowSessions.size(); i++) {
+      var lastMessageDate = windowSessions.get(i).getLastMessageDate();
+      long newerChats =
+          chatDates.stream()
+              .filter(
+                  chatDate ->
+                      nonNull(chatDate)
+                          && (isNull(lastMessageDate) || chatDate.isAfter(lastMessageDate)))
+              .count();
+      long position = sessionWindow.getPageable().getOffset() + i + newerChats;
+      rankedSessions.put(position, sessionDtos.get(i));
+    }
+    for (int i = 0; i < enrichedChats.size(); i++) {
+      // Chats are ordered with dates first, so the index of a dated chat matches its count
+      long newerSessions =
+          isNull(chatDates.get(i))
+              ? sessionWindow.getTotalElements()
+              : newerSessionsOfChats.get(i);
+      rankedSessions.put(i + newerSessions, enrichedChats.get(i));
+    }
+    return rankedSessions;
+  }
+
+  private List<ConsultantSessionResponseDTO> toConsultantSessionDtos(List<Session> sessions) {
+    var sessionMapper = new SessionMapper();
+    return sessions.stream()
+        .map(sessionMapper::toConsultantSessionDto)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private List<ConsultantSessionResponseDTO> unenrichedSessionsOf(
+      List<ConsultantSessionResponseDTO> sessionsAndChats) {
+    return sessionsAndChats.stream()
+        .filter(sessionOrChat -> isNull(sessionOrChat.getChat()))
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private List<ConsultantSessionResponseDTO> enrichChats(
+      Consultant consultant,
+      List<ConsultantSessionResponseDTO> chats,
+      Supplier<RocketChatRoomInformation> rocketChatRoomInformation) {
+    return isNotEmpty(chats)
+        ? consultantChatEnricher.enrichWithRocketChatRoomInformation(
+            chats, rocketChatRoomInformation.get(), consultant)
+        : chats;
+  }
+
+  private void enrichSessions(
+      Consultant consultant,
+      List<ConsultantSessionResponseDTO> sessions,
+      Supplier<RocketChatRoomInformation> rocketChatRoomInformation) {
+    if (isNotEmpty(sessions)) {
+      consultantSessionEnricher.enrichWithRocketChatRoomInformation(
+          sessions, rocketChatRoomInformation.get(), consultant);
+    }
+  }
+
+  private LocalDateTime obtainChatLastMessageDate(ConsultantSessionResponseDTO chat) {
+    var lastMessageDate = LatestMessageParseUtil.parseLatestMessageForConsultantSession(chat);
+    return nonNull(lastMessageDate)
+        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lastMessageDate.getTime()), ZoneOffset.UTC)
+        : null;
+  }
+
+  private CompletableFuture<RocketChatRoomInformation> retrieveRocketChatInformationAsync(
+      Consultant consultant, String rcAuthToken) {
+    return rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(
+        RocketChatCredentials.builder()
+            .rocketChatToken(rcAuthToken)
+            .rocketChatUserId(consultant.getRocketChatId())
+            .build());
+  }
+
   private List<ConsultantSessionResponseDTO> retrieveSessionsForStatus(
       Consultant consultant, Integer status) {
     var sessionStatus = getVerifiedSessionStatus(status);
@@ -135,10 +402,19 @@ public class ConsultantSessionListService {
       String rcAuthToken,
       SessionListQueryParameter sessionListQueryParameter) {
 
-    List<ConsultantSessionResponseDTO> teamSessions =
-        sessionService.getTeamSessionsForConsultant(consultant);
+    List<ConsultantSessionResponseDTO> teamSessions;
 
-    updateConsultantSessionValues(teamSessions, rcAuthToken, consultant);
+    if (sessionListEnrichmentExecutor.isParallel()) {
+      var rocketChatRoomInformation = retrieveRocketChatInformationAsync(consultant, rcAuthToken);
+      teamSessions = sessionService.getTeamSessionsForConsultant(consultant);
+      consultantSessionEnricher.enrichWithRocketChatRoomInformation(
+          teamSessions,
+          sessionListEnrichmentExecutor.await(ROOM_INFORMATION_CALL, rocketChatRoomInformation),
+          consultant);
+    } else {
+      teamSessions = sessionService.getTeamSessionsForConsultant(consultant);
+      updateConsultantSessionValues(teamSessions, rcAuthToken, consultant);
+    }
     sortSessionsByLastMessageDateDesc(teamSessions);
 
     if (sessionListQueryParameter.getSessionFilter().equals(SessionFilter.FEEDBACK)) {
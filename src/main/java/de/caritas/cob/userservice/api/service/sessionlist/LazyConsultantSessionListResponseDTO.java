@@ -0,0 +1,41 @@
+package de.caritas.cob.userservice.api.service.sessionlist;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+/**
+ * Page of a consultant session list, whose sessions are enriched with Rocket.Chat data when they
+ * are read for the first time. Pages which are never read, e.g. because the request failed before
+ * the response was written, are not enriched at all.
+ */
+public class LazyConsultantSessionListResponseDTO extends ConsultantSessionListResponseDTO {
+
+  private final transient Consumer<List<ConsultantSessionResponseDTO>> sessionEnricher;
+  private boolean enriched;
+
+  /**
+   * Creates a page of the given sessions, which are enriched in place by the given enricher.
+   *
+   * @param sessions the not yet enriched sessions of the page
+   * @param sessionEnricher enriches the given sessions in place
+   */
+  public LazyConsultantSessionListResponseDTO(
+      @NonNull List<ConsultantSessionResponseDTO> sessions,
+      @NonNull Consumer<List<ConsultantSessionResponseDTO>> sessionEnricher) {
+    super.setSessions(sessions);
+    this.sessionEnricher = sessionEnricher;
+  }
+
+  @Override
+  public synchronized List<ConsultantSessionResponseDTO> getSessions() {
+    var sessions = super.getSessions();
+    if (!enriched) {
+      sessionEnricher.accept(sessions);
+      enriched = true;
+    }
+    return sessions;
+  }
+}
@@ -1,7 +1,5 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
-import static java.util.Objects.nonNull;
-
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
@@ -172,8 +170,7 @@ public class UserSessionListService {
     UserChatDTO chat = sessionResponse.getChat();
     String groupId = chat.getGroupId();
 
-    chat.setSubscribed(
-        isRocketChatRoomSubscribedByUser(rocketChatRoomInformation.getUserRooms(), groupId));
+    chat.setSubscribed(rocketChatRoomInformation.isUserRoom(groupId));
     chat.setMessagesRead(
         sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), groupId));
@@ -191,8 +188,4 @@ public class UserSessionListService {
         .updateChatWithAvailableLastMessage(
             chat, sessionResponse::setLatestMessage, rocketChatRoomInformation, rcUserId);
   }
-
-  private boolean isRocketChatRoomSubscribedByUser(List<String> userRoomsList, String groupId) {
-    return nonNull(userRoomsList) && userRoomsList.contains(groupId);
-  }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.service.statistics;
 
 import static java.util.Objects.nonNull;
 
+import de.caritas.cob.userservice.api.config.AsyncExecutorConfig;
 import de.caritas.cob.userservice.api.service.statistics.event.StatisticsEvent;
 import jakarta.validation.constraints.NotNull;
 import java.nio.charset.StandardCharsets;
@@ -33,7 +34,7 @@ public class StatisticsService {
    *
    * @param statisticsEvent the concrete {@link StatisticsEvent}
    */
-  @Async
+  @Async(AsyncExecutorConfig.STATISTICS_EXECUTOR)
   public void fireEvent(StatisticsEvent statisticsEvent) {
 
     if (statisticsEnabled && nonNull(statisticsEvent)) {
@@ -4,14 +4,13 @@ import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc
 import static de.caritas.cob.userservice.api.helper.EmailNotificationUtils.deserializeNotificationSettingsOrDefaultIfNull;
 import static de.caritas.cob.userservice.api.service.emailsupplier.EmailSupplier.TEMPLATE_DAILY_ENQUIRY_NOTIFICATION;
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
 import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.ConsultantAgency;
-import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.AgencyEnquiryCount;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.service.ConsultantAgencyService;
@@ -28,6 +27,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.NonNull;
@@ -59,32 +59,43 @@ public class EnquiryNotificationService {
   /** Entry method to build and send email notifications. */
   public void sendEmailNotificationsForOpenEnquiries() {
     var agencyIdsWithOpenEnquiries = findAgencyIdsWithOpenEnquiries();
-    var agenciesWithOpenEnquiries =
-        agencyService.getAgencies(new ArrayList<>(agencyIdsWithOpenEnquiries.keySet()));
+    if (agencyIdsWithOpenEnquiries.isEmpty()) {
+      return;
+    }
+    var agencyIds = new ArrayList<>(agencyIdsWithOpenEnquiries.keySet());
     var agencyIdToAgency =
-        agenciesWithOpenEnquiries.stream()
-            .collect(Collectors.toMap(AgencyDTO::getId, Function.identity()));
+        agencyService.getAgencies(agencyIds).stream()
+            .collect(Collectors.toMap(AgencyDTO::getId, Function.identity(), (a, b) -> a));
     var mailsContentForAgencies =
         createMailsContentForAgencies(agencyIdsWithOpenEnquiries, agencyIdToAgency);
+    var agencyIdToConsultants =
+        consultantAgencyService.getConsultantsOfAgencies(agencyIds).stream()
+            .collect(Collectors.groupingBy(ConsultantAgency::getAgencyId));
 
-    mailsContentForAgencies.forEach(this::buildAndSendEnquiryNotificationMails);
+    var mailDTOs =
+        mailsContentForAgencies.stream()
+            .flatMap(
+                mailContent ->
+                    buildEnquiryNotificationMails(
+                        mailContent,
+                        agencyIdToConsultants.getOrDefault(mailContent.getAgencyId(), List.of()))
+                        .stream())
+            .collect(Collectors.toList());
+    buildAndSendNotificationEmail(mailDTOs);
   }
 
   private Map<Long, Long> findAgencyIdsWithOpenEnquiries() {
-    return sessionRepository.findByStatus(SessionStatus.NEW).stream()
-        .filter(this::longerOpenThanCheckHours)
-        .map(Session::getAgencyId)
-        .collect(Collectors.groupingBy(e -> e, Collectors.counting()));
-  }
-
-  private boolean longerOpenThanCheckHours(Session session) {
-    var rightNow = nowInUtc();
-    var enquiryMessageDate = session.getEnquiryMessageDate();
-
-    if (nonNull(enquiryMessageDate)) {
-      return rightNow.minusHours(openEnquiryCheckHours).isAfter(enquiryMessageDate);
-    }
-    return false;
+    var enquiryMessageDateLimit = nowInUtc().minusHours(openEnquiryCheckHours);
+    return sessionRepository
+        .countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            SessionStatus.NEW, enquiryMessageDateLimit)
+        .stream()
+        .collect(
+            Collectors.toMap(
+                AgencyEnquiryCount::getAgencyId,
+                AgencyEnquiryCount::getOpenEnquiries,
+                Long::sum,
+                TreeMap::new));
   }
 
   private Collection<EnquiriesNotificationMailContent> createMailsContentForAgencies(
@@ -109,16 +120,14 @@ public class EnquiryNotificationService {
     };
   }
 
-  private void buildAndSendEnquiryNotificationMails(
-      EnquiriesNotificationMailContent enquiryMailContent) {
-    var mailDTOs =
-        consultantAgencyService.findConsultantsByAgencyId(enquiryMailContent.getAgencyId()).stream()
-            .map(ConsultantAgency::getConsultant)
-            .filter(c -> wantsToReceiveNotifications(c))
-            .map(consultant -> buildMailTO(consultant, enquiryMailContent))
-            .collect(Collectors.toList());
-
-    buildAndSendNotificationEmail(mailDTOs);
+  private List<MailDTO> buildEnquiryNotificationMails(
+      EnquiriesNotificationMailContent enquiryMailContent,
+      List<ConsultantAgency> consultantAgencies) {
+    return consultantAgencies.stream()
+        .map(ConsultantAgency::getConsultant)
+        .filter(c -> wantsToReceiveNotifications(c))
+        .map(consultant -> buildMailTO(consultant, enquiryMailContent))
+        .collect(Collectors.toList());
   }
 
   private boolean wantsToReceiveNotifications(Consultant consultant) {
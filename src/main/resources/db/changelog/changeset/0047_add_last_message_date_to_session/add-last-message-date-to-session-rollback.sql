@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS `idx_consultant_id_status_last_message_date` ON `userservice`.`session`;
+ALTER TABLE `userservice`.`session`
+    DROP COLUMN `last_message_date`;
\ No newline at end of file
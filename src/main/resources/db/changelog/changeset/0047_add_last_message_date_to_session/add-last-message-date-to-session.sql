@@ -0,0 +1,10 @@
+ALTER TABLE `userservice`.`session`
+    ADD COLUMN `last_message_date` datetime NULL DEFAULT NULL AFTER `message_date`;
+-- the messages of existing sessions are stored in Rocket.Chat only and can't be read by this
+-- migration. existing sessions get the date a new session is initialized with, which is the date
+-- of the enquiry message or the create date of sessions without enquiry message. the real date of
+-- the last message is written with the next message of the session.
+UPDATE `userservice`.`session`
+    SET `last_message_date` = COALESCE(`message_date`, `create_date`);
+CREATE INDEX `idx_consultant_id_status_last_message_date`
+    ON `userservice`.`session` (`consultant_id`, `status`, `last_message_date`);
@@ -0,0 +1 @@
+DROP TABLE IF EXISTS `userservice`.`session_last_message`;
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE TABLE `userservice`.`session_last_message`
+(
+    `rc_group_id`        varchar(255) NOT NULL,
+    `session_id`         bigint(21)   NULL,
+    `type`               varchar(20)  NOT NULL,
+    `last_message_date`  datetime     NOT NULL,
+    `last_sender_id`     varchar(36)  NULL,
+    `read_by_asker`      tinyint(4)   NOT NULL DEFAULT 0,
+    `read_by_consultant` tinyint(4)   NOT NULL DEFAULT 0,
+    PRIMARY KEY (`rc_group_id`),
+    KEY `idx_session_id` (`session_id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8;
\ No newline at end of file
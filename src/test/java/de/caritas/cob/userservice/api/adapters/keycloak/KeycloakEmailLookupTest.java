@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.adapters.keycloak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KeycloakEmailLookupTest {
+
+  private static final String EMAIL = "mail@example.com";
+
+  @InjectMocks private KeycloakEmailLookup keycloakEmailLookup;
+
+  @Mock private KeycloakClient keycloakClient;
+
+  @Mock private UsersResource usersResource;
+
+  @BeforeEach
+  void setup() {
+    setField(keycloakEmailLookup, "cacheTtlSeconds", 30L);
+    setField(keycloakEmailLookup, "cacheMaxEntries", 100L);
+    keycloakEmailLookup.buildCache();
+    when(keycloakClient.getUsersResource()).thenReturn(usersResource);
+  }
+
+  @Test
+  void isEmailTaken_Should_returnTrue_When_keycloakHasUserWithExactEmail() {
+    when(usersResource.searchByEmail(EMAIL, true)).thenReturn(List.of(userWithEmail(EMAIL)));
+
+    assertThat(keycloakEmailLookup.isEmailTaken(EMAIL)).isTrue();
+  }
+
+  @Test
+  void isEmailTaken_Should_returnFalse_When_keycloakHasNoUserWithExactEmail() {
+    when(usersResource.searchByEmail(EMAIL, true))
+        .thenReturn(List.of(userWithEmail("other" + EMAIL)));
+
+    assertThat(keycloakEmailLookup.isEmailTaken(EMAIL)).isFalse();
+  }
+
+  @Test
+  void isEmailTaken_Should_answerFromCache_When_emailHasBeenLookedUpBefore() {
+    when(usersResource.searchByEmail(EMAIL, true)).thenReturn(List.of());
+
+    keycloakEmailLookup.isEmailTaken(EMAIL);
+    keycloakEmailLookup.isEmailTaken(EMAIL);
+
+    verify(usersResource, times(1)).searchByEmail(EMAIL, true);
+  }
+
+  @Test
+  void isEmailTaken_Should_askKeycloakAgain_When_emailHasBeenEvicted() {
+    when(usersResource.searchByEmail(EMAIL, true))
+        .thenReturn(List.of())
+        .thenReturn(List.of(userWithEmail(EMAIL)));
+
+    assertThat(keycloakEmailLookup.isEmailTaken(EMAIL)).isFalse();
+    keycloakEmailLookup.evict(EMAIL, null);
+
+    assertThat(keycloakEmailLookup.isEmailTaken(EMAIL)).isTrue();
+  }
+
+  private UserRepresentation userWithEmail(String email) {
+    var userRepresentation = new UserRepresentation();
+    userRepresentation.setEmail(email);
+    return userRepresentation;
+  }
+}
@@ -0,0 +1,104 @@
+package de.caritas.cob.userservice.api.adapters.keycloak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.keycloak.admin.client.resource.RoleMappingResource;
+import org.keycloak.admin.client.resource.RoleScopeResource;
+import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KeycloakRoleCacheTest {
+
+  @InjectMocks private KeycloakRoleCache keycloakRoleCache;
+
+  @Mock private KeycloakClient keycloakClient;
+
+  @Mock private UsersResource usersResource;
+
+  @BeforeEach
+  void setup() {
+    setField(keycloakRoleCache, "cacheTtlSeconds", 60L);
+    setField(keycloakRoleCache, "cacheMaxEntries", 100L);
+    keycloakRoleCache.buildCache();
+    when(keycloakClient.getUsersResource()).thenReturn(usersResource);
+  }
+
+  @Test
+  void getRoleNames_Should_returnRealmRoleNamesOfUser() {
+    givenUserWithRoles("userId", "consultant", "user");
+
+    assertThat(keycloakRoleCache.getRoleNames("userId")).containsOnly("consultant", "user");
+  }
+
+  @Test
+  void getRoleNames_Should_askKeycloakOnlyOnce_When_rolesHaveBeenLoadedBefore() {
+    var roleScopeResource = givenUserWithRoles("userId", "consultant");
+
+    keycloakRoleCache.getRoleNames("userId");
+    keycloakRoleCache.getRoleNames("userId");
+
+    verify(roleScopeResource, times(1)).listAll();
+  }
+
+  @Test
+  void getRoleNames_Should_askKeycloakAgain_When_rolesHaveBeenEvicted() {
+    var roleScopeResource = givenUserWithRoles("userId", "consultant");
+
+    keycloakRoleCache.getRoleNames("userId");
+    keycloakRoleCache.evict("userId");
+    keycloakRoleCache.getRoleNames("userId");
+
+    verify(roleScopeResource, times(2)).listAll();
+  }
+
+  @Test
+  void getRoleNames_Should_loadOnlyUncachedUsers_When_rolesOfSeveralUsersAreRequested() {
+    var cachedRoleScopeResource = givenUserWithRoles("cached", "consultant");
+    var uncachedRoleScopeResource = givenUserWithRoles("uncached", "user");
+    keycloakRoleCache.getRoleNames("cached");
+
+    var roleNames = keycloakRoleCache.getRoleNames(List.of("cached", "uncached", "uncached"));
+
+    assertThat(roleNames)
+        .containsEntry("cached", Set.of("consultant"))
+        .containsEntry("uncached", Set.of("user"));
+    verify(cachedRoleScopeResource, times(1)).listAll();
+    verify(uncachedRoleScopeResource, times(1)).listAll();
+  }
+
+  private RoleScopeResource givenUserWithRoles(String userId, String... roleNames) {
+    var roles =
+        Stream.of(roleNames)
+            .map(
+                roleName -> {
+                  var role = new RoleRepresentation();
+                  role.setName(roleName);
+                  return role;
+                })
+            .toList();
+    var roleScopeResource = mock(RoleScopeResource.class);
+    when(roleScopeResource.listAll()).thenReturn(roles);
+    var roleMappingResource = mock(RoleMappingResource.class);
+    when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
+    var userResource = mock(UserResource.class);
+    when(userResource.roles()).thenReturn(roleMappingResource);
+    when(usersResource.get(userId)).thenReturn(userResource);
+    return roleScopeResource;
+  }
+}
@@ -14,7 +14,6 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -42,6 +41,8 @@ import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -101,6 +102,8 @@ public class KeycloakServiceTest {
 
   @Mock private UsernameTranscoder usernameTranscoder;
   @Mock private UserHelper userHelper;
+  @Mock private KeycloakEmailLookup keycloakEmailLookup;
+  @Mock private KeycloakRoleCache keycloakRoleCache;
 
   @Mock UsersResource usersResource;
 
@@ -244,7 +247,6 @@ public class KeycloakServiceTest {
   private UsersResource givenUsersResource(UserResource userResource) {
     var usersResource = mock(UsersResource.class);
     when(usersResource.get("userId")).thenReturn(userResource);
-    when(usersResource.search(anyString(), eq(0), eq(Integer.MAX_VALUE))).thenReturn(List.of());
     return usersResource;
   }
 
@@ -265,7 +267,6 @@ public class KeycloakServiceTest {
         givenUserRepresentationWithFilledEmail(RandomStringUtils.randomAlphanumeric(8));
     when(userResource.toRepresentation()).thenReturn(userRepresentation);
     when(usersResource.get(userId)).thenReturn(userResource);
-    when(usersResource.search(anyString(), eq(0), eq(Integer.MAX_VALUE))).thenReturn(List.of());
     when(keycloakClient.getUsersResource()).thenReturn(usersResource);
 
     keycloakService.deleteEmailAddress();
@@ -586,6 +587,7 @@ public class KeycloakServiceTest {
     this.keycloakService.updateRole("user", validRole);
 
     verify(roleScopeResource, times(1)).add(any());
+    verify(keycloakRoleCache).evict("user");
   }
 
   @Test
@@ -706,6 +708,8 @@ public class KeycloakServiceTest {
     this.keycloakService.updateUserData("userId", userDTO, "firstName", "lastName");
 
     verify(userResource, times(1)).update(any());
+    verify(keycloakEmailLookup).isEmailTaken("anotherEmail");
+    verify(keycloakEmailLookup).evict("email", "anotherEmail");
   }
 
   @Test
@@ -725,11 +729,9 @@ public class KeycloakServiceTest {
   @Test
   public void updateUserData_Should_throwCustomException_When_emailIsChangedButNotAvailable() {
     UserRepresentation userRepresentation = givenUserRepresentation("email");
-    UserRepresentation otherUserRepresentation = givenUserRepresentation("newemail");
     UserResource userResource = givenUserResourceWithRepresentation(userRepresentation);
     UsersResource usersResource = givenUsersResourceWithAnyUserId(userResource);
-    when(usersResource.search(any(), any(), any()))
-        .thenReturn(singletonList(otherUserRepresentation));
+    when(keycloakEmailLookup.isEmailTaken("newemail")).thenReturn(true);
     when(keycloakClient.getUsersResource()).thenReturn(usersResource);
     UserDTO userDTO = new UserDTO();
     userDTO.setEmail("newemail");
@@ -767,16 +769,7 @@ public class KeycloakServiceTest {
 
   @Test
   public void userHasAuthority_Should_returnTrue_When_userHasAuthority() {
-    RoleRepresentation roleRepresentation = mock(RoleRepresentation.class);
-    when(roleRepresentation.getName()).thenReturn("user");
-    RoleScopeResource roleScopeResource = mock(RoleScopeResource.class);
-    when(roleScopeResource.listAll()).thenReturn(singletonList(roleRepresentation));
-    RoleMappingResource roleMappingResource = mock(RoleMappingResource.class);
-    when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
-    UserResource userResource = mock(UserResource.class);
-    when(userResource.roles()).thenReturn(roleMappingResource);
-    UsersResource usersResource = givenUsersResourceWithAnyUserId(userResource);
-    when(keycloakClient.getUsersResource()).thenReturn(usersResource);
+    when(keycloakRoleCache.getRoleNames("user")).thenReturn(Set.of("user"));
 
     boolean hasAuthority =
         this.keycloakService.userHasAuthority("user", AuthorityValue.USER_DEFAULT);
@@ -789,9 +782,7 @@ public class KeycloakServiceTest {
     assertThrows(
         KeycloakException.class,
         () -> {
-          UserResource userResource = mock(UserResource.class);
-          UsersResource usersResource = givenUsersResourceWithAnyUserId(userResource);
-          when(keycloakClient.getUsersResource()).thenReturn(usersResource);
+          when(keycloakRoleCache.getRoleNames("user")).thenThrow(new NullPointerException());
 
           this.keycloakService.userHasAuthority("user", "authority");
         });
@@ -799,22 +790,25 @@ public class KeycloakServiceTest {
 
   @Test
   public void userHasAuthority_Should_returnFalse_When_userHasNotAuthority() {
-    RoleRepresentation roleRepresentation = mock(RoleRepresentation.class);
-    when(roleRepresentation.getName()).thenReturn("user");
-    RoleScopeResource roleScopeResource = mock(RoleScopeResource.class);
-    when(roleScopeResource.listAll()).thenReturn(singletonList(roleRepresentation));
-    RoleMappingResource roleMappingResource = mock(RoleMappingResource.class);
-    when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
-    UserResource userResource = mock(UserResource.class);
-    when(userResource.roles()).thenReturn(roleMappingResource);
-    UsersResource usersResource = givenUsersResourceWithAnyUserId(userResource);
-    when(keycloakClient.getUsersResource()).thenReturn(usersResource);
+    when(keycloakRoleCache.getRoleNames("user")).thenReturn(Set.of("user"));
 
     boolean hasAuthority = this.keycloakService.userHasAuthority("user", AuthorityValue.USER_ADMIN);
 
     assertThat(hasAuthority, is(false));
   }
 
+  @Test
+  public void filterUsersWithAuthority_Should_returnOnlyUsersWithAuthority() {
+    when(keycloakRoleCache.getRoleNames(List.of("user", "admin")))
+        .thenReturn(Map.of("user", Set.of("user"), "admin", Set.of("user-admin")));
+
+    var userIds =
+        this.keycloakService.filterUsersWithAuthority(
+            List.of("user", "admin"), AuthorityValue.USER_ADMIN);
+
+    assertThat(userIds, is(Set.of("admin")));
+  }
+
   @Test
   public void closeSession_Should_deleteSession() {
     RealmResource realmResource = mock(RealmResource.class);
@@ -0,0 +1,109 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO.PresenceStatus;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatPresenceCacheTest {
+
+  private static final Instant NOW = Instant.parse("2022-01-01T10:00:00Z");
+
+  private RocketChatPresenceCache rocketChatPresenceCache;
+
+  @Mock private RocketChatClient rocketChatClient;
+  @Mock private RocketChatConfig rocketChatConfig;
+  @Mock private RocketChatMapper rocketChatMapper;
+  @Mock private Clock clock;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setup() {
+    rocketChatPresenceCache =
+        new RocketChatPresenceCache(
+            rocketChatClient, rocketChatConfig, rocketChatMapper, meterRegistry, clock);
+    ReflectionTestUtils.setField(rocketChatPresenceCache, "enabled", true);
+    ReflectionTestUtils.setField(rocketChatPresenceCache, "maxStalenessSeconds", 60L);
+    rocketChatPresenceCache.registerSnapshotAgeGauge();
+  }
+
+  @Test
+  void isAvailable_Should_returnEmpty_When_noSnapshotExists() {
+    assertThat(rocketChatPresenceCache.isAvailable("user1")).isEmpty();
+  }
+
+  @Test
+  void isAvailable_Should_answerFromSnapshot_When_snapshotIsRecent() {
+    givenSnapshot(Map.of("user1", PresenceStatus.ONLINE, "user2", PresenceStatus.BUSY));
+    when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+
+    assertThat(rocketChatPresenceCache.isAvailable("user1")).contains(true);
+    assertThat(rocketChatPresenceCache.isAvailable("user2")).contains(false);
+    assertThat(rocketChatPresenceCache.isLoggedIn("user2")).contains(true);
+    assertThat(rocketChatPresenceCache.isLoggedIn("unknownUser")).contains(false);
+    assertThat(rocketChatPresenceCache.findAllAvailableUserIds()).contains(Set.of("user1"));
+  }
+
+  @Test
+  void isAvailable_Should_returnEmpty_When_snapshotIsStale() {
+    givenSnapshot(Map.of("user1", PresenceStatus.ONLINE));
+    when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+
+    assertThat(rocketChatPresenceCache.isAvailable("user1")).isEmpty();
+    assertThat(rocketChatPresenceCache.findAllAvailableUserIds()).isEmpty();
+  }
+
+  @Test
+  void refresh_Should_keepPreviousSnapshot_When_rocketChatFails() {
+    givenSnapshot(Map.of("user1", PresenceStatus.ONLINE));
+    when(rocketChatClient.getForEntity(anyString(), eq(PresenceListDTO.class)))
+        .thenThrow(new RestClientException("unavailable"));
+
+    rocketChatPresenceCache.refresh();
+
+    when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+    assertThat(rocketChatPresenceCache.isAvailable("user1")).contains(true);
+    assertThat(meterRegistry.get("userservice.rocketchat.presence.snapshot.age").gauge().value())
+        .isEqualTo(30d);
+  }
+
+  @Test
+  void isAvailable_Should_returnEmpty_When_cacheIsDisabled() {
+    givenSnapshot(Map.of("user1", PresenceStatus.ONLINE));
+    ReflectionTestUtils.setField(rocketChatPresenceCache, "enabled", false);
+
+    assertThat(rocketChatPresenceCache.isAvailable("user1")).isEqualTo(Optional.empty());
+  }
+
+  private void givenSnapshot(Map<String, PresenceStatus> presences) {
+    var presenceList = new PresenceListDTO();
+    presenceList.setUsers(List.of());
+    when(rocketChatConfig.getApiUrl(anyString())).thenReturn("https://rocket.chat/users.presence");
+    when(rocketChatClient.getForEntity(anyString(), eq(PresenceListDTO.class)))
+        .thenReturn(ResponseEntity.ok(presenceList));
+    when(rocketChatMapper.mapPresencesOf(presenceList)).thenReturn(presences);
+    when(clock.instant()).thenReturn(NOW);
+    rocketChatPresenceCache.refresh();
+  }
+}
@@ -0,0 +1,101 @@
+package de.caritas.cob.userservice.api.adapters.web.dto.serialization;
+
+import static de.caritas.cob.userservice.api.adapters.web.dto.serialization.ConsultantSessionListNdjsonHttpMessageConverter.COUNT_HEADER;
+import static de.caritas.cob.userservice.api.adapters.web.dto.serialization.ConsultantSessionListNdjsonHttpMessageConverter.OFFSET_HEADER;
+import static de.caritas.cob.userservice.api.adapters.web.dto.serialization.ConsultantSessionListNdjsonHttpMessageConverter.TOTAL_COUNT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
+import de.caritas.cob.userservice.api.service.sessionlist.LazyConsultantSessionListResponseDTO;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class ConsultantSessionListNdjsonHttpMessageConverterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ConsultantSessionListNdjsonHttpMessageConverter converter =
+      new ConsultantSessionListNdjsonHttpMessageConverter(objectMapper);
+
+  @Test
+  void canWrite_Should_onlySupportSessionListsAsNdjson() {
+    var sessionListClass = ConsultantSessionListResponseDTO.class;
+
+    assertThat(converter.canWrite(sessionListClass, MediaType.APPLICATION_NDJSON)).isTrue();
+    assertThat(converter.canWrite(sessionListClass, MediaType.APPLICATION_JSON)).isFalse();
+    assertThat(converter.canWrite(SessionDTO.class, MediaType.APPLICATION_NDJSON)).isFalse();
+    assertThat(converter.canRead(sessionListClass, MediaType.APPLICATION_NDJSON)).isFalse();
+  }
+
+  @Test
+  void write_Should_writeOneSessionPerLineAndPagingHeaders() throws IOException {
+    var sessionList =
+        new ConsultantSessionListResponseDTO()
+            .sessions(List.of(sessionWithId(1L), sessionWithId(2L)))
+            .offset(5)
+            .count(2)
+            .total(12);
+    var outputMessage = new MockHttpOutputMessage();
+
+    converter.write(sessionList, MediaType.APPLICATION_NDJSON, outputMessage);
+
+    var lines = outputMessage.getBodyAsString().split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(objectMapper.readTree(lines[1]).at("/session/id").asLong()).isEqualTo(2L);
+    assertThat(outputMessage.getHeaders().getFirst(OFFSET_HEADER)).isEqualTo("5");
+    assertThat(outputMessage.getHeaders().getFirst(COUNT_HEADER)).isEqualTo("2");
+    assertThat(outputMessage.getHeaders().getFirst(TOTAL_COUNT_HEADER)).isEqualTo("12");
+    assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+  }
+
+  @Test
+  void write_Should_enrichLazySessionListBeforeFirstLineIsWritten() throws IOException {
+    var sessions =
+        LongStream.rangeClosed(1, 30).mapToObj(this::sessionWithId).collect(Collectors.toList());
+    var outputMessage = new MockHttpOutputMessage();
+    List<String> bodiesBeforeEnrichment = new ArrayList<>();
+    var sessionList =
+        new LazyConsultantSessionListResponseDTO(
+            sessions,
+            page -> {
+              bodiesBeforeEnrichment.add(outputMessage.getBodyAsString());
+              page.forEach(session -> session.getSession().setMessagesRead(true));
+            });
+
+    converter.write(sessionList, MediaType.APPLICATION_NDJSON, outputMessage);
+
+    var lines = outputMessage.getBodyAsString().split("\n");
+    assertThat(lines).hasSize(30);
+    assertThat(bodiesBeforeEnrichment).containsExactly("");
+    assertThat(objectMapper.readTree(lines[29]).at("/session/messagesRead").asBoolean()).isTrue();
+  }
+
+  @Test
+  void write_Should_notWriteAnyLine_When_enrichmentOfLazySessionListFails() {
+    var outputMessage = new MockHttpOutputMessage();
+    var sessionList =
+        new LazyConsultantSessionListResponseDTO(
+            List.of(sessionWithId(1L)),
+            page -> {
+              throw new IllegalStateException("Rocket.Chat unavailable");
+            });
+
+    assertThatThrownBy(
+            () -> converter.write(sessionList, MediaType.APPLICATION_NDJSON, outputMessage))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(outputMessage.getBodyAsString()).isEmpty();
+  }
+
+  private ConsultantSessionResponseDTO sessionWithId(Long id) {
+    return new ConsultantSessionResponseDTO().session(new SessionDTO().id(id));
+  }
+}
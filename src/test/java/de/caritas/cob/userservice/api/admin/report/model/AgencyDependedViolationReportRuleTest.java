@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.is;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class AgencyDependedViolationReportRuleTest {
@@ -16,8 +17,8 @@ class AgencyDependedViolationReportRuleTest {
   private AgencyDependedViolationReportRule reportRule =
       new AgencyDependedViolationReportRule() {
         @Override
-        public List<ViolationDTO> generateViolations() {
-          return emptyList();
+        public Stream<ViolationDTO> streamViolations() {
+          return Stream.empty();
         }
       };
 
@@ -3,12 +3,13 @@ package de.caritas.cob.userservice.api.admin.report.rule;
 import static de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO.ViolationTypeEnum.CONSULTANT;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
@@ -16,9 +17,7 @@ import de.caritas.cob.userservice.api.adapters.rocketchat.dto.user.UserInfoRespo
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.user.UserRoomDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
-import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
-import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.service.LogService;
 import java.util.List;
@@ -34,8 +33,6 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @InjectMocks private MissingRocketChatRoomForConsultantViolationReportRule reportRule;
 
-  @Mock private ConsultantRepository consultantRepository;
-
   @Mock private SessionRepository sessionRepository;
 
   @Mock private RocketChatService rocketChatService;
@@ -49,15 +46,12 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @Test
   public void generateViolations_Should_returnExpectedViolation_When_oneViolatedSessionExists() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
-    violatedConsultant.setSessions(null);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO.getUser().setRooms(emptyList());
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findWithConsultantByStatus(any()))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -80,17 +74,14 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
   @Test
   public void
       generateViolations_Should_returnViolationMessageOfFeedbackRoom_When_oneViolatedFeedbackSessionExists() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO
         .getUser()
         .setRooms(singletonList(new UserRoomDTO(violatedSession.getGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findWithConsultantByStatus(any()))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -111,17 +102,14 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
   @Test
   public void
       generateViolations_Should_returnViolationMessageOfRoom_When_oneViolatedStandardSessionExists() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO
         .getUser()
         .setRooms(singletonList(new UserRoomDTO(violatedSession.getFeedbackGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findWithConsultantByStatus(any()))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -138,9 +126,7 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @Test
   public void generateViolations_Should_returnNoViolation_When_allRoomsExist() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO
@@ -150,8 +136,7 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
                 new UserRoomDTO(violatedSession.getGroupId()),
                 new UserRoomDTO(violatedSession.getFeedbackGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findWithConsultantByStatus(any()))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -162,9 +147,7 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @Test
   public void generateViolations_Should_returnViolation_When_userDoesNotExistInRocketChat() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO
@@ -174,8 +157,7 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
                 new UserRoomDTO(violatedSession.getGroupId()),
                 new UserRoomDTO(violatedSession.getFeedbackGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findWithConsultantByStatus(any()))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any()))
         .thenThrow(
@@ -189,4 +171,24 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
     assertThat(violations, hasSize(1));
     assertThat(violations.get(0).getReason(), is("caused message"));
   }
+
+  @Test
+  public void generateViolations_Should_fetchRoomsOnlyOnce_When_consultantHasSeveralSessions() {
+    Session firstSession = new EasyRandom().nextObject(Session.class);
+    Session secondSession = new EasyRandom().nextObject(Session.class);
+    secondSession.setConsultant(firstSession.getConsultant());
+    UserInfoResponseDTO userInfoResponseDTO =
+        new EasyRandom().nextObject(UserInfoResponseDTO.class);
+    userInfoResponseDTO.getUser().setRooms(emptyList());
+
+    when(this.sessionRepository.findWithConsultantByStatus(any()))
+        .thenReturn(asList(firstSession, secondSession));
+    when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations();
+
+    assertThat(violations, hasSize(2));
+    verify(this.rocketChatService, times(1))
+        .getUserInfo(firstSession.getConsultant().getRocketChatId());
+  }
 }
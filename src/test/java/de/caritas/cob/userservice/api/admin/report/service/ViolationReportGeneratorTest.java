@@ -1,18 +1,27 @@
 package de.caritas.cob.userservice.api.admin.report.service;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportFormat;
 import de.caritas.cob.userservice.api.admin.report.registry.ViolationRuleRegistry;
 import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 public class ViolationReportGeneratorTest {
@@ -30,6 +40,8 @@ public class ViolationReportGeneratorTest {
 
   @Mock private AgencyAdminService agencyAdminService;
 
+  @Mock private PlatformTransactionManager transactionManager;
+
   @AfterEach
   public void cleanGeneratedFiles() throws IOException {
     FileUtils.deleteDirectory(new File("report"));
@@ -47,9 +59,9 @@ public class ViolationReportGeneratorTest {
     when(this.violationRuleRegistry.getViolationReportRules(any()))
         .thenReturn(
             asList(
-                () -> asList(identifiedViolation("first"), identifiedViolation("second")),
-                () -> asList(identifiedViolation("third"), identifiedViolation("fourth")),
-                () -> asList(identifiedViolation("fifth"), identifiedViolation("sixth"))));
+                () -> Stream.of(identifiedViolation("first"), identifiedViolation("second")),
+                () -> Stream.of(identifiedViolation("third"), identifiedViolation("fourth")),
+                () -> Stream.of(identifiedViolation("fifth"), identifiedViolation("sixth"))));
 
     List<ViolationDTO> violations = this.violationReportGenerator.generateReport();
 
@@ -57,6 +69,36 @@ public class ViolationReportGeneratorTest {
     violations.forEach(violationDTO -> assertThat(violationDTO.getIdentifier(), notNullValue()));
   }
 
+  @Test
+  public void generateReportFile_Should_writeOneViolationPerLine_When_formatIsNdjson()
+      throws IOException {
+    when(this.violationRuleRegistry.getViolationReportRules(any()))
+        .thenReturn(
+            asList(
+                () -> Stream.of(identifiedViolation("first"), identifiedViolation("second")),
+                () -> Stream.of(identifiedViolation("third"))));
+
+    Path reportPath =
+        this.violationReportGenerator.generateReportFile(ViolationReportFormat.NDJSON);
+
+    List<String> lines = Files.readAllLines(reportPath);
+    assertThat(lines, hasSize(3));
+    lines.forEach(line -> assertThat(line, startsWith("{")));
+  }
+
+  @Test
+  public void generateReportFile_Should_writeViolationsAndRuleDurations_When_formatIsJson()
+      throws IOException {
+    when(this.violationRuleRegistry.getViolationReportRules(any()))
+        .thenReturn(singletonList(() -> Stream.of(identifiedViolation("first"))));
+
+    Path reportPath = this.violationReportGenerator.generateReportFile(ViolationReportFormat.JSON);
+
+    JsonNode report = new ObjectMapper().readTree(reportPath.toFile());
+    assertThat(report.get("violations").size(), is(1));
+    assertThat(report.get("rules").get(0).get("violationCount").asLong(), is(1L));
+  }
+
   private ViolationDTO identifiedViolation(String identifier) {
     return new ViolationDTO().identifier(identifier);
   }
@@ -0,0 +1,50 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultantSearchIndexHealthIndicatorTest {
+
+  @InjectMocks private ConsultantSearchIndexHealthIndicator healthIndicator;
+
+  @Mock private ConsultantSearchIndexService consultantSearchIndexService;
+
+  @Test
+  void health_Should_returnUnknown_When_indexHasNotBeenBuilt() {
+    when(consultantSearchIndexService.getLastMassIndexDate()).thenReturn(Optional.empty());
+
+    var health = healthIndicator.health();
+
+    assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+    verifyNoMoreInteractions(consultantSearchIndexService);
+  }
+
+  @Test
+  void health_Should_returnUpWithIndexDetails_When_indexHasBeenBuilt() {
+    var lastMassIndexDate = Instant.parse("2022-01-01T10:00:00Z");
+    when(consultantSearchIndexService.getLastMassIndexDate())
+        .thenReturn(Optional.of(lastMassIndexDate));
+    when(consultantSearchIndexService.countIndexedConsultants()).thenReturn(42L);
+    when(consultantSearchIndexService.calculateIndexLag()).thenReturn(1L);
+
+    var health = healthIndicator.health();
+
+    assertThat(health.getStatus()).isEqualTo(Status.UP);
+    assertThat(health.getDetails())
+        .containsEntry("documents", 42L)
+        .containsEntry("lag", 1L)
+        .containsEntry("stale", false)
+        .containsEntry("lastMassIndexDate", "2022-01-01T10:00:00Z");
+  }
+}
@@ -0,0 +1,66 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hibernate.search.util.common.SearchException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultantSearchIndexServiceTest {
+
+  @InjectMocks private ConsultantSearchIndexService consultantSearchIndexService;
+
+  @Mock private EntityManagerFactory entityManagerFactory;
+
+  @Mock private ConsultantRepository consultantRepository;
+
+  @Mock private MeterRegistry meterRegistry;
+
+  @Mock private Clock clock;
+
+  @Test
+  void indexOnStartup_Should_keepIndexStaleAndNotFail_When_massIndexingFails() {
+    when(entityManagerFactory.createEntityManager()).thenThrow(new SearchException("failure"));
+
+    assertThatCode(consultantSearchIndexService::indexOnStartup).doesNotThrowAnyException();
+
+    assertThat(consultantSearchIndexService.isStale()).isTrue();
+    assertThat(consultantSearchIndexService.getLastMassIndexDate()).isEmpty();
+  }
+
+  @Test
+  void ensureIndexed_Should_retryMassIndexing_When_startupIndexingFailed() {
+    when(entityManagerFactory.createEntityManager()).thenThrow(new SearchException("failure"));
+    consultantSearchIndexService.indexOnStartup();
+
+    assertThatCode(consultantSearchIndexService::ensureIndexed)
+        .isInstanceOf(SearchException.class);
+
+    verify(entityManagerFactory, times(2)).createEntityManager();
+  }
+
+  @Test
+  void reindex_Should_markIndexStale_When_purgedIndexCouldNotBeRebuilt() {
+    ((AtomicBoolean) ReflectionTestUtils.getField(consultantSearchIndexService, "stale"))
+        .set(false);
+    when(entityManagerFactory.createEntityManager()).thenThrow(new SearchException("failure"));
+
+    assertThatCode(consultantSearchIndexService::reindex).isInstanceOf(SearchException.class);
+
+    assertThat(consultantSearchIndexService.isStale()).isTrue();
+  }
+}
@@ -121,6 +121,21 @@ public class SessionAdminServiceIT {
         .forEach(sessionAdminDTO -> assertThat(sessionAdminDTO.getConsultingType(), is(1)));
   }
 
+  @Test
+  public void findSessions_Should_returnSessionsMatchingAllFilters_When_filtersAreCombined() {
+    SessionFilter sessionFilter = new SessionFilter().agency(1).consultingType(1);
+
+    SessionAdminResultDTO sessions = this.sessionAdminService.findSessions(1, 200, sessionFilter);
+
+    sessions
+        .getEmbedded()
+        .forEach(
+            sessionAdminDTO -> {
+              assertThat(sessionAdminDTO.getAgencyId(), is(1));
+              assertThat(sessionAdminDTO.getConsultingType(), is(1));
+            });
+  }
+
   @Test
   public void findSessions_Should_returnEmptyResult_When_filterHasInvalidAgencySet() {
     SessionFilter sessionFilter = new SessionFilter().agency(-20);
@@ -0,0 +1,104 @@
+package de.caritas.cob.userservice.api.admin.service.session.pageprovider;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter.SortFieldEnum;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter.SortOrderEnum;
+import de.caritas.cob.userservice.api.admin.service.session.SessionSearchIndexService;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedSessionPageProviderTest {
+
+  @Mock private SessionRepository sessionRepository;
+  @Mock private SessionSearchIndexService sessionSearchIndexService;
+
+  @Test
+  void supports_Should_returnFalse_When_noFilterIsSet() {
+    var provider = new IndexedSessionPageProvider(
+            sessionRepository, sessionSearchIndexService, new SessionFilter());
+
+    assertThat(provider.isSupported(), is(false));
+  }
+
+  @Test
+  void supports_Should_returnFalse_When_onlyOneDatabaseFilterIsSet() {
+    var provider =
+        new IndexedSessionPageProvider(
+            sessionRepository, sessionSearchIndexService, new SessionFilter().agency(1));
+
+    assertThat(provider.isSupported(), is(false));
+  }
+
+  @Test
+  void supports_Should_returnTrue_When_databaseFiltersAreCombined() {
+    var provider =
+        new IndexedSessionPageProvider(
+            sessionRepository,
+            sessionSearchIndexService,
+            new SessionFilter().agency(1).consultingType(2));
+
+    assertThat(provider.isSupported(), is(true));
+  }
+
+  @Test
+  void supports_Should_returnTrue_When_sortFieldIsSet() {
+    var provider =
+        new IndexedSessionPageProvider(
+            sessionRepository,
+            sessionSearchIndexService,
+            new SessionFilter().sortField(SortFieldEnum.POSTCODE));
+
+    assertThat(provider.isSupported(), is(true));
+  }
+
+  @Test
+  void executeQuery_Should_searchOnSessionSearchIndex_When_indexIsAvailable() {
+    when(sessionSearchIndexService.isAvailable()).thenReturn(true);
+    var provider =
+        new IndexedSessionPageProvider(
+            sessionRepository, sessionSearchIndexService, new SessionFilter().status(2));
+
+    provider.executeQuery(PageRequest.of(0, 1));
+
+    verify(sessionSearchIndexService).search(any());
+    verifyNoInteractions(sessionRepository);
+  }
+
+  @Test
+  void executeQuery_Should_queryDatabaseWithSortOfFilter_When_indexIsNotAvailable() {
+    var filter =
+        new SessionFilter()
+            .status(2)
+            .sortField(SortFieldEnum.POSTCODE)
+            .sortOrder(SortOrderEnum.DESC);
+    var provider =
+        new IndexedSessionPageProvider(sessionRepository, sessionSearchIndexService, filter);
+
+    provider.executeQuery(PageRequest.of(1, 10));
+
+    verify(sessionRepository)
+        .findAll(
+            ArgumentMatchers.<Specification<Session>>any(),
+            eq(PageRequest.of(1, 10, Sort.by(Direction.DESC, "postcode"))));
+    verify(sessionSearchIndexService, never()).search(any());
+  }
+}
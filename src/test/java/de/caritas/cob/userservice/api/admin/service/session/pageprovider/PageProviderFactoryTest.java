@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionFilter;
+import de.caritas.cob.userservice.api.admin.service.session.SessionSearchIndexService;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 public class PageProviderFactoryTest {
 
   @Mock private SessionRepository sessionRepository;
+  @Mock private SessionSearchIndexService sessionSearchIndexService;
 
   @Test
   public void
@@ -21,7 +23,8 @@ public class PageProviderFactoryTest {
     SessionFilter sessionFilter = new SessionFilter();
 
     SessionPageProvider resultProvider =
-        PageProviderFactory.getInstance(sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
     assertThat(resultProvider, instanceOf(AllSessionPageProvider.class));
@@ -33,7 +36,8 @@ public class PageProviderFactoryTest {
     SessionFilter sessionFilter = new SessionFilter().agency(5);
 
     SessionPageProvider resultProvider =
-        PageProviderFactory.getInstance(sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
     assertThat(resultProvider, instanceOf(AgencySessionPageProvider.class));
@@ -45,7 +49,8 @@ public class PageProviderFactoryTest {
     SessionFilter sessionFilter = new SessionFilter().asker("asker");
 
     SessionPageProvider resultProvider =
-        PageProviderFactory.getInstance(sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
     assertThat(resultProvider, instanceOf(AskerSessionPageProvider.class));
@@ -57,7 +62,8 @@ public class PageProviderFactoryTest {
     SessionFilter sessionFilter = new SessionFilter().consultant("consultant");
 
     SessionPageProvider resultProvider =
-        PageProviderFactory.getInstance(sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
     assertThat(resultProvider, instanceOf(ConsultantSessionPageProvider.class));
@@ -69,7 +75,8 @@ public class PageProviderFactoryTest {
     SessionFilter sessionFilter = new SessionFilter().consultingType(5);
 
     SessionPageProvider resultProvider =
-        PageProviderFactory.getInstance(sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
     assertThat(resultProvider, instanceOf(ConsultingTypeSessionPageProvider.class));
@@ -77,14 +84,28 @@ public class PageProviderFactoryTest {
 
   @Test
   public void
-      retrieveFirstSupportedSessionPageProvider_Should_returnAgencySessionPageProvider_When_allFiltersAreSet() {
+      retrieveFirstSupportedSessionPageProvider_Should_returnIndexedSessionPageProvider_When_allFiltersAreSet() {
     SessionFilter sessionFilter =
         new SessionFilter().agency(10).asker("asker").consultant("consultant").consultingType(5);
 
     SessionPageProvider resultProvider =
-        PageProviderFactory.getInstance(sessionRepository, sessionFilter)
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
             .retrieveFirstSupportedSessionPageProvider();
 
-    assertThat(resultProvider, instanceOf(AgencySessionPageProvider.class));
+    assertThat(resultProvider, instanceOf(IndexedSessionPageProvider.class));
+  }
+
+  @Test
+  public void
+      retrieveFirstSupportedSessionPageProvider_Should_returnIndexedSessionPageProvider_When_indexOnlyFilterIsSet() {
+    SessionFilter sessionFilter = new SessionFilter().postcode("12345");
+
+    SessionPageProvider resultProvider =
+        PageProviderFactory.getInstance(
+                sessionRepository, sessionSearchIndexService, sessionFilter)
+            .retrieveFirstSupportedSessionPageProvider();
+
+    assertThat(resultProvider, instanceOf(IndexedSessionPageProvider.class));
   }
 }
@@ -0,0 +1,102 @@
+package de.caritas.cob.userservice.api.config.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import de.caritas.cob.userservice.api.adapters.web.controller.interceptor.CorrelationIdFilter;
+import java.net.URI;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ApiClientHeaderInterceptorTest {
+
+  private static final byte[] BODY = new byte[0];
+
+  private final ApiClientHeaderInterceptor interceptor = new ApiClientHeaderInterceptor();
+
+  @Mock private ClientHttpRequestExecution execution;
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  @Test
+  void intercept_Should_addOnlyCorrelationId_When_calledOutsideOfApiClientHeadersCall() {
+    MDC.put(CorrelationIdFilter.MDC_NAME, "correlationId");
+    var request = givenRequest();
+
+    intercept(request);
+
+    assertThat(request.getHeaders()).containsOnlyKeys(CorrelationIdFilter.HEADER_NAME);
+    assertThat(request.getHeaders().getFirst(CorrelationIdFilter.HEADER_NAME))
+        .isEqualTo("correlationId");
+  }
+
+  @Test
+  void intercept_Should_notChangeRequest_When_noCorrelationIdAndNoApiClientHeadersCallExist() {
+    var request = givenRequest();
+
+    intercept(request);
+
+    assertThat(request.getHeaders()).isEmpty();
+  }
+
+  @Test
+  void intercept_Should_addHeadersOfCurrentCallAndCorrelationId() {
+    MDC.put(CorrelationIdFilter.MDC_NAME, "correlationId");
+    var request = givenRequest();
+
+    ApiClientHeaders.runWith(
+        givenHeaders("Authorization", "Bearer token"), () -> intercept(request));
+
+    assertThat(request.getHeaders().getFirst("Authorization")).isEqualTo("Bearer token");
+    assertThat(request.getHeaders().getFirst(CorrelationIdFilter.HEADER_NAME))
+        .isEqualTo("correlationId");
+  }
+
+  @Test
+  void intercept_Should_restoreOuterHeaders_When_nestedCallIsFinished() {
+    var innerRequest = givenRequest();
+    var outerRequest = givenRequest();
+
+    ApiClientHeaders.runWith(
+        givenHeaders("tenantId", "1"),
+        () -> {
+          ApiClientHeaders.runWith(givenHeaders("tenantId", "2"), () -> intercept(innerRequest));
+          intercept(outerRequest);
+        });
+
+    assertThat(innerRequest.getHeaders().getFirst("tenantId")).isEqualTo("2");
+    assertThat(outerRequest.getHeaders().getFirst("tenantId")).isEqualTo("1");
+    var requestAfterCall = givenRequest();
+    intercept(requestAfterCall);
+    assertThat(requestAfterCall.getHeaders()).isEmpty();
+  }
+
+  @SneakyThrows
+  private void intercept(MockClientHttpRequest request) {
+    interceptor.intercept(request, BODY, execution);
+    verify(execution).execute(request, BODY);
+  }
+
+  private static MockClientHttpRequest givenRequest() {
+    return new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/service"));
+  }
+
+  private static HttpHeaders givenHeaders(String name, String value) {
+    var headers = new HttpHeaders();
+    headers.add(name, value);
+    return headers;
+  }
+}
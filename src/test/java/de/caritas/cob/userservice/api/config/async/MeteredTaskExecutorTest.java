@@ -0,0 +1,137 @@
+package de.caritas.cob.userservice.api.config.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+class MeteredTaskExecutorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void execute_Should_runTaskAndRecordItsDuration() {
+    var runs = new AtomicInteger();
+    var executor = new MeteredTaskExecutor("kind", new SyncTaskExecutor(), 0, meterRegistry);
+
+    executor.execute(runs::incrementAndGet);
+
+    assertThat(runs.get()).isEqualTo(1);
+    assertThat(meterRegistry.get("userservice.async.tasks").tag("kind", "kind").timer().count())
+        .isEqualTo(1);
+    assertThat(gauge("userservice.async.tasks.pending")).isZero();
+    assertThat(gauge("userservice.async.tasks.active")).isZero();
+  }
+
+  @Test
+  void execute_Should_countRejectedTask_When_delegateRejectsIt() {
+    var executor =
+        new MeteredTaskExecutor(
+            "kind",
+            task -> {
+              throw new TaskRejectedException("full");
+            },
+            0,
+            meterRegistry);
+
+    assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {}));
+
+    assertThat(meterRegistry.get("userservice.async.tasks.rejected").counter().count())
+        .isEqualTo(1);
+    assertThat(gauge("userservice.async.tasks.pending")).isZero();
+  }
+
+  @Test
+  void execute_Should_notRunMoreTasksThanConcurrencyLimitAtOnce() throws InterruptedException {
+    var threadPool = Executors.newFixedThreadPool(4);
+    var executor =
+        new MeteredTaskExecutor("kind", new TaskExecutorAdapter(threadPool), 1, meterRegistry);
+    var release = new CountDownLatch(1);
+    var started = new CountDownLatch(1);
+    var finished = new CountDownLatch(2);
+    Runnable blockingTask =
+        () -> {
+          started.countDown();
+          await(release);
+          finished.countDown();
+        };
+
+    executor.execute(blockingTask);
+    executor.execute(blockingTask);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(100);
+
+    assertThat(gauge("userservice.async.tasks.active")).isEqualTo(1);
+    assertThat(gauge("userservice.async.tasks.pending")).isEqualTo(1);
+
+    release.countDown();
+    assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+    threadPool.shutdown();
+  }
+
+  @Test
+  void execute_Should_handOnlyPermittedTasksToDelegate_When_concurrencyLimitIsReached()
+      throws InterruptedException {
+    var threadPool = Executors.newFixedThreadPool(4);
+    var delegatedTasks = new AtomicInteger();
+    TaskExecutor delegate =
+        task -> {
+          delegatedTasks.incrementAndGet();
+          threadPool.execute(task);
+        };
+    var executor = new MeteredTaskExecutor("kind", delegate, 1, meterRegistry);
+    var release = new CountDownLatch(1);
+    var finished = new CountDownLatch(3);
+    Runnable blockingTask =
+        () -> {
+          await(release);
+          finished.countDown();
+        };
+
+    executor.execute(blockingTask);
+    executor.execute(blockingTask);
+    executor.execute(blockingTask);
+
+    assertThat(delegatedTasks.get()).isEqualTo(1);
+    release.countDown();
+    assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(delegatedTasks.get()).isEqualTo(1);
+    threadPool.shutdown();
+  }
+
+  @Test
+  void execute_Should_runWaitingTasks_When_previousTaskFailed() {
+    var runs = new AtomicInteger();
+    var executor = new MeteredTaskExecutor("kind", new SyncTaskExecutor(), 1, meterRegistry);
+
+    executor.execute(
+        () -> {
+          throw new IllegalStateException("failed");
+        });
+    executor.execute(runs::incrementAndGet);
+
+    assertThat(runs.get()).isEqualTo(1);
+    assertThat(gauge("userservice.async.tasks.pending")).isZero();
+  }
+
+  private double gauge(String name) {
+    return meterRegistry.get(name).tag("kind", "kind").gauge().value();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
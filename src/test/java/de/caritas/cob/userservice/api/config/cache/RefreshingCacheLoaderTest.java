@@ -0,0 +1,77 @@
+package de.caritas.cob.userservice.api.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class RefreshingCacheLoaderTest {
+
+  private static final String KEY = "key";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger refreshes = new AtomicInteger();
+
+  @Test
+  void get_Should_notLoadMissingValue() {
+    var cache = buildCache(key -> "refreshed" + refreshes.incrementAndGet());
+
+    assertThat(cache.get(KEY)).isNull();
+    assertThat(cache.asMap()).isEmpty();
+    assertThat(refreshes.get()).isZero();
+  }
+
+  @Test
+  void get_Should_notRefresh_When_valueIsYoungerThanRefreshInterval() {
+    var cache = buildCache(key -> "refreshed" + refreshes.incrementAndGet());
+    cache.put(KEY, "value");
+    advance(Duration.ofSeconds(30));
+
+    assertThat(cache.get(KEY)).isEqualTo("value");
+    assertThat(refreshes.get()).isZero();
+  }
+
+  @Test
+  void get_Should_refreshWithRefresher_When_refreshIntervalIsExceeded() {
+    var cache = buildCache(key -> "refreshed" + refreshes.incrementAndGet());
+    cache.put(KEY, "value");
+    advance(Duration.ofMinutes(2));
+
+    cache.get(KEY);
+
+    assertThat(refreshes.get()).isEqualTo(1);
+    assertThat(cache.get(KEY)).isEqualTo("refreshed1");
+  }
+
+  @Test
+  void get_Should_keepCurrentValue_When_refreshFails() {
+    var cache =
+        buildCache(
+            key -> {
+              throw new IllegalStateException("unavailable");
+            });
+    cache.put(KEY, "value");
+    advance(Duration.ofMinutes(2));
+
+    cache.get(KEY);
+
+    assertThat(cache.get(KEY)).isEqualTo("value");
+  }
+
+  private LoadingCache<Object, Object> buildCache(Function<Object, Object> refresher) {
+    return Caffeine.newBuilder()
+        .executor(Runnable::run)
+        .ticker(nanos::get)
+        .refreshAfterWrite(Duration.ofMinutes(1))
+        .build(new RefreshingCacheLoader(refresher));
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+}
@@ -0,0 +1,95 @@
+package de.caritas.cob.userservice.api.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.caritas.cob.userservice.api.config.http.HttpClientProperties.Pool;
+import de.caritas.cob.userservice.api.config.http.HttpClientProperties.Upstream;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamRoutingClientHttpRequestFactoryTest {
+
+  private UpstreamRoutingClientHttpRequestFactory requestFactory;
+
+  @BeforeEach
+  void setup() {
+    var properties = new HttpClientProperties();
+    properties.setDefaults(givenDefaults());
+    properties.getUpstreams().put("agency-service", givenUpstream("https://host/service", null));
+    properties
+        .getUpstreams()
+        .put("live-service", givenUpstream("https://host/service/liveevent", null));
+    properties.getUpstreams().put("mail-service", givenUpstream("http://mailservice:8080", 5));
+    properties.getUpstreams().put("unconfigured-service", givenUpstream("", null));
+    requestFactory = new UpstreamRoutingClientHttpRequestFactory(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    requestFactory.close();
+  }
+
+  @Test
+  void resolve_Should_returnUpstreamWithLongestMatchingBaseUrl() {
+    var pool = requestFactory.resolve(URI.create("https://host/service/liveevent/live/1"));
+
+    assertThat(pool.name()).isEqualTo("live-service");
+  }
+
+  @Test
+  void resolve_Should_returnUpstream_When_urlStartsWithItsBaseUrl() {
+    var pool = requestFactory.resolve(URI.create("https://host/service/agencies?postcode=1"));
+
+    assertThat(pool.name()).isEqualTo("agency-service");
+  }
+
+  @Test
+  void resolve_Should_returnDefaultPool_When_urlOnlySharesAPrefixOfAPathSegment() {
+    var pool = requestFactory.resolve(URI.create("https://host/serviceadmin/agencies"));
+
+    assertThat(pool.name()).isEqualTo(UpstreamRoutingClientHttpRequestFactory.DEFAULT_POOL);
+  }
+
+  @Test
+  void resolve_Should_returnDefaultPool_When_noUpstreamMatches() {
+    var pool = requestFactory.resolve(URI.create("https://other/auth/realms"));
+
+    assertThat(pool.name()).isEqualTo(UpstreamRoutingClientHttpRequestFactory.DEFAULT_POOL);
+  }
+
+  @Test
+  void getPools_Should_skipUpstreamsWithoutBaseUrlAndApplyOverrides() {
+    var pools = requestFactory.getPools();
+
+    assertThat(pools)
+        .extracting(UpstreamPool::name)
+        .containsExactlyInAnyOrder("agency-service", "live-service", "mail-service", "default");
+    assertThat(requestFactory.resolve(URI.create("http://mailservice:8080/mails")))
+        .extracting(pool -> pool.connectionManager().getMaxTotal())
+        .isEqualTo(5);
+    assertThat(requestFactory.resolve(URI.create("https://host/service")))
+        .extracting(pool -> pool.connectionManager().getMaxTotal())
+        .isEqualTo(10);
+  }
+
+  private Pool givenDefaults() {
+    var defaults = new Pool();
+    defaults.setMaxTotal(10);
+    defaults.setMaxPerRoute(5);
+    defaults.setConnectTimeout(Duration.ofSeconds(1));
+    defaults.setResponseTimeout(Duration.ofSeconds(2));
+    defaults.setConnectionRequestTimeout(Duration.ofSeconds(1));
+    defaults.setKeepAlive(Duration.ofSeconds(30));
+    return defaults;
+  }
+
+  private Upstream givenUpstream(String baseUrl, Integer maxTotal) {
+    var upstream = new Upstream();
+    upstream.setBaseUrl(baseUrl);
+    upstream.setMaxTotal(maxTotal);
+    return upstream;
+  }
+}
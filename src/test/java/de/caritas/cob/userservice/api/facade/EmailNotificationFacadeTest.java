@@ -35,11 +35,11 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.setInternalState;
 
-import com.google.api.client.util.Lists;
 import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.adapters.keycloak.KeycloakService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.NotificationsSettingsDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ReassignmentNotificationDTO;
 import de.caritas.cob.userservice.api.config.auth.UserRole;
@@ -62,11 +62,10 @@ import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.consultingtype.ReleaseToggle;
 import de.caritas.cob.userservice.api.service.consultingtype.ReleaseToggleService;
 import de.caritas.cob.userservice.api.service.emailsupplier.AssignEnquiryEmailSupplier;
-import de.caritas.cob.userservice.api.service.emailsupplier.NewDirectEnquiryEmailSupplier;
-import de.caritas.cob.userservice.api.service.emailsupplier.NewEnquiryEmailSupplier;
 import de.caritas.cob.userservice.api.service.emailsupplier.NewFeedbackEmailSupplier;
 import de.caritas.cob.userservice.api.service.emailsupplier.NewMessageEmailSupplier;
 import de.caritas.cob.userservice.api.service.emailsupplier.TenantTemplateSupplier;
+import de.caritas.cob.userservice.api.service.helper.MailNotificationBatcher;
 import de.caritas.cob.userservice.api.service.helper.MailService;
 import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
@@ -76,7 +75,6 @@ import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.NewM
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.NotificationsDTO;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.TeamSessionsDTO;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.WelcomeMessageDTO;
-import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
 import java.util.Arrays;
 import java.util.Collections;
@@ -91,7 +89,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -451,15 +448,9 @@ class EmailNotificationFacadeTest {
 
   @InjectMocks private EmailNotificationFacade emailNotificationFacade;
 
-  @Mock private NewEnquiryEmailSupplier newEnquiryEmailSupplier;
-
-  @SuppressWarnings("unused")
-  @Mock
-  private NewDirectEnquiryEmailSupplier newDirectEnquiryEmailSupplier;
-
-  @Spy private AssignEnquiryEmailSupplier assignEnquiryEmailSupplier;
   @Mock private ConsultantAgencyRepository consultantAgencyRepository;
   @Mock private MailService mailService;
+  @Mock private MailNotificationBatcher mailNotificationBatcher;
   @Mock private AgencyService agencyService;
   @Mock SessionService sessionService;
   @Mock ConsultantAgencyService consultantAgencyService;
@@ -486,7 +477,9 @@ class EmailNotificationFacadeTest {
     ReflectionTestUtils.setField(
         emailNotificationFacade, APPLICATION_BASE_URL_FIELD_NAME, APPLICATION_BASE_URL);
     ReflectionTestUtils.setField(
-        assignEnquiryEmailSupplier, "consultantService", consultantService);
+        emailNotificationFacade,
+        "mailNotificationBatcher",
+        new MailNotificationBatcher(mailService));
     setInternalState(EmailNotificationFacade.class, "log", logger);
     setInternalState(AssignEnquiryEmailSupplier.class, "log", logger);
     setInternalState(NewFeedbackEmailSupplier.class, "log", logger);
@@ -535,14 +528,9 @@ class EmailNotificationFacadeTest {
   }
 
   private void givenNewEnquiryMailSupplierReturnNonEmptyMails() {
-    List<MailDTO> mails = getMailDTOS();
-    when(newEnquiryEmailSupplier.generateEmails()).thenReturn(mails);
-  }
-
-  private List<MailDTO> getMailDTOS() {
-    List<MailDTO> mails = Lists.newArrayList();
-    mails.add(new MailDTO());
-    return mails;
+    when(consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(any()))
+        .thenReturn(List.of(CONSULTANT_AGENCY));
+    when(agencyService.getAgency(any())).thenReturn(new AgencyDTO().name("agency"));
   }
 
   @Test
@@ -557,7 +545,8 @@ class EmailNotificationFacadeTest {
     var session = givenEnquirySession();
     EmailNotificationException emailNotificationException =
         new EmailNotificationException(new Exception());
-    when(newEnquiryEmailSupplier.generateEmails()).thenThrow(emailNotificationException);
+    when(consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(any()))
+        .thenThrow(emailNotificationException);
 
     emailNotificationFacade.sendNewEnquiryEmailNotification(session, null);
 
@@ -875,7 +864,7 @@ class EmailNotificationFacadeTest {
     emailNotificationFacade.sendNewEnquiryEmailNotification(
         new EasyRandom().nextObject(Session.class), null);
 
-    verifyNoInteractions(newEnquiryEmailSupplier);
+    verifyNoInteractions(consultantAgencyRepository);
   }
 
   @Test
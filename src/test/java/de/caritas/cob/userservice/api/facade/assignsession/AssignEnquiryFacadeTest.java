@@ -31,6 +31,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.userservice.api.adapters.keycloak.KeycloakService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
@@ -48,6 +49,7 @@ import de.caritas.cob.userservice.api.service.statistics.event.AssignSessionStat
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
 import de.caritas.cob.userservice.statisticsservice.generated.web.model.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -59,6 +61,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -82,12 +85,23 @@ class AssignEnquiryFacadeTest {
   @Mock StatisticsService statisticsService;
   @Mock TenantContextProvider tenantContextProvider;
   @Mock HttpServletRequest httpServletRequest;
+  @Spy RocketChatRoomReconciler rocketChatRoomReconciler = rocketChatRoomReconciler();
 
   @AfterEach
   public void tearDown() {
+    rocketChatRoomReconciler.shutdown();
     TenantContext.clear();
   }
 
+  private static RocketChatRoomReconciler rocketChatRoomReconciler() {
+    var reconciler = new RocketChatRoomReconciler(new SimpleMeterRegistry());
+    setField(reconciler, "poolSize", 1);
+    setField(reconciler, "queueCapacity", 10);
+    setField(reconciler, "maxAttempts", 1);
+    reconciler.initialize();
+    return reconciler;
+  }
+
   @Test
   void assignEnquiry_Should_ReturnOKAndNotRemoveSystemUser() {
     assignEnquiryFacade.assignRegisteredEnquiry(
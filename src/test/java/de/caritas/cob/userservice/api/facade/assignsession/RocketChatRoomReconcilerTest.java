@@ -0,0 +1,120 @@
+package de.caritas.cob.userservice.api.facade.assignsession;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RocketChatRoomReconcilerTest {
+
+  private static final String RC_GROUP_ID = "rcGroupId";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RocketChatRoomReconciler reconciler;
+
+  @BeforeEach
+  void setup() {
+    reconciler = new RocketChatRoomReconciler(meterRegistry);
+    setField(reconciler, "poolSize", 1);
+    setField(reconciler, "queueCapacity", 10);
+    setField(reconciler, "maxAttempts", 3);
+    setField(reconciler, "initialBackoffMillis", 10L);
+    reconciler.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    reconciler.shutdown();
+  }
+
+  @Test
+  void reconcile_Should_runReconciliationAndCallback() {
+    var reconciliations = new AtomicInteger();
+    var callbacks = new AtomicInteger();
+
+    reconciler.reconcile(
+        RC_GROUP_ID, reconciliations::incrementAndGet, callbacks::incrementAndGet);
+
+    await().atMost(5, SECONDS).until(() -> callbacks.get() == 1);
+    assertThat(reconciliations).hasValue(1);
+    assertThat(meterRegistry.get("userservice.rocketchat.reconciliation.latency").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void reconcile_Should_runOnlyLatestReconciliation_When_groupIsReassignedWhileQueued() {
+    var blocker = new CountDownLatch(1);
+    reconciler.reconcile("blockingGroup", () -> awaitQuietly(blocker), () -> {});
+    var firstReconciliations = new AtomicInteger();
+    var latestReconciliations = new AtomicInteger();
+    var callbacks = new AtomicInteger();
+
+    reconciler.reconcile(
+        RC_GROUP_ID, firstReconciliations::incrementAndGet, callbacks::incrementAndGet);
+    reconciler.reconcile(
+        RC_GROUP_ID, latestReconciliations::incrementAndGet, callbacks::incrementAndGet);
+    blocker.countDown();
+
+    await().atMost(5, SECONDS).until(() -> callbacks.get() == 2);
+    assertThat(firstReconciliations).hasValue(0);
+    assertThat(latestReconciliations).hasValue(1);
+    var deduplications =
+        meterRegistry.get("userservice.rocketchat.reconciliation.deduplicated").counter();
+    assertThat(deduplications.count()).isEqualTo(1);
+  }
+
+  @Test
+  void reconcile_Should_retryFailedReconciliation_When_nextAttemptSucceeds() {
+    var attempts = new AtomicInteger();
+    var callbacks = new AtomicInteger();
+
+    reconciler.reconcile(
+        RC_GROUP_ID,
+        () -> {
+          if (attempts.incrementAndGet() < 3) {
+            throw new IllegalStateException("Rocket.Chat not reachable");
+          }
+        },
+        callbacks::incrementAndGet);
+
+    await().atMost(5, SECONDS).until(() -> callbacks.get() == 1);
+    assertThat(attempts).hasValue(3);
+    assertThat(meterRegistry.get("userservice.rocketchat.reconciliation.retries").counter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void reconcile_Should_giveUpWithoutCallback_When_allAttemptsFail() {
+    var attempts = new AtomicInteger();
+    var callbacks = new AtomicInteger();
+
+    reconciler.reconcile(
+        RC_GROUP_ID,
+        () -> {
+          attempts.incrementAndGet();
+          throw new IllegalStateException("Rocket.Chat not reachable");
+        },
+        callbacks::incrementAndGet);
+
+    var failures = meterRegistry.get("userservice.rocketchat.reconciliation.failures").counter();
+    await().atMost(5, SECONDS).until(() -> failures.count() == 1);
+    assertThat(attempts).hasValue(3);
+    assertThat(callbacks).hasValue(0);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
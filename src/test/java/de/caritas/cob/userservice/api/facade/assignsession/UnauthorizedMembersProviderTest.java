@@ -15,6 +15,11 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
@@ -27,8 +32,9 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInit
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -101,7 +107,8 @@ class UnauthorizedMembersProviderTest {
             new GroupMemberDTO("rcTechnicalRcId", null, "name", null, null),
             new GroupMemberDTO(ROCKET_CHAT_SYSTEM_USER_ID, null, "name", null, null),
             new GroupMemberDTO("techUserRcId", null, "name", null, null));
-    List.of(
+    var knownConsultants =
+        List.of(
             newConsultant,
             normalConsultant,
             teamConsultant,
@@ -109,11 +116,15 @@ class UnauthorizedMembersProviderTest {
             mainConsultant,
             mainConsultant2,
             peerConsultant,
-            peerConsultant2)
-        .forEach(
-            consultant ->
-                when(consultantService.getConsultantByRcUserId(consultant.getRocketChatId()))
-                    .thenReturn(Optional.of(consultant)));
+            peerConsultant2);
+    when(consultantService.getConsultantsByRcUserIds(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<String> rcUserIds = invocation.getArgument(0);
+              return knownConsultants.stream()
+                  .filter(consultant -> rcUserIds.contains(consultant.getRocketChatId()))
+                  .toList();
+            });
   }
 
   @Test
@@ -259,14 +270,8 @@ class UnauthorizedMembersProviderTest {
     when(consultantService.findConsultantsByAgencyId(
             FEEDBACK_SESSION_WITH_ASKER_AND_CONSULTANT.getAgencyId()))
         .thenReturn(consultantList);
-    consultantList.forEach(
-        consultant ->
-            when(consultantService.getConsultantByRcUserId(consultant.getRocketChatId()))
-                .thenReturn(Optional.of(consultant)));
-    when(keycloakService.userHasAuthority(mainConsultant.getId(), VIEW_ALL_PEER_SESSIONS))
-        .thenReturn(true);
-    when(keycloakService.userHasAuthority(mainConsultant2.getId(), VIEW_ALL_PEER_SESSIONS))
-        .thenReturn(true);
+    when(keycloakService.filterUsersWithAuthority(anyCollection(), eq(VIEW_ALL_PEER_SESSIONS)))
+        .thenReturn(Set.of(mainConsultant.getId(), mainConsultant2.getId()));
 
     List<Consultant> result =
         unauthorizedMembersProvider.obtainConsultantsToRemove(
@@ -301,10 +306,8 @@ class UnauthorizedMembersProviderTest {
     when(consultantService.findConsultantsByAgencyId(
             FEEDBACK_SESSION_WITH_ASKER_AND_CONSULTANT.getAgencyId()))
         .thenReturn(consultantList);
-    when(keycloakService.userHasAuthority(mainConsultant.getId(), VIEW_ALL_FEEDBACK_SESSIONS))
-        .thenReturn(true);
-    when(keycloakService.userHasAuthority(mainConsultant2.getId(), VIEW_ALL_FEEDBACK_SESSIONS))
-        .thenReturn(true);
+    when(keycloakService.filterUsersWithAuthority(anyCollection(), eq(VIEW_ALL_FEEDBACK_SESSIONS)))
+        .thenReturn(Set.of(mainConsultant.getId(), mainConsultant2.getId()));
 
     List<Consultant> result =
         unauthorizedMembersProvider.obtainConsultantsToRemove(
@@ -320,6 +323,18 @@ class UnauthorizedMembersProviderTest {
             normalConsultant, teamConsultant, teamConsultant2, peerConsultant, peerConsultant2));
   }
 
+  @Test
+  void obtainConsultantsToRemove_Should_ResolveAllUnauthorizedMembersWithOneLookup()
+      throws RocketChatUserNotInitializedException {
+    when(rocketChatCredentialsProvider.getTechnicalUser()).thenReturn(techUserRcCredentials);
+
+    unauthorizedMembersProvider.obtainConsultantsToRemove(
+        RC_GROUP_ID, SESSION_WITH_ASKER_AND_CONSULTANT, newConsultant, initialMemberList);
+
+    verify(consultantService).getConsultantsByRcUserIds(anyCollection());
+    verify(consultantService, never()).getConsultantByRcUserId(any());
+  }
+
   @Test
   void obtainConsultantsToRemove_Should_ThrowInternalServerError_When_TechUserIsNotInitialized()
       throws RocketChatUserNotInitializedException {
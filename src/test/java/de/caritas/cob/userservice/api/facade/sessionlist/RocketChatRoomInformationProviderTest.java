@@ -14,11 +14,15 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.SUBSCRIPTI
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USERS_ROOMS_LIST;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_DTO_3;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Objects;
@@ -27,7 +31,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class RocketChatRoomInformationProviderTest {
@@ -36,6 +42,12 @@ public class RocketChatRoomInformationProviderTest {
 
   @Mock private RocketChatService rocketChatService;
 
+  @Mock private RocketChatRoomStateStore rocketChatRoomStateStore;
+
+  @Spy
+  private SessionListEnrichmentExecutor sessionListEnrichmentExecutor =
+      new SessionListEnrichmentExecutor(new SimpleMeterRegistry());
+
   @Test
   public void retrieveRocketChatInformation_Should_Return_CorrectMessagesReadMap() {
 
@@ -70,6 +82,23 @@ public class RocketChatRoomInformationProviderTest {
     assertEquals(USERS_ROOMS_LIST, rocketChatRoomInformation.getUserRooms());
   }
 
+  @Test
+  public void retrieveRocketChatInformation_Should_Return_RoomsIndexedById() {
+
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(ROOMS_UPDATE_DTO_LIST);
+    RocketChatRoomInformation rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+
+    ROOMS_UPDATE_DTO_LIST.forEach(
+        room -> {
+          assertEquals(
+              room, rocketChatRoomInformation.findRoomForUpdate(room.getId()).orElseThrow());
+          assertTrue(rocketChatRoomInformation.isUserRoom(room.getId()));
+        });
+    assertTrue(rocketChatRoomInformation.findRoomForUpdate("unknown").isEmpty());
+    assertFalse(rocketChatRoomInformation.isUserRoom("unknown"));
+  }
+
   @Test
   public void retrieveRocketChatInformation_Should_Return_CorrectRocketChatLastMessageRoom() {
 
@@ -92,6 +121,41 @@ public class RocketChatRoomInformationProviderTest {
     assertTrue(CollectionUtils.sizeIsEmpty(rocketChatRoomInformation.getRoomsForUpdate()));
   }
 
+  @Test
+  public void retrieveRocketChatInformation_Should_UseRoomStateStore_When_IncrementalSyncEnabled() {
+    ReflectionTestUtils.setField(rocketChatRoomInformationProvider, "incrementalSyncEnabled", true);
+    when(rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(ROOMS_UPDATE_DTO_LIST);
+
+    RocketChatRoomInformation rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+
+    assertEquals(ROOMS_UPDATE_DTO_LIST, rocketChatRoomInformation.getRoomsForUpdate());
+    verify(rocketChatRoomStateStore).getSubscriptionsOfUser(RC_CREDENTIALS);
+    verifyNoInteractions(rocketChatService);
+  }
+
+  @Test
+  public void retrieveRocketChatInformation_Should_FetchConcurrently_When_ParallelModeEnabled() {
+    ReflectionTestUtils.setField(sessionListEnrichmentExecutor, "parallelEnabled", true);
+    ReflectionTestUtils.setField(sessionListEnrichmentExecutor, "poolSize", 2);
+    ReflectionTestUtils.setField(sessionListEnrichmentExecutor, "queueCapacity", 2);
+    ReflectionTestUtils.setField(sessionListEnrichmentExecutor, "timeoutSeconds", 5L);
+    sessionListEnrichmentExecutor.initialize();
+    when(rocketChatService.getRoomsOfUser(any())).thenReturn(ROOMS_UPDATE_DTO_LIST);
+    when(rocketChatService.getSubscriptionsOfUser(any()))
+        .thenReturn(SUBSCRIPTIONS_UPDATE_LIST_DTO_WITH_ONE_FEEDBACK_UNREAD);
+
+    try {
+      RocketChatRoomInformation rocketChatRoomInformation =
+          rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+
+      assertEquals(ROOMS_UPDATE_DTO_LIST, rocketChatRoomInformation.getRoomsForUpdate());
+      assertFalse(rocketChatRoomInformation.getReadMessages().get(RC_FEEDBACK_GROUP_ID));
+    } finally {
+      sessionListEnrichmentExecutor.shutdown();
+    }
+  }
+
   @Test
   public void should_collect_fallback_date_for_rooms_without_last_message() {
     var fallbackDate = new Date(1655730882738L);
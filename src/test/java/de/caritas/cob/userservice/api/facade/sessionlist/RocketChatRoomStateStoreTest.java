@@ -0,0 +1,132 @@
+package de.caritas.cob.userservice.api.facade.sessionlist;
+
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_CREDENTIALS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatRoomStateStoreTest {
+
+  private static final Instant NOW = Instant.parse("2022-01-01T10:00:00Z");
+
+  private RocketChatRoomStateStore rocketChatRoomStateStore;
+
+  @Mock private RocketChatService rocketChatService;
+
+  @Mock private Clock clock;
+
+  @BeforeEach
+  void setup() {
+    rocketChatRoomStateStore = new RocketChatRoomStateStore(rocketChatService, clock);
+    ReflectionTestUtils.setField(rocketChatRoomStateStore, "maxUsers", 10);
+    ReflectionTestUtils.setField(rocketChatRoomStateStore, "fullSyncIntervalSeconds", 900L);
+  }
+
+  @Test
+  void getRoomsOfUser_Should_fetchAllRooms_When_noStateIsKnown() {
+    when(clock.instant()).thenReturn(NOW);
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS))
+        .thenReturn(List.of(room("room1"), room("room2")));
+
+    var rooms = rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+
+    assertThat(rooms.stream().map(RoomsUpdateDTO::getId).toList(), contains("room1", "room2"));
+  }
+
+  @Test
+  void getRoomsOfUser_Should_mergeDeltaIntoKnownState_When_stateIsKnown() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(30));
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS))
+        .thenReturn(List.of(room("room1"), room("room2")));
+    var delta = new RoomsGetDTO();
+    delta.setUpdate(new RoomsUpdateDTO[] {room("room3")});
+    delta.setRemove(new RoomsUpdateDTO[] {room("room1")});
+    when(rocketChatService.getRoomsOfUserUpdatedSince(RC_CREDENTIALS, NOW.minusSeconds(10)))
+        .thenReturn(delta);
+
+    rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+    var rooms = rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+
+    assertThat(
+        rooms.stream().map(RoomsUpdateDTO::getId).toList(), containsInAnyOrder("room2", "room3"));
+    verify(rocketChatService).getRoomsOfUser(RC_CREDENTIALS);
+  }
+
+  @Test
+  void getRoomsOfUser_Should_fetchAllRoomsAgain_When_fullSyncIntervalIsExceeded() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(901));
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(List.of(room("room1")));
+
+    rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+    rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+
+    verify(rocketChatService, times(2)).getRoomsOfUser(RC_CREDENTIALS);
+    verifyNoMoreInteractions(rocketChatService);
+  }
+
+  @Test
+  void getSubscriptionsOfUser_Should_mergeDeltaIntoKnownState_When_stateIsKnown() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(30));
+    var subscription = subscription("sub1", 1);
+    when(rocketChatService.getSubscriptionsOfUser(RC_CREDENTIALS))
+        .thenReturn(List.of(subscription, subscription("sub2", 0)));
+    var delta = new SubscriptionsGetDTO();
+    delta.setUpdate(new SubscriptionsUpdateDTO[] {subscription("sub1", 0)});
+    when(rocketChatService.getSubscriptionsOfUserUpdatedSince(
+            RC_CREDENTIALS, NOW.minusSeconds(10)))
+        .thenReturn(delta);
+
+    rocketChatRoomStateStore.getSubscriptionsOfUser(RC_CREDENTIALS);
+    var subscriptions = rocketChatRoomStateStore.getSubscriptionsOfUser(RC_CREDENTIALS);
+
+    assertThat(
+        subscriptions.stream().map(SubscriptionsUpdateDTO::getUnread).toList(), contains(0, 0));
+  }
+
+  @Test
+  void evict_Should_forceFullSynchronization() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(30));
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(List.of(room("room1")));
+
+    rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+    rocketChatRoomStateStore.evict(RC_CREDENTIALS.getRocketChatUserId());
+    rocketChatRoomStateStore.getRoomsOfUser(RC_CREDENTIALS);
+
+    verify(rocketChatService, times(2)).getRoomsOfUser(RC_CREDENTIALS);
+    verifyNoMoreInteractions(rocketChatService);
+  }
+
+  private RoomsUpdateDTO room(String id) {
+    var room = new RoomsUpdateDTO();
+    room.setId(id);
+    return room;
+  }
+
+  private SubscriptionsUpdateDTO subscription(String id, int unread) {
+    var subscription = new SubscriptionsUpdateDTO();
+    subscription.set_id(id);
+    subscription.setRoomId("room-" + id);
+    subscription.setUnread(unread);
+    return subscription;
+  }
+}
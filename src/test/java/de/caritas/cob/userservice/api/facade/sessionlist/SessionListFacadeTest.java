@@ -19,7 +19,6 @@ import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
-import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
@@ -27,6 +26,7 @@ import de.caritas.cob.userservice.api.service.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionListService;
 import de.caritas.cob.userservice.api.service.sessionlist.UserSessionListService;
+import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -148,10 +148,9 @@ public class SessionListFacadeTest {
       assertTrue(previousDate <= dto.getSession().getMessageDate());
     }
 
-    Mockito.verify(
-            sessionTopicEnrichmentService,
-            Mockito.times(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size()))
-        .enrichSessionWithTopicData(Mockito.any(SessionDTO.class));
+    Mockito.verify(sessionTopicEnrichmentService)
+        .enrichSessionsWithTopicData(
+            result.getSessions().stream().map(ConsultantSessionResponseDTO::getSession).toList());
 
     ReflectionTestUtils.setField(sessionListFacade, "topicsFeatureEnabled", false);
   }
@@ -406,6 +405,64 @@ public class SessionListFacadeTest {
     assertEquals(COUNT_1, result.getSessions().size());
   }
 
+  @Test
+  public void
+      retrieveSessionsDtoForAuthenticatedConsultant_Should_ReturnDatabasePage_When_DatabasePaginationIsEnabled() {
+    ReflectionTestUtils.setField(sessionListFacade, "databasePaginationEnabled", true);
+    var sessionListQueryParameter =
+        createStandardSessionListQueryParameterObject(OFFSET_0, COUNT_10, SessionFilter.ALL);
+    var page = new ConsultantSessionListResponseDTO().offset(OFFSET_0).count(COUNT_0).total(0);
+    when(consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter))
+        .thenReturn(page);
+
+    var result =
+        sessionListFacade.retrieveSessionsDtoForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter);
+
+    assertSame(page, result);
+    Mockito.verify(consultantSessionListService, Mockito.never())
+        .retrieveSessionsForAuthenticatedConsultant(CONSULTANT, sessionListQueryParameter);
+  }
+
+  @Test
+  public void
+      retrieveSessionsDtoForAuthenticatedConsultant_Should_ReturnDatabasePage_When_FeedbackFilterIsSupportedByPagination() {
+    ReflectionTestUtils.setField(sessionListFacade, "databasePaginationEnabled", true);
+    var sessionListQueryParameter =
+        createStandardSessionListQueryParameterObject(OFFSET_0, COUNT_10, SessionFilter.FEEDBACK);
+    var page = new ConsultantSessionListResponseDTO().offset(OFFSET_0).count(COUNT_0).total(0);
+    when(consultantSessionListService.isFeedbackFilterSupportedByPagination(
+            sessionListQueryParameter))
+        .thenReturn(true);
+    when(consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter))
+        .thenReturn(page);
+
+    var result =
+        sessionListFacade.retrieveSessionsDtoForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter);
+
+    assertSame(page, result);
+  }
+
+  @Test
+  public void
+      retrieveSessionsDtoForAuthenticatedConsultant_Should_LoadAllSessions_When_FeedbackFilterIsNotSupportedByPagination() {
+    ReflectionTestUtils.setField(sessionListFacade, "databasePaginationEnabled", true);
+    var sessionListQueryParameter =
+        createStandardSessionListQueryParameterObject(OFFSET_0, COUNT_10, SessionFilter.FEEDBACK);
+    when(consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter))
+        .thenReturn(new ArrayList<>(CONSULTANT_SESSION_RESPONSE_DTO_LIST_WITH_ONE_FEEDBACK));
+
+    sessionListFacade.retrieveSessionsDtoForAuthenticatedConsultant(
+        CONSULTANT, sessionListQueryParameter);
+
+    Mockito.verify(consultantSessionListService, Mockito.never())
+        .retrieveSessionPageForAuthenticatedConsultant(CONSULTANT, sessionListQueryParameter);
+  }
+
   private SessionListQueryParameter createStandardSessionListQueryParameterObject(
       int offset, int count, SessionFilter sessionFilter) {
     return SessionListQueryParameter.builder()
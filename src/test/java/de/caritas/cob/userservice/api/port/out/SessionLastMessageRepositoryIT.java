@@ -0,0 +1,77 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.caritas.cob.userservice.api.model.SessionLastMessage;
+import de.caritas.cob.userservice.api.model.SessionLastMessage.GroupType;
+import java.time.LocalDateTime;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class SessionLastMessageRepositoryIT {
+
+  private static final String RC_GROUP_ID = "4WKq3kj9C7WESSQuK";
+  private static final Long SESSION_ID = 1L;
+  private static final String CONSULTANT_ID = "473f7c4b-f011-4fc2-847c-ceb636a5b399";
+  private static final String OTHER_RC_GROUP_ID = "DJrRTzFg8Ac2BqE8j";
+  private static final Long OTHER_SESSION_ID = 2L;
+
+  @Autowired private SessionLastMessageRepository underTest;
+
+  @Autowired private TestEntityManager entityManager;
+
+  @Test
+  void save_Should_insertNewProjectionAndOverwriteExistingProjection() {
+    underTest.save(givenLastMessage(RC_GROUP_ID, SESSION_ID, "askerId", false));
+    entityManager.flush();
+    entityManager.clear();
+
+    underTest.save(givenLastMessage(RC_GROUP_ID, SESSION_ID, CONSULTANT_ID, true));
+    entityManager.flush();
+    entityManager.clear();
+
+    var lastMessage = underTest.findById(RC_GROUP_ID).orElseThrow();
+    assertEquals(CONSULTANT_ID, lastMessage.getLastSenderId());
+    assertTrue(lastMessage.isReadByConsultant());
+    assertEquals(1, underTest.count());
+  }
+
+  @Test
+  void markReadByConsultant_Should_markOnlyGroupsOfSessionsAssignedToConsultant() {
+    underTest.save(givenLastMessage(RC_GROUP_ID, SESSION_ID, "askerId", false));
+    underTest.save(givenLastMessage(OTHER_RC_GROUP_ID, OTHER_SESSION_ID, "askerId", false));
+    entityManager.flush();
+
+    var updated =
+        underTest.markReadByConsultant(Set.of(RC_GROUP_ID, OTHER_RC_GROUP_ID), CONSULTANT_ID);
+    entityManager.clear();
+
+    assertEquals(1, updated);
+    assertTrue(underTest.findById(RC_GROUP_ID).orElseThrow().isReadByConsultant());
+    assertFalse(underTest.findById(OTHER_RC_GROUP_ID).orElseThrow().isReadByConsultant());
+  }
+
+  private SessionLastMessage givenLastMessage(
+      String rcGroupId, Long sessionId, String senderId, boolean readByConsultant) {
+    return SessionLastMessage.builder()
+        .rcGroupId(rcGroupId)
+        .sessionId(sessionId)
+        .type(GroupType.SESSION)
+        .lastMessageDate(LocalDateTime.now())
+        .lastSenderId(senderId)
+        .readByAsker(!readByConsultant)
+        .readByConsultant(readByConsultant)
+        .build();
+  }
+}
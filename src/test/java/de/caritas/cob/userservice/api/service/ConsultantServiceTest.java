@@ -32,7 +32,9 @@ import de.caritas.cob.userservice.api.port.out.ConsultantMobileTokenRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.service.user.UserAccountService;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -77,6 +79,26 @@ class ConsultantServiceTest {
     assertEquals(CONSULTANT, result.get());
   }
 
+  @Test
+  void getConsultantsByRcUserIds_Should_ReturnConsultantsOfAllIdsWithOneQuery() {
+    var rcUserIds = Set.of(RC_USER_ID, "otherRcUserId");
+    when(consultantRepository.findByRocketChatIdInAndDeleteDateIsNull(rcUserIds))
+        .thenReturn(List.of(CONSULTANT));
+
+    var result = consultantService.getConsultantsByRcUserIds(rcUserIds);
+
+    assertThat(result, is(List.of(CONSULTANT)));
+    verify(consultantRepository, times(1)).findByRocketChatIdInAndDeleteDateIsNull(rcUserIds);
+  }
+
+  @Test
+  void getConsultantsByRcUserIds_Should_NotQueryRepository_When_NoIdsAreGiven() {
+    var result = consultantService.getConsultantsByRcUserIds(Set.of());
+
+    assertThat(result, hasSize(0));
+    verifyNoMoreInteractions(consultantRepository);
+  }
+
   @Test
   void getConsultantByEmail_Should_ReturnConsultant_WhenFound() {
     when(consultantRepository.findByEmailAndDeleteDateIsNull(EMAIL))
@@ -8,7 +8,6 @@ import static org.mockito.Mockito.when;
 import de.caritas.cob.userservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.consultingtypeservice.generated.ApiClient;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.BasicConsultingTypeResponseDTO;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,7 +48,6 @@ class ConsultingTypeServiceTest {
   void setUp() {
     when(consultingTypeServiceApiControllerFactory.createControllerApi())
         .thenReturn(consultingTypeControllerApi);
-    when(consultingTypeControllerApi.getApiClient()).thenReturn(new ApiClient());
   }
 
   @Test
@@ -65,4 +65,41 @@ public class DecryptionServiceTest {
       assertTrue(true, "Expected BadPaddingException thrown");
     }
   }
+
+  @Test
+  public void decrypt_Should_ReuseDerivedKey_When_SameGroupIsDecryptedAgain() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    String decryptedMessage = encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+
+    assertEquals(MESSAGE_PLAIN, decryptedMessage);
+    assertEquals(1, encryptionService.getKeyCacheMisses());
+    assertEquals(1, encryptionService.getKeyCacheHits());
+  }
+
+  @Test
+  public void updateMasterKey_Should_InvalidateDerivedKeys() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+
+    encryptionService.updateMasterKey("OtherMasterKey");
+
+    assertEquals(0, encryptionService.getKeyCacheSize());
+    assertThrows(
+        CustomCryptoException.class,
+        () -> encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION));
+  }
+
+  @Test
+  public void decrypt_Should_EvictEldestDerivedKey_When_CacheIsFull() throws Exception {
+    ReflectionTestUtils.setField(encryptionService, "keyCacheMaxEntries", 1);
+
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    try {
+      encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION_WRONG);
+    } catch (CustomCryptoException ex) {
+      // wrong key is expected, only the cache state is relevant here
+    }
+
+    assertEquals(1, encryptionService.getKeyCacheSize());
+    assertEquals(1, encryptionService.getKeyCacheEvictions());
+  }
 }
@@ -125,9 +125,9 @@ class RocketChatServiceTest {
   private final GroupResponseDTO EMPTY_GROUP_RESPONSE_DTO =
       new GroupResponseDTO(null, false, null, null);
   private final SubscriptionsGetDTO SUBSCRIPTIONS_GET_DTO =
-      new SubscriptionsGetDTO(new SubscriptionsUpdateDTO[] {}, false, null, null);
+      new SubscriptionsGetDTO(new SubscriptionsUpdateDTO[] {}, null, false, null, null);
   private final RoomsGetDTO ROOMS_GET_DTO =
-      new RoomsGetDTO(new RoomsUpdateDTO[] {}, true, null, null);
+      new RoomsGetDTO(new RoomsUpdateDTO[] {}, null, true, null, null);
   private final ResponseEntity<SubscriptionsGetDTO> SUBSCRIPTIONS_GET_RESPONSE_ENTITY =
       new ResponseEntity<>(SUBSCRIPTIONS_GET_DTO, HttpStatus.OK);
   private final ResponseEntity<RoomsGetDTO> ROOMS_GET_RESPONSE_ENTITY =
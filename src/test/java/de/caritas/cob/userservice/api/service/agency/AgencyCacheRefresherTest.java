@@ -0,0 +1,65 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class AgencyCacheRefresherTest {
+
+  @InjectMocks AgencyCacheRefresher agencyCacheRefresher;
+
+  @Mock SecurityHeaderSupplier securityHeaderSupplier;
+
+  @Mock AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
+
+  @Mock AgencyControllerApi agencyControllerApi;
+
+  private final HttpHeaders headers = new HttpHeaders();
+
+  @BeforeEach
+  void setup() {
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(headers);
+    when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
+  }
+
+  @Test
+  void agencyCacheLoader_Should_reloadAgencyById() {
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L)))
+        .thenReturn(List.of(new AgencyResponseDTO().id(1L).name("agency")));
+
+    var agency =
+        (AgencyDTO) agencyCacheRefresher.agencyCacheLoader().reload(1L, new AgencyDTO().id(1L));
+
+    assertThat(agency.getId()).isEqualTo(1L);
+    assertThat(agency.getName()).isEqualTo("agency");
+  }
+
+  @Test
+  void consultingTypeAgenciesCacheLoader_Should_reloadAgencyIdsWithTenantOfKey() {
+    when(agencyControllerApi.getAgenciesByConsultingType(5))
+        .thenReturn(List.of(new AgencyResponseDTO().id(1L), new AgencyResponseDTO().id(2L)));
+
+    var agencyIds =
+        agencyCacheRefresher
+            .consultingTypeAgenciesCacheLoader()
+            .reload(
+                new ConsultingTypeAgenciesKey(3L, 5), new ConsultingTypeAgencyIds(List.of(1L)));
+
+    assertThat(agencyIds).isEqualTo(new ConsultingTypeAgencyIds(List.of(1L, 2L)));
+    assertThat(headers.getFirst("tenantId")).isEqualTo("3");
+  }
+}
@@ -0,0 +1,44 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import lombok.SneakyThrows;
+import org.jeasy.random.EasyRandom;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class AgencyDtoMapperTest {
+
+  private final AgencyDtoMapper agencyDtoMapper = new AgencyDtoMapper();
+
+  private final EasyRandom easyRandom = new EasyRandom();
+
+  @RepeatedTest(5)
+  void agencyDtoOf_Should_mapAllFields_When_comparedToJsonConversion() {
+    var agencyResponseDTO = easyRandom.nextObject(AgencyResponseDTO.class);
+
+    var agencyDTO = agencyDtoMapper.agencyDtoOf(agencyResponseDTO);
+
+    assertThat(agencyDTO).isEqualTo(convertViaJson(agencyResponseDTO));
+  }
+
+  @Test
+  void agencyDtoOf_Should_keepEmptyFields_When_agencyHasOnlyAnId() {
+    var agencyResponseDTO = new AgencyResponseDTO().id(1L).topicIds(null);
+
+    var agencyDTO = agencyDtoMapper.agencyDtoOf(agencyResponseDTO);
+
+    assertThat(agencyDTO).isEqualTo(convertViaJson(agencyResponseDTO));
+    assertThat(agencyDTO.getTopicIds()).isNull();
+  }
+
+  @SneakyThrows
+  private static AgencyDTO convertViaJson(AgencyResponseDTO agencyResponseDTO) {
+    var objectMapper = new ObjectMapper();
+    return objectMapper.readValue(
+        objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
+  }
+}
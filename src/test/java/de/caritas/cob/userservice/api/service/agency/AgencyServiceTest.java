@@ -1,25 +1,38 @@
 package de.caritas.cob.userservice.api.service.agency;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
-import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.HttpHeadersResolver;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.concurrent.Callable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -38,7 +51,14 @@ class AgencyServiceTest {
 
   @Mock SecurityHeaderSupplier securityHeaderSupplier;
 
-  @Mock ApiClient apiClient;
+  @Spy
+  ConcurrentMapCacheManager cacheManager =
+      new ConcurrentMapCacheManager(
+          CacheManagerConfig.AGENCY_CACHE, CacheManagerConfig.CONSULTING_TYPE_AGENCIES_CACHE);
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Spy AgencyCacheMetrics agencyCacheMetrics = new AgencyCacheMetrics(meterRegistry);
 
   @ParameterizedTest
   @NullAndEmptySource
@@ -55,7 +75,6 @@ class AgencyServiceTest {
     ReflectionTestUtils.setField(agencyService, "tenantHeaderSupplier", tenantHeaderSupplier);
     HttpHeaders headers = new HttpHeaders();
     when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(headers);
-    when(this.agencyControllerApi.getApiClient()).thenReturn(apiClient);
     var agencyDTOS =
         Lists.newArrayList(
             new de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO());
@@ -67,4 +86,85 @@ class AgencyServiceTest {
     assertThat(headers.get("tenantId").get(0)).isEqualTo("1");
     TenantContext.clear();
   }
+
+  @Test
+  void getAgencies_Should_requestOnlyAgenciesMissingInCache_When_someAreCached() {
+    givenAgencyServiceApi();
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L, 2L)))
+        .thenReturn(List.of(agencyResponse(1L), agencyResponse(2L)));
+    when(agencyControllerApi.getAgenciesByIds(List.of(3L)))
+        .thenReturn(List.of(agencyResponse(3L)));
+
+    agencyService.getAgencies(List.of(1L, 2L));
+    var result = agencyService.getAgencies(List.of(2L, 3L, 1L));
+
+    assertThat(result).extracting(AgencyDTO::getId).containsExactly(2L, 3L, 1L);
+    verify(agencyControllerApi).getAgenciesByIds(List.of(1L, 2L));
+    verify(agencyControllerApi).getAgenciesByIds(List.of(3L));
+    verify(agencyControllerApi, times(2)).getAgenciesByIds(any());
+    assertThat(hitRatio(AgencyCacheMetrics.LOOKUP_BY_ID)).isEqualTo(0.4);
+  }
+
+  @Test
+  void getAgencies_Should_notRequestAgencyService_When_allAgenciesAreCached() {
+    givenAgencyServiceApi();
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L)))
+        .thenReturn(List.of(agencyResponse(1L)));
+
+    agencyService.getAgencies(List.of(1L));
+    var result = agencyService.getAgencies(List.of(1L, 1L));
+
+    assertThat(result).extracting(AgencyDTO::getId).containsExactly(1L);
+    verify(agencyControllerApi, times(1)).getAgenciesByIds(any());
+  }
+
+  @Test
+  void getAgencies_Should_readEachCachedAgencyOnce_When_agenciesAreCached() {
+    givenAgencyServiceApi();
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L)))
+        .thenReturn(List.of(agencyResponse(1L)));
+    var agencyCache = spy(new ConcurrentMapCache(CacheManagerConfig.AGENCY_CACHE));
+    doReturn(agencyCache).when(cacheManager).getCache(CacheManagerConfig.AGENCY_CACHE);
+
+    agencyService.getAgencies(List.of(1L));
+    agencyService.getAgencies(List.of(1L));
+
+    verify(agencyCache, times(2)).get(1L, AgencyDTO.class);
+    verify(agencyCache, never()).get(eq(1L), any(Callable.class));
+    verify(agencyControllerApi, times(1)).getAgenciesByIds(any());
+  }
+
+  @Test
+  void getAgenciesByConsultingType_Should_serveAgenciesFromCache_When_requestedAgain() {
+    givenAgencyServiceApi();
+    when(agencyControllerApi.getAgenciesByConsultingType(5))
+        .thenReturn(List.of(agencyResponse(1L), agencyResponse(2L)));
+
+    agencyService.getAgenciesByConsultingType(5);
+    var result = agencyService.getAgenciesByConsultingType(5);
+    var agencies = agencyService.getAgencies(List.of(2L));
+
+    assertThat(result).extracting(AgencyDTO::getId).containsExactly(1L, 2L);
+    assertThat(agencies).extracting(AgencyDTO::getId).containsExactly(2L);
+    verify(agencyControllerApi, times(1)).getAgenciesByConsultingType(5);
+    verify(agencyControllerApi, never()).getAgenciesByIds(any());
+    assertThat(hitRatio(AgencyCacheMetrics.LOOKUP_BY_CONSULTING_TYPE)).isEqualTo(0.5);
+  }
+
+  private void givenAgencyServiceApi() {
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenAnswer(invocation -> new HttpHeaders());
+    when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
+  }
+
+  private static AgencyResponseDTO agencyResponse(Long agencyId) {
+    return new AgencyResponseDTO().id(agencyId);
+  }
+
+  private double hitRatio(String lookup) {
+    return meterRegistry
+        .get("userservice.agency.cache.hit.ratio")
+        .tag("lookup", lookup)
+        .gauge()
+        .value();
+  }
 }
@@ -42,14 +42,14 @@ public class AssignEnquiryEmailSupplierTest {
     String askerUserName = "asker user name";
     String senderUserId = "sender user id";
     this.assignEnquiryEmailSupplier =
-        new AssignEnquiryEmailSupplier(
-            receiverConsultant,
-            senderUserId,
-            askerUserName,
-            applicationBaseUrl,
-            consultantService,
-            null,
-            false);
+        AssignEnquiryEmailSupplier.builder()
+            .receiverConsultant(receiverConsultant)
+            .senderUserId(senderUserId)
+            .askerUserName(askerUserName)
+            .applicationBaseUrl(applicationBaseUrl)
+            .consultantService(consultantService)
+            .multiTenancyEnabled(false)
+            .build();
     setInternalState(AssignEnquiryEmailSupplier.class, "log", logger);
   }
 
@@ -44,9 +44,12 @@ public class NewEnquiryEmailSupplierTest {
   @BeforeEach
   public void setup() {
     this.newEnquiryEmailSupplier =
-        new NewEnquiryEmailSupplier(
-            consultantAgencyRepository, agencyService, releaseToggleService, null);
-    this.newEnquiryEmailSupplier.setCurrentSession(session);
+        NewEnquiryEmailSupplier.builder()
+            .session(session)
+            .consultantAgencyRepository(consultantAgencyRepository)
+            .agencyService(agencyService)
+            .releaseToggleService(releaseToggleService)
+            .build();
   }
 
   @Test
@@ -0,0 +1,74 @@
+package de.caritas.cob.userservice.api.service.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
+import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MailNotificationBatcherTest {
+
+  @InjectMocks private MailNotificationBatcher mailNotificationBatcher;
+
+  @Mock private MailService mailService;
+
+  @AfterEach
+  void tearDown() {
+    mailNotificationBatcher.flushPendingMails();
+    TenantContext.clear();
+  }
+
+  @Test
+  void send_Should_sendMailsImmediately_When_batchWindowIsDisabled() {
+    mailNotificationBatcher.startFlushScheduler();
+
+    mailNotificationBatcher.send(List.of(mail("a@b.de")));
+
+    verify(mailService).sendEmailNotification(new MailsDTO().mails(List.of(mail("a@b.de"))));
+  }
+
+  @Test
+  void send_Should_notCallMailService_When_noMailsAreGiven() {
+    mailNotificationBatcher.send(List.of());
+
+    verifyNoInteractions(mailService);
+  }
+
+  @Test
+  void send_Should_sendOneRequestPerTenant_When_mailsAreAddedWithinBatchWindow() {
+    ReflectionTestUtils.setField(mailNotificationBatcher, "batchWindowMillis", 60_000L);
+    mailNotificationBatcher.startFlushScheduler();
+
+    TenantContext.setCurrentTenantData(new TenantData(1L, "one"));
+    mailNotificationBatcher.send(List.of(mail("a@b.de")));
+    mailNotificationBatcher.send(List.of(mail("c@d.de")));
+    TenantContext.setCurrentTenantData(new TenantData(2L, "two"));
+    mailNotificationBatcher.send(List.of(mail("e@f.de")));
+    verifyNoInteractions(mailService);
+
+    mailNotificationBatcher.flushPendingMails();
+
+    var captor = ArgumentCaptor.forClass(MailsDTO.class);
+    verify(mailService, times(2)).sendEmailNotification(captor.capture());
+    var mailCounts = captor.getAllValues().stream().map(mails -> mails.getMails().size());
+    assertThat(mailCounts).containsExactlyInAnyOrder(2, 1);
+  }
+
+  private static MailDTO mail(String email) {
+    return new MailDTO().email(email);
+  }
+}
@@ -8,7 +8,9 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,6 +21,7 @@ import static org.powermock.reflect.Whitebox.setInternalState;
 import de.caritas.cob.userservice.api.config.apiclient.LiveServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.service.mobilepushmessage.MobilePushNotificationService;
+import de.caritas.cob.userservice.api.service.session.SessionLastMessageService;
 import de.caritas.cob.userservice.liveservice.generated.ApiException;
 import de.caritas.cob.userservice.liveservice.generated.web.LiveControllerApi;
 import de.caritas.cob.userservice.liveservice.generated.web.model.EventType;
@@ -57,6 +60,8 @@ public class LiveEventNotificationServiceTest {
 
   @Mock private MobilePushNotificationService mobilePushNotificationService;
 
+  @Mock private SessionLastMessageService sessionLastMessageService;
+
   @Mock private Logger logger;
 
   @Mock private LiveServiceApiControllerFactory liveServiceApiControllerFactory;
@@ -79,10 +84,37 @@ public class LiveEventNotificationServiceTest {
     verify(liveControllerApi, times(1)).sendLiveEvent(MESSAGE.userIds(asList("1", "2")));
   }
 
+  @Test
+  public void sendLiveDirectMessageEventToUsers_Should_recordMessageOfInitiatingUser() {
+    when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(this.byChatProvider);
+    when(this.authenticatedUser.getUserId()).thenReturn("consultant id");
+    when(this.authenticatedUser.isConsultant()).thenReturn(true);
+
+    this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("group id");
+
+    verify(sessionLastMessageService).recordMessage("group id", "consultant id", true);
+  }
+
+  @Test
+  public void sendLiveDirectMessageEventToUsers_Should_sendLiveEvent_When_recordingMessageFails()
+      throws ApiException {
+    when(this.bySessionProvider.collectUserIds(any())).thenReturn(asList("1", "2"));
+    when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(bySessionProvider);
+    doThrow(new RuntimeException("duplicate key"))
+        .when(sessionLastMessageService)
+        .recordMessage(any(), any(), anyBoolean());
+
+    this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("valid");
+
+    verify(liveControllerApi).sendLiveEvent(MESSAGE.userIds(asList("1", "2")));
+    verify(logger).error(anyString(), eq("valid"), any(RuntimeException.class));
+  }
+
   @Test
   public void sendLiveDirectMessageEventToUsers_Should_doNothing_When_rcGroupIdIsEmpty() {
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("");
 
+    verifyNoInteractions(sessionLastMessageService);
     verifyNoInteractions(userIdsProviderFactory);
     verifyNoInteractions(liveControllerApi);
     verifyNoInteractions(mobilePushNotificationService);
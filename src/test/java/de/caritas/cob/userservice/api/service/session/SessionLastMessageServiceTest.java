@@ -0,0 +1,234 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import de.caritas.cob.userservice.api.model.Chat;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import de.caritas.cob.userservice.api.model.SessionLastMessage;
+import de.caritas.cob.userservice.api.model.SessionLastMessage.GroupType;
+import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import de.caritas.cob.userservice.api.port.out.SessionLastMessageRepository;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SessionLastMessageServiceTest {
+
+  private static final String RC_GROUP_ID = "rcGroupId";
+  private static final String CONSULTANT_ID = "consultantId";
+
+  @InjectMocks private SessionLastMessageService sessionLastMessageService;
+  @Mock private SessionLastMessageRepository sessionLastMessageRepository;
+  @Mock private SessionRepository sessionRepository;
+  @Mock private ChatRepository chatRepository;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(sessionLastMessageService, "projectionEnabled", true);
+  }
+
+  @Test
+  void recordMessage_Should_createUnreadSessionProjectionAndUpdateSession_When_askerWrites() {
+    var session = Session.builder().id(1L).build();
+    when(sessionLastMessageRepository.findById(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(sessionRepository.findByGroupId(RC_GROUP_ID)).thenReturn(Optional.of(session));
+
+    sessionLastMessageService.recordMessage(RC_GROUP_ID, "askerId", false);
+
+    var lastMessage = captureSavedLastMessage();
+    assertEquals(GroupType.SESSION, lastMessage.getType());
+    assertEquals(1L, lastMessage.getSessionId());
+    assertFalse(lastMessage.isReadByConsultant());
+    assertTrue(lastMessage.isReadByAsker());
+    verify(sessionRepository)
+        .updateLastMessageDateByGroupId(eq(RC_GROUP_ID), eq(lastMessage.getLastMessageDate()));
+  }
+
+  @Test
+  void recordMessage_Should_markFeedbackAsUnread_When_otherConsultantWrites() {
+    var consultant = new Consultant();
+    consultant.setId(CONSULTANT_ID);
+    var session = Session.builder().id(1L).consultant(consultant).build();
+    when(sessionLastMessageRepository.findById(RC_GROUP_ID))
+        .thenReturn(
+            Optional.of(
+                SessionLastMessage.builder()
+                    .rcGroupId(RC_GROUP_ID)
+                    .sessionId(1L)
+                    .type(GroupType.FEEDBACK)
+                    .readByConsultant(true)
+                    .build()));
+    when(sessionRepository.findById(1L)).thenReturn(Optional.of(session));
+
+    sessionLastMessageService.recordMessage(RC_GROUP_ID, "supervisorId", true);
+
+    assertFalse(captureSavedLastMessage().isReadByConsultant());
+    verify(sessionRepository, never()).updateLastMessageDateByGroupId(any(), any());
+  }
+
+  @Test
+  void recordMessage_Should_createChatProjection_When_groupBelongsToChat() {
+    when(sessionLastMessageRepository.findById(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(sessionRepository.findByGroupId(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(sessionRepository.findByFeedbackGroupId(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(chatRepository.findByGroupId(RC_GROUP_ID)).thenReturn(Optional.of(new Chat()));
+
+    sessionLastMessageService.recordMessage(RC_GROUP_ID, CONSULTANT_ID, true);
+
+    assertEquals(GroupType.CHAT, captureSavedLastMessage().getType());
+  }
+
+  @Test
+  void recordMessage_Should_notSaveProjection_When_groupIsUnknown() {
+    when(sessionLastMessageRepository.findById(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(sessionRepository.findByGroupId(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(sessionRepository.findByFeedbackGroupId(RC_GROUP_ID)).thenReturn(Optional.empty());
+    when(chatRepository.findByGroupId(RC_GROUP_ID)).thenReturn(Optional.empty());
+
+    sessionLastMessageService.recordMessage(RC_GROUP_ID, CONSULTANT_ID, true);
+
+    verify(sessionLastMessageRepository, never()).save(any());
+  }
+
+  @Test
+  void recordMessage_Should_doNothing_When_projectionIsDisabled() {
+    ReflectionTestUtils.setField(sessionLastMessageService, "projectionEnabled", false);
+
+    sessionLastMessageService.recordMessage(RC_GROUP_ID, CONSULTANT_ID, true);
+
+    verifyNoInteractions(sessionLastMessageRepository, sessionRepository, chatRepository);
+  }
+
+  @Test
+  void recordMessage_Should_updateProjection_When_projectionIsInsertedConcurrently() {
+    var session = Session.builder().id(1L).build();
+    var concurrentlyInserted =
+        SessionLastMessage.builder()
+            .rcGroupId(RC_GROUP_ID)
+            .sessionId(1L)
+            .type(GroupType.SESSION)
+            .readByConsultant(true)
+            .build();
+    when(sessionLastMessageRepository.findById(RC_GROUP_ID))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(concurrentlyInserted));
+    when(sessionRepository.findByGroupId(RC_GROUP_ID)).thenReturn(Optional.of(session));
+    when(sessionLastMessageRepository.save(any()))
+        .thenThrow(new DataIntegrityViolationException("duplicate"))
+        .thenReturn(concurrentlyInserted);
+
+    sessionLastMessageService.recordMessage(RC_GROUP_ID, "askerId", false);
+
+    verify(sessionLastMessageRepository, times(2)).save(any());
+    assertFalse(concurrentlyInserted.isReadByConsultant());
+    assertEquals("askerId", concurrentlyInserted.getLastSenderId());
+  }
+
+  @Test
+  void synchronizeReadStateOfConsultant_Should_markOnlyReadGroupsOfConsultantAsRead() {
+    var consultant = new Consultant();
+    consultant.setId(CONSULTANT_ID);
+
+    sessionLastMessageService.synchronizeReadStateOfConsultant(
+        consultant, Map.of("readGroup", true, "unreadGroup", false));
+
+    verify(sessionLastMessageRepository).markReadByConsultant(Set.of("readGroup"), CONSULTANT_ID);
+  }
+
+  @Test
+  void backfillFeedbackOfConsultant_Should_insertReadStateOfFeedbackGroupsWithMessages() {
+    var consultant = new Consultant();
+    var unreadSession = Session.builder().id(1L).feedbackGroupId("unreadFeedback").build();
+    var readSession = Session.builder().id(2L).feedbackGroupId("readFeedback").build();
+    var emptySession = Session.builder().id(3L).feedbackGroupId("emptyFeedback").build();
+    when(sessionRepository.findWithoutFeedbackLastMessageByConsultantAndStatusIn(
+            consultant, List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE)))
+        .thenReturn(List.of(unreadSession, readSession, emptySession));
+    var rocketChatRoomInformation =
+        RocketChatRoomInformation.builder()
+            .readMessages(Map.of("readFeedback", true))
+            .lastMessagesRoom(
+                Map.of(
+                    "unreadFeedback",
+                    new RoomsLastMessageDTO(),
+                    "readFeedback",
+                    new RoomsLastMessageDTO()))
+            .build();
+
+    sessionLastMessageService.backfillFeedbackOfConsultant(consultant, rocketChatRoomInformation);
+
+    var captor = ArgumentCaptor.forClass(SessionLastMessage.class);
+    verify(sessionLastMessageRepository, times(2)).save(captor.capture());
+    var readStates =
+        captor.getAllValues().stream()
+            .collect(
+                Collectors.toMap(
+                    SessionLastMessage::getRcGroupId, SessionLastMessage::isReadByConsultant));
+    assertEquals(Map.of("unreadFeedback", false, "readFeedback", true), readStates);
+    captor
+        .getAllValues()
+        .forEach(lastMessage -> assertEquals(GroupType.FEEDBACK, lastMessage.getType()));
+  }
+
+  @Test
+  void backfillFeedbackOfConsultant_Should_keepProjection_When_itIsCreatedConcurrently() {
+    var consultant = new Consultant();
+    var session = Session.builder().id(1L).feedbackGroupId("feedback").build();
+    when(sessionRepository.findWithoutFeedbackLastMessageByConsultantAndStatusIn(
+            consultant, List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE)))
+        .thenReturn(List.of(session));
+    when(sessionLastMessageRepository.existsById("feedback")).thenReturn(true);
+
+    sessionLastMessageService.backfillFeedbackOfConsultant(
+        consultant,
+        RocketChatRoomInformation.builder()
+            .lastMessagesRoom(Map.of("feedback", new RoomsLastMessageDTO()))
+            .build());
+
+    verify(sessionLastMessageRepository, never()).save(any());
+  }
+
+  @Test
+  void backfillFeedbackOfConsultant_Should_doNothing_When_projectionIsDisabled() {
+    ReflectionTestUtils.setField(sessionLastMessageService, "projectionEnabled", false);
+
+    sessionLastMessageService.backfillFeedbackOfConsultant(
+        new Consultant(), RocketChatRoomInformation.builder().build());
+
+    verifyNoInteractions(sessionLastMessageRepository, sessionRepository);
+  }
+
+  private SessionLastMessage captureSavedLastMessage() {
+    var captor = ArgumentCaptor.forClass(SessionLastMessage.class);
+    verify(sessionLastMessageRepository).save(captor.capture());
+    return captor.getValue();
+  }
+}
@@ -76,6 +76,7 @@ import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.user.UserService;
 import de.caritas.cob.userservice.api.testHelper.TestConstants;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.ExtendedConsultingTypeResponseDTO;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -89,11 +90,15 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -292,6 +297,21 @@ class SessionServiceTest {
     assertEquals(expectedSession, SESSION);
   }
 
+  @Test
+  void initializeSession_Should_InitializeLastMessageDateWithCreateDate() {
+    when(sessionRepository.save(any())).thenReturn(SESSION);
+    when(consultingTypeManager.getConsultingTypeSettings(any()))
+        .thenReturn(CONSULTING_TYPE_SETTINGS_SUCHT);
+
+    sessionService.initializeSession(USER, USER_DTO, IS_TEAM_SESSION);
+
+    var sessionCaptor = ArgumentCaptor.forClass(Session.class);
+    verify(sessionRepository).save(sessionCaptor.capture());
+    assertNotNull(sessionCaptor.getValue().getLastMessageDate());
+    assertEquals(
+        sessionCaptor.getValue().getCreateDate(), sessionCaptor.getValue().getLastMessageDate());
+  }
+
   @Test
   void initializeSession_TeamSession_Should_ReturnSession() {
     when(sessionRepository.save(any())).thenReturn(SESSION);
@@ -401,6 +421,61 @@ class SessionServiceTest {
     verify(sessionRepository, never()).findByConsultantAndStatus(any(), eq(SessionStatus.NEW));
   }
 
+  @Test
+  void
+      countActiveAndDoneSessionsWithLastMessageSince_Should_CountSessionsOfAllDatesWithOneQuery() {
+    var oldestDate = LocalDateTime.of(2022, 1, 1, 8, 0);
+    var newestDate = LocalDateTime.of(2022, 1, 1, 10, 0);
+    when(sessionRepository.findLastMessageDatesByConsultantAndStatusInSince(
+            CONSULTANT, List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE), oldestDate))
+        .thenReturn(
+            List.of(
+                oldestDate,
+                LocalDateTime.of(2022, 1, 1, 9, 0),
+                newestDate,
+                LocalDateTime.of(2022, 1, 1, 11, 0)));
+
+    var result =
+        sessionService.countActiveAndDoneSessionsWithLastMessageSince(
+            CONSULTANT, List.of(newestDate, oldestDate));
+
+    assertEquals(List.of(2L, 4L), result);
+    verify(sessionRepository, times(1))
+        .findLastMessageDatesByConsultantAndStatusInSince(any(), any(), any());
+  }
+
+  @Test
+  void
+      getActiveAndDoneSessionsForConsultant_Should_QueryRequestedPageOrderedByLastMessageDateDesc() {
+    var page = new PageImpl<>(SESSION_LIST_WITH_CONSULTANT);
+    when(sessionRepository.findByConsultantAndStatusIn(any(), any(), any(Pageable.class)))
+        .thenReturn(page);
+
+    var result = sessionService.getActiveAndDoneSessionsForConsultant(CONSULTANT, 15L, 10);
+
+    assertEquals(page, result);
+    var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+    verify(sessionRepository)
+        .findByConsultantAndStatusIn(
+            eq(CONSULTANT),
+            eq(List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE)),
+            pageableCaptor.capture());
+    assertEquals(15L, pageableCaptor.getValue().getOffset());
+    assertEquals(10, pageableCaptor.getValue().getPageSize());
+    assertEquals(
+        Direction.DESC,
+        pageableCaptor.getValue().getSort().getOrderFor("lastMessageDate").getDirection());
+  }
+
+  @Test
+  void updateLastMessageDate_Should_UpdateLastMessageDateOfSessionWithGroupId() {
+    var lastMessageDate = nowInUtc();
+
+    sessionService.updateLastMessageDate(RC_GROUP_ID, lastMessageDate);
+
+    verify(sessionRepository).updateLastMessageDateByGroupId(RC_GROUP_ID, lastMessageDate);
+  }
+
   @Test
   void getSessionByGroupIdAndUser_Should_ReturnSession_WhenAskerIsSessionOwner() {
     Session session = easyRandom.nextObject(Session.class);
@@ -7,6 +7,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionTopicDTO;
 import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.List;
 import java.util.Map;
 import org.assertj.core.util.Maps;
 import org.junit.jupiter.api.Test;
@@ -81,6 +82,37 @@ class SessionTopicEnrichmentServiceTest {
     assertThat(session.getTopic().getId()).isNull();
   }
 
+  @Test
+  void enrichSessionsWithTopicData_Should_ResolveAvailableTopicsOnceForAllSessions() {
+    // given
+    givenAllTopicsMap();
+    var firstSession = new SessionDTO().topic(new SessionTopicDTO().id(1L));
+    var secondSession = new SessionDTO().topic(new SessionTopicDTO().id(2L));
+    var sessionWithoutTopic = new SessionDTO().topic(null);
+
+    // when
+    sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+        List.of(firstSession, secondSession, sessionWithoutTopic));
+
+    // then
+    Mockito.verify(topicService).getAllTopicsMap();
+    assertThat(firstSession.getTopic().getName()).isEqualTo("first topic");
+    assertThat(secondSession.getTopic().getName()).isEqualTo("second topic");
+    assertThat(sessionWithoutTopic.getTopic()).isNull();
+  }
+
+  @Test
+  void enrichSessionsWithTopicData_Should_NotResolveTopics_When_NoSessionHasATopicId() {
+    // given
+    var session = new SessionDTO().topic(new SessionTopicDTO());
+
+    // when
+    sessionTopicEnrichmentService.enrichSessionsWithTopicData(List.of(session));
+
+    // then
+    Mockito.verifyNoInteractions(topicService);
+  }
+
   private void givenAllTopicsMap() {
     Map<Long, TopicDTO> availableTopicsMap =
         Maps.newHashMap(1L, new TopicDTO().id(1L).name("first topic").description("first desc"));
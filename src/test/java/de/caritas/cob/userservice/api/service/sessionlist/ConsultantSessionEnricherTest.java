@@ -36,6 +36,7 @@ import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
@@ -148,7 +149,7 @@ class ConsultantSessionEnricherTest {
 
     assertFalse(result.getSession().getMessagesRead());
     verify(sessionTopicEnrichmentService)
-        .enrichSessionWithTopicData(CONSULTANT_SESSION_RESPONSE_DTO.getSession());
+        .enrichSessionsWithTopicData(List.of(CONSULTANT_SESSION_RESPONSE_DTO.getSession()));
   }
 
   @Test
@@ -16,19 +16,36 @@ import static java.util.Objects.nonNull;
 import static org.jsoup.helper.Validate.fail;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
+import de.caritas.cob.userservice.api.container.OffsetPageRequest;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.facade.sessionlist.SessionListEnrichmentExecutor;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.RegistrationType;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.service.ChatService;
 import de.caritas.cob.userservice.api.service.session.SessionFilter;
+import de.caritas.cob.userservice.api.service.session.SessionLastMessageService;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +53,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 class ConsultantSessionListServiceTest {
@@ -45,6 +64,9 @@ class ConsultantSessionListServiceTest {
   @Mock private ChatService chatService;
   @Mock private ConsultantSessionEnricher consultantSessionEnricher;
   @Mock private ConsultantChatEnricher consultantChatEnricher;
+  @Mock private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
+  @Mock private SessionListEnrichmentExecutor sessionListEnrichmentExecutor;
+  @Mock private SessionLastMessageService sessionLastMessageService;
   @Mock private RocketChatCredentials rocketChatCredentials;
 
   @BeforeEach
@@ -184,6 +206,228 @@ class ConsultantSessionListServiceTest {
     assertEquals(0, result.size());
   }
 
+  @Test
+  void
+      retrieveSessionsForAuthenticatedConsultant_Should_EnrichSessionsAndChatsWithOneRoomInformation_When_ParallelModeEnabled() {
+    var roomInformation = RocketChatRoomInformation.builder().build();
+    var roomInformationFuture = CompletableFuture.completedFuture(roomInformation);
+    var chats = List.of(CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE);
+    when(sessionListEnrichmentExecutor.isParallel()).thenReturn(true);
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(any()))
+        .thenReturn(roomInformationFuture);
+    when(sessionListEnrichmentExecutor.await(any(), eq(roomInformationFuture)))
+        .thenReturn(roomInformation);
+    when(sessionService.getActiveAndDoneSessionsForConsultant(CONSULTANT))
+        .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
+    when(chatService.getChatsForConsultant(CONSULTANT)).thenReturn(chats);
+    when(consultantSessionEnricher.enrichWithRocketChatRoomInformation(
+            CONSULTANT_SESSION_RESPONSE_DTO_LIST, roomInformation, CONSULTANT))
+        .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
+    when(consultantChatEnricher.enrichWithRocketChatRoomInformation(
+            chats, roomInformation, CONSULTANT))
+        .thenReturn(chats);
+
+    var result =
+        consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(
+            CONSULTANT, createStandardSessionListQueryParameterObject(SESSION_STATUS_IN_PROGRESS));
+
+    assertEquals(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size() + chats.size(), result.size());
+    verify(rocketChatRoomInformationProvider, never()).retrieveRocketChatInformation(any());
+  }
+
+  @Test
+  void
+      retrieveSessionPageForAuthenticatedConsultant_Should_ReturnRequestedPageOfSessionsAndChatsOrderedByLastMessage() {
+    var newestSession = buildSession(1L, LocalDateTime.of(2022, 1, 1, 10, 0));
+    var olderSession = buildSession(2L, LocalDateTime.of(2022, 1, 1, 8, 0));
+    var oldestSession = buildSession(3L, LocalDateTime.of(2022, 1, 1, 6, 0));
+    var chatDate = LocalDateTime.of(2022, 1, 1, 9, 0);
+    var chat =
+        new ConsultantSessionResponseDTO()
+            .chat(new UserChatDTO().id(1L))
+            .latestMessage(Date.from(chatDate.toInstant(ZoneOffset.UTC)));
+    when(chatService.getChatsForConsultant(CONSULTANT)).thenReturn(List.of(chat));
+    when(sessionService.getActiveAndDoneSessionsForConsultant(CONSULTANT, 0L, 3))
+        .thenReturn(
+            new PageImpl<>(
+                List.of(newestSession, olderSession, oldestSession),
+                OffsetPageRequest.of(0, 3, Sort.unsorted()),
+                3));
+    when(sessionService.countActiveAndDoneSessionsWithLastMessageSince(
+            CONSULTANT, List.of(chatDate)))
+        .thenReturn(List.of(1L));
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(any()))
+        .thenReturn(RocketChatRoomInformation.builder().build());
+    when(consultantSessionEnricher.enrichWithRocketChatRoomInformation(any(), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(consultantChatEnricher.enrichWithRocketChatRoomInformation(any(), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    var result =
+        consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT,
+            SessionListQueryParameter.builder()
+                .sessionStatus(SESSION_STATUS_IN_PROGRESS)
+                .offset(1)
+                .count(2)
+                .sessionFilter(SessionFilter.ALL)
+                .build());
+
+    assertEquals(4, result.getTotal());
+    assertEquals(2, result.getCount());
+    assertSame(chat, result.getSessions().get(0));
+    assertEquals(olderSession.getId(), result.getSessions().get(1).getSession().getId());
+  }
+
+  @Test
+  void
+      retrieveSessionPageForAuthenticatedConsultant_Should_ReturnEnquiryPageWithTotalOfAllEnquiries() {
+    var enquiry = buildSession(1L, null);
+    when(sessionService.getRegisteredEnquiriesForConsultant(CONSULTANT, 0L, COUNT_10))
+        .thenReturn(
+            new PageImpl<>(
+                List.of(enquiry), OffsetPageRequest.of(0, COUNT_10, Sort.unsorted()), 25));
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(any()))
+        .thenReturn(RocketChatRoomInformation.builder().build());
+    when(consultantSessionEnricher.enrichWithRocketChatRoomInformation(any(), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    var result =
+        consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT, createStandardSessionListQueryParameterObject(SESSION_STATUS_NEW));
+
+    assertEquals(25, result.getTotal());
+    assertEquals(1, result.getSessions().size());
+    verify(chatService, never()).getChatsForConsultant(any());
+  }
+
+  @Test
+  void
+      retrieveSessionPageForAuthenticatedConsultant_Should_ReturnSessionsWithUnreadFeedbackFromDatabase_When_FeedbackFilterIsSet() {
+    var readMessages = Map.of("feedbackGroupId", true);
+    var roomInformation = RocketChatRoomInformation.builder().readMessages(readMessages).build();
+    var session = buildSession(1L, LocalDateTime.of(2022, 1, 1, 10, 0));
+    when(sessionLastMessageService.isEnabled()).thenReturn(true);
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(any()))
+        .thenReturn(roomInformation);
+    when(sessionService.getActiveAndDoneSessionsWithUnreadFeedbackForConsultant(
+            CONSULTANT, 0L, COUNT_10))
+        .thenReturn(
+            new PageImpl<>(
+                List.of(session), OffsetPageRequest.of(0, COUNT_10, Sort.unsorted()), 1));
+    when(consultantSessionEnricher.enrichWithRocketChatRoomInformation(any(), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    var result =
+        consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT,
+            SessionListQueryParameter.builder()
+                .sessionStatus(SESSION_STATUS_IN_PROGRESS)
+                .offset(OFFSET_0)
+                .count(COUNT_10)
+                .sessionFilter(SessionFilter.FEEDBACK)
+                .build());
+
+    assertEquals(1, result.getTotal());
+    assertEquals(session.getId(), result.getSessions().get(0).getSession().getId());
+    verify(sessionLastMessageService).synchronizeReadStateOfConsultant(CONSULTANT, readMessages);
+    verify(sessionLastMessageService).backfillFeedbackOfConsultant(CONSULTANT, roomInformation);
+    verify(chatService, never()).getChatsForConsultant(any());
+  }
+
+  @Test
+  void
+      retrieveSessionPageForAuthenticatedConsultant_Should_FilterAllSessionsByLastMessageDate_When_FeedbackFilterIsSetWithoutProjection() {
+    var unreadSession = buildSession(1L, LocalDateTime.of(2022, 1, 1, 10, 0));
+    var readSession = buildSession(2L, LocalDateTime.of(2022, 1, 1, 9, 0));
+    var olderUnreadSession = buildSession(3L, LocalDateTime.of(2022, 1, 1, 8, 0));
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(any()))
+        .thenReturn(RocketChatRoomInformation.builder().build());
+    when(sessionService.getActiveAndDoneSessionsForConsultantByLastMessageDate(CONSULTANT))
+        .thenReturn(List.of(unreadSession, readSession, olderUnreadSession));
+    when(consultantSessionEnricher.enrichWithRocketChatRoomInformation(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              List<ConsultantSessionResponseDTO> sessions = invocation.getArgument(0);
+              sessions.forEach(
+                  session ->
+                      session.getSession().setFeedbackRead(session.getSession().getId() == 2L));
+              return sessions;
+            });
+
+    var result =
+        consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT,
+            SessionListQueryParameter.builder()
+                .sessionStatus(SESSION_STATUS_IN_PROGRESS)
+                .offset(1)
+                .count(COUNT_10)
+                .sessionFilter(SessionFilter.FEEDBACK)
+                .build());
+
+    assertEquals(2, result.getTotal());
+    assertEquals(1, result.getCount());
+    assertEquals(olderUnreadSession.getId(), result.getSessions().get(0).getSession().getId());
+    verify(sessionService, never())
+        .getActiveAndDoneSessionsWithUnreadFeedbackForConsultant(any(), anyLong(), anyInt());
+  }
+
+  @Test
+  void retrieveSessionPageForAuthenticatedConsultant_Should_EnrichSessionsWhenTheyAreRead() {
+    var enquiry = buildSession(1L, null);
+    when(sessionService.getRegisteredEnquiriesForConsultant(CONSULTANT, 0L, COUNT_10))
+        .thenReturn(
+            new PageImpl<>(
+                List.of(enquiry), OffsetPageRequest.of(0, COUNT_10, Sort.unsorted()), 1));
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(any()))
+        .thenReturn(RocketChatRoomInformation.builder().build());
+
+    var result =
+        consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT, createStandardSessionListQueryParameterObject(SESSION_STATUS_NEW));
+
+    assertEquals(1, result.getCount());
+    verify(rocketChatRoomInformationProvider, never()).retrieveRocketChatInformation(any());
+    verify(consultantSessionEnricher, never())
+        .enrichWithRocketChatRoomInformation(any(), any(), any());
+    result.getSessions();
+    verify(rocketChatRoomInformationProvider).retrieveRocketChatInformation(any());
+    verify(consultantSessionEnricher).enrichWithRocketChatRoomInformation(any(), any(), any());
+  }
+
+  @Test
+  void
+      retrieveSessionPageForAuthenticatedConsultant_ShouldNot_RequestRocketChat_When_PageIsEmpty() {
+    when(chatService.getChatsForConsultant(CONSULTANT)).thenReturn(List.of());
+    when(sessionService.getActiveAndDoneSessionsForConsultant(CONSULTANT, 0L, COUNT_10))
+        .thenReturn(
+            new PageImpl<>(List.of(), OffsetPageRequest.of(0, COUNT_10, Sort.unsorted()), 0));
+
+    var result =
+        consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(
+            CONSULTANT, createStandardSessionListQueryParameterObject(SESSION_STATUS_IN_PROGRESS));
+
+    assertTrue(result.getSessions().isEmpty());
+    verify(rocketChatRoomInformationProvider, never()).retrieveRocketChatInformation(any());
+    verify(sessionLastMessageService, never()).synchronizeReadStateOfConsultant(any(), any());
+  }
+
+  private Session buildSession(Long id, LocalDateTime lastMessageDate) {
+    return Session.builder()
+        .id(id)
+        .status(SessionStatus.IN_PROGRESS)
+        .languageCode(LanguageCode.de)
+        .registrationType(RegistrationType.REGISTERED)
+        .lastMessageDate(lastMessageDate)
+        .build();
+  }
+
   private SessionListQueryParameter createStandardSessionListQueryParameterObject(
       int sessionStatus) {
     return SessionListQueryParameter.builder()
@@ -5,6 +5,7 @@ import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatClient;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsProvider;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatMapper;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatPresenceCache;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
@@ -38,7 +39,8 @@ public class RocketChatTestConfig {
       RocketChatClient rocketChatClient,
       MongoClient mongoClient,
       RocketChatMapper rocketChatMapper,
-      RocketChatCredentials rocketChatCredentials) {
+      RocketChatCredentials rocketChatCredentials,
+      RocketChatPresenceCache rocketChatPresenceCache) {
     return new RocketChatService(
         restTemplate,
         rocketChatCredentialsProvider,
@@ -46,7 +48,8 @@ public class RocketChatTestConfig {
         mongoClient,
         rocketChatConfig,
         rocketChatMapper,
-        rocketChatCredentials) {
+        rocketChatCredentials,
+        rocketChatPresenceCache) {
       @Override
       public ResponseEntity<LoginResponseDTO> loginUserFirstTime(String username, String password) {
         var loginResponseDTO = new LoginResponseDTO();
@@ -4,7 +4,13 @@ import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc
 import static de.caritas.cob.userservice.api.service.emailsupplier.EmailSupplier.TEMPLATE_DAILY_ENQUIRY_NOTIFICATION;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -15,7 +21,7 @@ import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.ConsultantAgency;
-import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.AgencyEnquiryCount;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.service.ConsultantAgencyService;
@@ -26,7 +32,6 @@ import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.TemplateDataDTO;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -62,28 +67,18 @@ class EnquiryNotificationServiceTest {
   @Test
   void
       sendEmailNotificationsForOpenEnquiries_Should_sendExpectedMailsToConsultantsOfAgency_When_agencyHasOpenEnquiries() {
-    var openEnquiries = openEnquiriesForAgency(1L, nowInUtc().minusHours(13L), 3);
-    openEnquiries.addAll(openEnquiriesForAgency(2L, nowInUtc().minusHours(13L), 2));
-    openEnquiries.addAll(openEnquiriesForAgency(3L, nowInUtc().minusHours(13L), 1));
-    openEnquiries.addAll(openEnquiriesForAgency(4L, nowInUtc().minusHours(11L), 5));
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
-    when(consultantAgencyService.findConsultantsByAgencyId(1L))
+    givenOpenEnquiries(openEnquiries(1L, 3L), openEnquiries(2L, 2L), openEnquiries(3L, 1L));
+    when(consultantAgencyService.getConsultantsOfAgencies(asList(1L, 2L, 3L)))
         .thenReturn(
             List.of(
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant1", "firstname1 lastname1"),
+                    1L, "consultant1", "firstname1 lastname1"),
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant2", "firstname2 lastname2")));
-    when(consultantAgencyService.findConsultantsByAgencyId(2L))
-        .thenReturn(
-            List.of(
+                    1L, "consultant2", "firstname2 lastname2"),
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant3", "firstname3 lastname3")));
-    when(consultantAgencyService.findConsultantsByAgencyId(3L))
-        .thenReturn(
-            List.of(
+                    2L, "consultant3", "firstname3 lastname3"),
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant4", "firstname4 lastname4")));
+                    3L, "consultant4", "firstname4 lastname4")));
     var agencies =
         asList(
             createAgency(1L, "Blue Agency"),
@@ -100,7 +95,7 @@ class EnquiryNotificationServiceTest {
             buildExpectedMail("consultant3", "firstname3 lastname3", "Red Agency", 2L),
             buildExpectedMail("consultant4", "firstname4 lastname4", "Yellow Agency", 1L));
     var argumentCaptor = ArgumentCaptor.forClass(MailsDTO.class);
-    verify(mailService, times(3)).sendEmailNotification(argumentCaptor.capture());
+    verify(mailService, times(1)).sendEmailNotification(argumentCaptor.capture());
     var resultMailsDTO =
         argumentCaptor.getAllValues().stream()
             .map(MailsDTO::getMails)
@@ -110,14 +105,19 @@ class EnquiryNotificationServiceTest {
   }
 
   @Test
-  void
-      sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_agencyHasOpenEnquiriesYoungerThanCheckTime() {
-    var openEnquiries = openEnquiriesForAgency(1L, nowInUtc().minusHours(11L), 3);
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
+  void sendEmailNotificationsForOpenEnquiries_Should_countOnlyEnquiriesOlderThanCheckTime() {
+    var before = nowInUtc().minusHours(12L);
 
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
-    verifyNoInteractions(mailService);
+    var dateCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(sessionRepository)
+        .countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            eq(SessionStatus.NEW), dateCaptor.capture());
+    assertThat(
+        dateCaptor.getValue(),
+        is(both(greaterThanOrEqualTo(before)).and(lessThanOrEqualTo(nowInUtc().minusHours(12L)))));
+    verifyNoInteractions(mailService, agencyService, consultantAgencyService);
   }
 
   @Test
@@ -130,11 +130,7 @@ class EnquiryNotificationServiceTest {
   @Test
   void
       sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_agenciesWithOpenEnquiriesHaveNoConsultants() {
-    var openEnquiries = openEnquiriesForAgency(1L, nowInUtc().minusHours(13L), 3);
-    openEnquiries.addAll(openEnquiriesForAgency(1L, nowInUtc().minusHours(13L), 2));
-    openEnquiries.addAll(openEnquiriesForAgency(2L, nowInUtc().minusHours(13L), 1));
-    openEnquiries.addAll(openEnquiriesForAgency(3L, nowInUtc().minusHours(11L), 5));
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
+    givenOpenEnquiries(openEnquiries(1L, 5L), openEnquiries(2L, 1L));
 
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
@@ -144,48 +140,45 @@ class EnquiryNotificationServiceTest {
   @Test
   void
       sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_agenciesWithOpenEnquiriesAreNotToBeNotified() {
-    var openEnquiries = openEnquiriesForAgency(2L, nowInUtc().minusHours(13L), 1);
-    when(consultantAgencyService.findConsultantsByAgencyId(2L))
+    givenOpenEnquiries(openEnquiries(2L, 1L));
+    when(consultantAgencyService.getConsultantsOfAgencies(List.of(2L)))
         .thenReturn(
             List.of(
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant3", "firstname3 lastname3", false)));
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
+                    2L, "consultant3", "firstname3 lastname3", false)));
 
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
     verifyNoInteractions(mailService);
   }
 
-  @Test
-  void sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_enquiryDateDoesNotExist() {
-    var openEnquiries = openEnquiriesForAgency(1L, null, 3);
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
-
-    enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
-
-    verifyNoInteractions(mailService);
+  private void givenOpenEnquiries(AgencyEnquiryCount... openEnquiries) {
+    when(sessionRepository.countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            eq(SessionStatus.NEW), any()))
+        .thenReturn(asList(openEnquiries));
   }
 
-  private List<Session> openEnquiriesForAgency(
-      Long agencyId, LocalDateTime enquiryDate, int amount) {
-    var enquiries = new ArrayList<Session>();
-    for (int i = 0; i < amount; i++) {
-      var session = new Session();
-      session.setAgencyId(agencyId);
-      session.setEnquiryMessageDate(enquiryDate);
-      enquiries.add(session);
-    }
-    return enquiries;
+  private AgencyEnquiryCount openEnquiries(Long agencyId, Long amount) {
+    return new AgencyEnquiryCount() {
+      @Override
+      public Long getAgencyId() {
+        return agencyId;
+      }
+
+      @Override
+      public Long getOpenEnquiries() {
+        return amount;
+      }
+    };
   }
 
   private ConsultantAgency createConsultantAgencyWithConsultantsMailAddress(
-      String mail, String fullName) {
-    return createConsultantAgencyWithConsultantsMailAddress(mail, fullName, true);
+      Long agencyId, String mail, String fullName) {
+    return createConsultantAgencyWithConsultantsMailAddress(agencyId, mail, fullName, true);
   }
 
   private ConsultantAgency createConsultantAgencyWithConsultantsMailAddress(
-      String mail, String fullName, boolean notifyEnqRep) {
+      Long agencyId, String mail, String fullName, boolean notifyEnqRep) {
     var consultant = new Consultant();
     String[] firstNameLastName = fullName.split(" ");
     consultant.setFirstName(firstNameLastName[0]);
@@ -195,6 +188,7 @@ class EnquiryNotificationServiceTest {
     consultant.setNotifyEnquiriesRepeating(notifyEnqRep);
     var consultantAgency = new ConsultantAgency();
     consultantAgency.setConsultant(consultant);
+    consultantAgency.setAgencyId(agencyId);
 
     return consultantAgency;
   }